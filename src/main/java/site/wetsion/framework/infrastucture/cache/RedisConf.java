@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.ToString;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author 霜华
@@ -14,6 +15,21 @@ import java.util.List;
 public class RedisConf {
 
     private String type = "pool";
+
+    /**
+     * 分片模式(type=shared)下每个分片在一致性哈希环上的虚拟节点数
+     */
+    private int shardVirtualNodes = 160;
+
+    /**
+     * 集群模式(type=cluster)下单个命令遇到重定向或连接失败时的最大尝试次数
+     */
+    private int clusterMaxAttempts = 5;
+
+    /**
+     * 集群模式下后台刷新槽位拓扑的间隔,单位秒,不大于0时只在遇到MOVED时刷新
+     */
+    private long clusterRefreshSeconds = 30;
     /**
      * 绑定主机地址
      */
@@ -58,10 +74,291 @@ public class RedisConf {
     private String password;
 
     private Boolean testOnBorrow = true;
+
+    /**
+     * 是否由后台空闲驱逐线程校验空闲连接,开启后可关闭testOnBorrow省去每次借连接的PING
+     */
+    private Boolean testWhileIdle = true;
+
+    /**
+     * 后台空闲校验与驱逐的执行间隔,单位毫秒
+     */
+    private long timeBetweenEvictionRunsMillis = 30000;
+
+    /**
+     * 空闲超过该时间的连接被驱逐,单位毫秒
+     */
+    private long minEvictableIdleTimeMillis = 60000;
+
+    /**
+     * 只校验空闲时间超过该值的连接,对借出和后台校验都生效,单位毫秒,不大于0时总是校验
+     */
+    private long validationIdleThresholdMillis = 0;
     /**
      * 获取从连接池获取链接等待时间,单位毫秒
      */
     private long maxWaitMillis = 10000;
 
+    /**
+     * 哨兵模式下只读命令的读取来源: master 或 replica,replica 时从哨兵发现从节点并为每个从节点建立连接池
+     */
+    private String readFrom = "master";
+
+    /**
+     * 从节点选择策略: round_robin 或 least_latency
+     */
+    private String readStrategy = "round_robin";
+
+    /**
+     * 从节点列表定期刷新间隔,单位秒
+     */
+    private long replicaRefreshSeconds = 30;
+
+    /**
+     * 是否开启自动批量(隐式pipeline),开启后多线程并发的单key命令合并为一个Pipeline发送,集群模式下不生效
+     */
+    private Boolean autoBatch = false;
+
+    /**
+     * 自动批量合并窗口,单位微秒
+     */
+    private long autoBatchWindowMicros = 100;
+
+    /**
+     * 自动批量单个批次最多合并的命令数
+     */
+    private int autoBatchMaxSize = 128;
+
+    /**
+     * 调用方等待所在批次结果的最长时间,单位毫秒,超时抛出连接异常
+     */
+    private long autoBatchTimeoutMillis = 15000;
+
+    /**
+     * 异步客户端线程数,即异步调用最多同时占用的连接数
+     */
+    private int asyncPoolSize = 8;
+
+    /**
+     * 异步客户端等待队列长度,队列满时直接失败
+     */
+    private int asyncQueueSize = 1024;
+
+    /**
+     * 订阅管理器中每个处理器的派发队列长度,队列满时丢弃消息
+     */
+    private int pubSubQueueSize = 1024;
+
+    /**
+     * 阻塞命令(blpop/brpop/brpoplpush)专用连接池的最大连接数,为0时阻塞命令与普通命令共用连接池,集群模式下不生效
+     */
+    private int blockingMaxActive = 8;
+
+    /**
+     * 乐观事务被中止时的最多尝试次数
+     */
+    private int transactionMaxAttempts = 10;
+
+    /**
+     * 乐观事务首次重试的退避上限,单位毫秒,之后每次翻倍
+     */
+    private long transactionBackoffMillis = 5;
+
+    /**
+     * 乐观事务重试退避的最大值,单位毫秒
+     */
+    private long transactionMaxBackoffMillis = 200;
+
+    /**
+     * 批量命令单块最多命令数,达到后自动发送
+     */
+    private int batchMaxCommands = 1000;
+
+    /**
+     * 批量命令单块最多字节数,达到后自动发送
+     */
+    private long batchMaxBytes = 4 * 1024 * 1024;
+
+    /**
+     * 批量命令单块目标往返耗时,单位毫秒,按实际耗时调整块大小,为0时不调整
+     */
+    private long batchTargetFlushMillis = 20;
+
+    /**
+     * 是否在 RedisUtil.get 前开启进程内近端缓存
+     */
+    private Boolean nearCacheEnabled = false;
+
+    /**
+     * 近端缓存最多条目数
+     */
+    private long nearCacheMaximumSize = 10000;
+
+    /**
+     * 近端缓存条目默认存活时间上限,单位秒
+     */
+    private long nearCacheTtlSeconds = 60;
+
+    /**
+     * 按命名空间(key 中第一个':'之前的部分)配置的近端缓存存活时间上限,单位秒
+     */
+    private Map<String, Long> nearCacheNamespaceTtlSeconds;
+
+    /**
+     * 近端缓存跨节点失效频道,默认为空,即不做跨节点失效。配置后所有写入这些key的节点都须配置同一频道,
+     * 包括只写入、未开启近端缓存的节点,否则其写入不会使其他节点的近端缓存失效
+     */
+    private String nearCacheInvalidationChannel;
+
+    /**
+     * 失效消息攒批等待时间,单位毫秒
+     */
+    private long nearCacheInvalidationBatchMillis = 5;
+
+    /**
+     * 单条失效消息最多携带的key数
+     */
+    private int nearCacheInvalidationBatchMaxKeys = 256;
+
+    /**
+     * 热key探测采样率,每N次命令采样一次,为0时不开启
+     */
+    private int hotKeySampleRate = 0;
+
+    /**
+     * 上报的热key个数
+     */
+    private int hotKeyTopK = 20;
+
+    /**
+     * 热key统计窗口,单位秒
+     */
+    private long hotKeyWindowSeconds = 60;
+
+    /**
+     * 是否按key前缀(第一个':'之前的部分)聚合热key
+     */
+    private Boolean hotKeyByPrefix = false;
+
+    /**
+     * 是否统计序列化后value大小
+     */
+    private Boolean valueSizeMonitorEnabled = false;
+
+    /**
+     * 分别统计value大小的key前缀,未匹配的key归入other
+     */
+    private List<String> valueSizePrefixes;
+
+    /**
+     * 大value阈值,单位字节
+     */
+    private long bigValueThresholdBytes = 1024 * 1024;
+
+    /**
+     * 每N个大value打印一次调用方堆栈,为0时不打印
+     */
+    private int bigValueStackSampleRate = 10;
+
+    /**
+     * 是否按命令统计借连接耗时和网络耗时并注册到JMX
+     */
+    private Boolean commandLatencyEnabled = false;
+
+    /**
+     * 是否采集连接池借连接等待时间、连接数和创建销毁速率并注册到JMX
+     */
+    private Boolean poolTelemetryEnabled = false;
+
+    /**
+     * 连接池遥测统计周期,单位秒
+     */
+    private long poolTelemetryIntervalSeconds = 10;
+
+    /**
+     * 统计周期内借连接等待时间p99超过该值时告警,单位毫秒,不大于0时不告警
+     */
+    private long poolWaitAlertThresholdMillis = 100;
+
+    /**
+     * 是否根据借连接等待时间和利用率自动调整连接池大小,开启后同时采集连接池遥测
+     */
+    private Boolean poolAdaptiveEnabled = false;
+
+    /**
+     * 自适应模式下maxActive的下限
+     */
+    private int poolAdaptiveMinActive = 8;
+
+    /**
+     * 自适应模式下maxActive的上限
+     */
+    private int poolAdaptiveMaxActive = 64;
+
+    /**
+     * 统计周期内借连接等待时间p99超过该值时扩容,单位毫秒
+     */
+    private long poolAdaptiveGrowWaitMillis = 20;
+
+    /**
+     * 活跃连接占比低于该值时缩容
+     */
+    private double poolAdaptiveShrinkUtilization = 0.3;
+
+    /**
+     * 是否在启动时并行建立连接并PING校验
+     */
+    private Boolean poolWarmUpEnabled = false;
+
+    /**
+     * 预热连接数,不大于0时使用minIdle,不超过连接池上限
+     */
+    private int poolWarmUpConnections = 0;
+
+    /**
+     * 预热整体超时,单位毫秒
+     */
+    private long poolWarmUpTimeoutMillis = 10000;
+
+    /**
+     * 是否按节点开启熔断,熔断期间命令直接失败,开启近端缓存时get可返回本地旧值
+     */
+    private Boolean circuitBreakerEnabled = false;
+
+    /**
+     * 统计窗口内连接失败率达到该百分比时熔断
+     */
+    private double circuitBreakerFailureRateThreshold = 50;
+
+    /**
+     * 超过该耗时的命令计为慢调用,单位毫秒,不大于0时不统计慢调用
+     */
+    private long circuitBreakerSlowCallMillis = 1000;
+
+    /**
+     * 统计窗口内慢调用率达到该百分比时熔断
+     */
+    private double circuitBreakerSlowCallRateThreshold = 80;
+
+    /**
+     * 统计窗口内命令数不足该值时不熔断
+     */
+    private int circuitBreakerMinimumCalls = 20;
+
+    /**
+     * 失败率统计窗口,单位秒
+     */
+    private int circuitBreakerWindowSeconds = 10;
+
+    /**
+     * 熔断持续时间,之后进入半开状态,单位毫秒
+     */
+    private long circuitBreakerOpenMillis = 5000;
+
+    /**
+     * 半开状态放行的探测命令数,全部成功后恢复
+     */
+    private int circuitBreakerHalfOpenCalls = 5;
+
 
 }
@@ -2,13 +2,28 @@ package site.wetsion.framework.infrastucture.cache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 import redis.clients.jedis.JedisSentinelPool;
 import redis.clients.util.Pool;
+import site.wetsion.framework.infrastucture.cache.executor.ReplicaRouter;
+import site.wetsion.framework.infrastucture.cache.monitor.JmxSupport;
+import site.wetsion.framework.infrastucture.cache.pool.ConnectionHealth;
+import site.wetsion.framework.infrastucture.cache.pool.InstrumentedJedisPool;
+import site.wetsion.framework.infrastucture.cache.pool.InstrumentedJedisSentinelPool;
+import site.wetsion.framework.infrastucture.cache.pool.InstrumentedPool;
+import site.wetsion.framework.infrastucture.cache.pool.ManagedJedisCluster;
+import site.wetsion.framework.infrastucture.cache.pool.PoolSizeController;
+import site.wetsion.framework.infrastucture.cache.pool.PoolTelemetry;
+import site.wetsion.framework.infrastucture.cache.pool.PoolWarmer;
 
 import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -23,6 +38,40 @@ public class RedisJedisPool {
 
     private Pool pool = null;
 
+    /**
+     * 分片模式下每个分片的连接池,key 为 host:port,按配置顺序
+     */
+    private Map<String, Pool<Jedis>> shardPools = Collections.emptyMap();
+
+    /**
+     * 集群模式下的集群客户端,其他模式为 null
+     */
+    private ManagedJedisCluster jedisCluster = null;
+
+    /**
+     * 阻塞命令专用连接池,未开启时为 null
+     */
+    private Pool blockingPool = null;
+
+    /**
+     * 哨兵模式从节点读路由,未开启时为 null
+     */
+    private ReplicaRouter replicaRouter = null;
+
+    /**
+     * 连接池遥测,key 为连接池名称(客户端名,分片模式下为 客户端名-host:port),未开启时为空
+     */
+    private final Map<String, PoolTelemetry> telemetries = new LinkedHashMap<>();
+
+    /**
+     * 连接校验统计,key 同上
+     */
+    private final Map<String, ConnectionHealth> connectionHealths = new LinkedHashMap<>();
+
+    /**
+     * 连接池大小自适应,key 同上,未开启时为空
+     */
+    private final Map<String, PoolSizeController> sizeControllers = new LinkedHashMap<>();
 
     private String poolType;
 
@@ -44,15 +93,38 @@ public class RedisJedisPool {
         if ("".equals(conf.getPassword())) {
             conf.setPassword(null);
         }
-        if (pool == null) {
+        if (pool == null && jedisCluster == null) {
             log.info("init the redis the configure is {}", conf.getHost());
             if (conf.getType().equals("pool")) {
                 String hosts = conf.getHost().get(0);
                 String[] host = hosts.split(":");
-                pool = new JedisPool(getPoolConf(conf),host[0], Integer.valueOf(host[1]),conf.getTimeout(),
+                pool = new InstrumentedJedisPool(getPoolConf(conf),host[0], Integer.valueOf(host[1]),conf.getTimeout(),
                         conf.getPassword(),conf.getDbIndex(),clientName);
+                if (conf.getBlockingMaxActive() > 0) {
+                    blockingPool = new JedisPool(getBlockingPoolConf(conf), host[0], Integer.valueOf(host[1]),
+                            conf.getTimeout(), conf.getPassword(), conf.getDbIndex(), clientName);
+                }
             } else if (conf.getType().equals("shared")) {
-                throw new IllegalStateException("Redis 初始化失败！不支持该模式！");
+                Map<String, Pool<Jedis>> shards = new LinkedHashMap<>();
+                for (String hostStr : conf.getHost()) {
+                    String[] host = hostStr.split(":");
+                    shards.put(hostStr, new InstrumentedJedisPool(getPoolConf(conf), host[0],
+                            Integer.valueOf(host[1]), conf.getTimeout(), conf.getPassword(), conf.getDbIndex(),
+                            clientName));
+                }
+                shardPools = Collections.unmodifiableMap(shards);
+                //无 key 的命令使用第一个分片
+                pool = shards.values().iterator().next();
+            } else if (conf.getType().equals("cluster")) {
+                Set<HostAndPort> nodes = new LinkedHashSet<>();
+                for (String hostStr : conf.getHost()) {
+                    String[] host = hostStr.split(":");
+                    nodes.add(new HostAndPort(host[0], Integer.valueOf(host[1])));
+                }
+                //每个节点一个连接池,均使用同一份连接池配置
+                jedisCluster = new ManagedJedisCluster(nodes, conf.getTimeout(), conf.getClusterMaxAttempts(),
+                        conf.getPassword(), getPoolConf(conf), conf.getClusterRefreshSeconds());
+                JmxSupport.register(jedisCluster, "ClusterNodes", clientName);
             } else if (conf.getType().equals("master")) {
 
                 Set<String> sentinels = new LinkedHashSet<String>();
@@ -60,14 +132,77 @@ public class RedisJedisPool {
                 for (String hostStr : conf.getHost()) {
                     sentinels.add(hostStr);
                 }
-                pool = new JedisSentinelPool(conf.getMasterName(), sentinels, getPoolConf(conf),conf.getTimeout(),
-                        conf.getPassword(),conf.getDbIndex(),clientName);
+                pool = new InstrumentedJedisSentinelPool(conf.getMasterName(), sentinels, getPoolConf(conf),
+                        conf.getTimeout(), conf.getPassword(),conf.getDbIndex(),clientName);
+                if ("replica".equals(conf.getReadFrom())) {
+                    replicaRouter = new ReplicaRouter(conf.getMasterName(), sentinels, getPoolConf(conf),
+                            conf.getTimeout(), conf.getPassword(), conf.getDbIndex(), clientName,
+                            ReplicaRouter.Strategy.valueOf(conf.getReadStrategy().toUpperCase()),
+                            conf.getReplicaRefreshSeconds());
+                }
+                if (conf.getBlockingMaxActive() > 0) {
+                    blockingPool = new JedisSentinelPool(conf.getMasterName(), sentinels, getBlockingPoolConf(conf),
+                            conf.getTimeout(), conf.getPassword(), conf.getDbIndex(), clientName);
+                }
+            }
+            if (!shardPools.isEmpty()) {
+                //每个分片各自统计和调整,名称带上分片地址
+                for (Map.Entry<String, Pool<Jedis>> shard : shardPools.entrySet()) {
+                    instrument(clientName == null ? shard.getKey() : clientName + "-" + shard.getKey(),
+                            shard.getValue());
+                }
+            } else if (pool != null) {
+                instrument(clientName, pool);
             }
         }
         log.info("init finished!", conf.getHost());
         return pool;
     }
 
+    /**
+     * 为连接池安装连接校验,按配置开启遥测、自适应调整与启动预热,JMX 以 name 区分
+     */
+    @SuppressWarnings("unchecked")
+    private void instrument(String name, Pool target) {
+        if (target instanceof InstrumentedPool) {
+            InstrumentedPool instrumented = (InstrumentedPool) target;
+            ConnectionHealth health = ConnectionHealth.install(name, instrumented, getPoolConf(conf),
+                    conf.getValidationIdleThresholdMillis());
+            connectionHealths.put(name, health);
+            JmxSupport.register(health, "ConnectionHealth", name);
+            boolean adaptive = Boolean.TRUE.equals(conf.getPoolAdaptiveEnabled());
+            if (adaptive || Boolean.TRUE.equals(conf.getPoolTelemetryEnabled())) {
+                PoolTelemetry telemetry = new PoolTelemetry(name, instrumented,
+                        conf.getPoolTelemetryIntervalSeconds(), conf.getPoolWaitAlertThresholdMillis());
+                telemetries.put(name, telemetry);
+                JmxSupport.register(telemetry, "PoolTelemetry", name);
+                if (adaptive) {
+                    sizeControllers.put(name, new PoolSizeController(name, instrumented, telemetry,
+                            conf.getPoolAdaptiveMinActive(), conf.getPoolAdaptiveMaxActive(),
+                            conf.getPoolAdaptiveGrowWaitMillis(), conf.getPoolAdaptiveShrinkUtilization()));
+                }
+            }
+        }
+        if (Boolean.TRUE.equals(conf.getPoolWarmUpEnabled())) {
+            warmUp(name, target);
+        }
+    }
+
+    /**
+     * 启动预热,在连接池构建完成后同步执行,预热完成前bean不会就绪
+     */
+    @SuppressWarnings("unchecked")
+    private void warmUp(String name, Pool target) {
+        int count = conf.getPoolWarmUpConnections() > 0 ? conf.getPoolWarmUpConnections() : conf.getMinIdle();
+        // 超过maxIdle的连接归还时会被直接关闭,预热数不超过maxIdle
+        int maxIdle = target instanceof InstrumentedPool
+                ? ((InstrumentedPool) target).getInternalPool().getMaxIdle() : getPoolConf(conf).getMaxIdle();
+        if (maxIdle >= 0) {
+            count = Math.min(count, maxIdle);
+        }
+        PoolWarmer.warmUp(name, target, count, conf.getPoolWarmUpTimeoutMillis());
+    }
+
     /**
      * 构建redis连接池配置
      */
@@ -88,14 +223,31 @@ public class RedisJedisPool {
             config.setMaxWaitMillis(conf.getMaxWaitMillis());
             //在borrow一个jedis实例时，是否提前进行validate操作；如果为true，则得到的jedis实例均是可用的；
             config.setTestOnBorrow(conf.getTestOnBorrow());
+            //由空闲驱逐线程定期校验空闲连接,校验失败的连接被关闭
+            config.setTestWhileIdle(conf.getTestWhileIdle());
+            config.setTimeBetweenEvictionRunsMillis(conf.getTimeBetweenEvictionRunsMillis());
+            config.setMinEvictableIdleTimeMillis(conf.getMinEvictableIdleTimeMillis());
             //连接池内,最小空闲数,无论是否有使用,一直保持存活
             if (conf.getMinIdle() > 1){
-                config.setMaxIdle(conf.getMinIdle());
+                config.setMinIdle(conf.getMinIdle());
             }
         }
         return config;
     }
 
+    /**
+     * 阻塞命令连接池配置,连接长时间被阻塞命令占用,不保留最小空闲连接
+     */
+    private JedisPoolConfig getBlockingPoolConf(RedisConf conf) {
+        JedisPoolConfig blockingConfig = new JedisPoolConfig();
+        blockingConfig.setMaxTotal(conf.getBlockingMaxActive());
+        blockingConfig.setMaxIdle(conf.getBlockingMaxActive());
+        blockingConfig.setMinIdle(0);
+        blockingConfig.setMaxWaitMillis(conf.getMaxWaitMillis());
+        blockingConfig.setTestOnBorrow(conf.getTestOnBorrow());
+        return blockingConfig;
+    }
+
     public Pool getPool() {
         if (pool == null) {
             initPool();
@@ -107,17 +259,72 @@ public class RedisJedisPool {
     public void destroy() {
         try {
             log.info("RedisJedisPool destroy()关闭开始>>>>>>>>>>>>>>");
-            if (this.pool != null) {
+            for (Map.Entry<String, PoolTelemetry> telemetry : this.telemetries.entrySet()) {
+                telemetry.getValue().close();
+                JmxSupport.unregister("PoolTelemetry", telemetry.getKey());
+            }
+            for (String name : this.connectionHealths.keySet()) {
+                JmxSupport.unregister("ConnectionHealth", name);
+            }
+            if (this.jedisCluster != null) {
+                JmxSupport.unregister("ClusterNodes", clientName);
+                this.jedisCluster.close();
+            }
+            if (!this.shardPools.isEmpty()) {
+                this.shardPools.values().forEach(Pool::destroy);
+            } else if (this.pool != null) {
                 this.pool.destroy();
             }
+            if (this.blockingPool != null) {
+                this.blockingPool.destroy();
+            }
+            if (this.replicaRouter != null) {
+                this.replicaRouter.close();
+            }
             log.info("RedisJedisPool destroy()关闭结束>>>>>>>>>>>>>>");
         } catch (Exception e) {
             log.error("关闭redis pool时发生异常.", e);
         }
     }
 
+    public ManagedJedisCluster getJedisCluster() {
+        return jedisCluster;
+    }
+
+    public Map<String, Pool<Jedis>> getShardPools() {
+        return shardPools;
+    }
+
+    public Pool getBlockingPool() {
+        return blockingPool;
+    }
+
+    public ReplicaRouter getReplicaRouter() {
+        return replicaRouter;
+    }
+
+    public Map<String, PoolTelemetry> getTelemetries() {
+        return Collections.unmodifiableMap(telemetries);
+    }
+
+    public Map<String, ConnectionHealth> getConnectionHealths() {
+        return Collections.unmodifiableMap(connectionHealths);
+    }
+
+    public Map<String, PoolSizeController> getSizeControllers() {
+        return Collections.unmodifiableMap(sizeControllers);
+    }
+
     public String getPoolType() {
         return poolType;
     }
 
+    public String getClientName() {
+        return clientName;
+    }
+
+    public RedisConf getConf() {
+        return conf;
+    }
+
 }
@@ -7,6 +7,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.redis.core.TimeoutUtils;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import site.wetsion.framework.infrastucture.cache.util.RedisUtil;
 
 /**
@@ -23,6 +24,9 @@ public class RedisLock {
     private static final String RELEASE_SCRIPT =
             "if redis.call('get',KEYS[1]) == ARGV[1] then return redis.call('del',KEYS[1]) else return 0 end";
 
+    private static final RedisScript<String> LOCK = new DefaultRedisScript<>(LOCK_SCRIPT, String.class);
+    private static final RedisScript<String> RELEASE = new DefaultRedisScript<>(RELEASE_SCRIPT, String.class);
+
     public RedisLock(String key, long timeoutSeconds) {
         this(key, timeoutSeconds, TimeUnit.SECONDS);
     }
@@ -34,8 +38,7 @@ public class RedisLock {
 
     public boolean tryLock() {
 
-        final long value = RedisUtil.execute(new DefaultRedisScript<>(LOCK_SCRIPT, String.class),
-                Lists.newArrayList(key), "true", String.valueOf(timeout));
+        final long value = RedisUtil.execute(LOCK, Lists.newArrayList(key), "true", String.valueOf(timeout));
         return 1 == value;
     }
 
@@ -74,6 +77,6 @@ public class RedisLock {
 
     public void release() {
 
-        RedisUtil.execute(new DefaultRedisScript<>(RELEASE_SCRIPT, String.class), Lists.newArrayList(key), "true");
+        RedisUtil.execute(RELEASE, Lists.newArrayList(key), "true");
     }
 }
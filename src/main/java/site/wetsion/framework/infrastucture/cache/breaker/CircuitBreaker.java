@@ -0,0 +1,342 @@
+package site.wetsion.framework.infrastucture.cache.breaker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 单个 redis 节点的熔断器。统计窗口按秒分桶滚动，窗口内调用数达到下限后，
+ * 失败率或慢调用率超过阈值即熔断；熔断期间直接抛出 {@link CircuitBreakerOpenException}，
+ * 等待时间结束后进入半开状态，只放行有限个探测调用，全部成功则恢复，任一失败或过慢则重新熔断。
+ * 只有 {@link JedisConnectionException}（连接失败、超时、连接池耗尽）计为失败，命令本身的错误不计
+ *
+ * @author 霜华
+ * @date 2026/10/19 4:10 AM
+ **/
+public class CircuitBreaker implements CircuitBreakerMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int CALLS = 0;
+
+    private static final int FAILURES = 1;
+
+    private static final int SLOW = 2;
+
+    private final String endpoint;
+
+    private final double failureRateThreshold;
+
+    private final long slowCallNanos;
+
+    private final double slowCallRateThreshold;
+
+    private final int minimumCalls;
+
+    private final int windowSeconds;
+
+    private final long openNanos;
+
+    private final int halfOpenCalls;
+
+    /**
+     * 每秒一个桶，下标为 秒数 % windowSeconds
+     */
+    private final AtomicLongArray bucketSeconds;
+
+    private final long createdNanos = System.nanoTime();
+
+    private final AtomicLongArray bucketCounts;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder opened = new LongAdder();
+
+    private final LongAdder halfOpened = new LongAdder();
+
+    private final LongAdder closed = new LongAdder();
+
+    private volatile long openUntil;
+
+    /**
+     * @param failureRateThreshold  失败率阈值，百分比
+     * @param slowCallMillis        超过该耗时的调用计为慢调用，不大于 0 时不统计慢调用
+     * @param slowCallRateThreshold 慢调用率阈值，百分比
+     * @param minimumCalls          窗口内调用数不足时不熔断
+     * @param windowSeconds         统计窗口
+     * @param openMillis            熔断持续时间，之后进入半开状态
+     * @param halfOpenCalls         半开状态放行的探测调用数
+     */
+    public CircuitBreaker(String endpoint, double failureRateThreshold, long slowCallMillis,
+                          double slowCallRateThreshold, int minimumCalls, int windowSeconds, long openMillis,
+                          int halfOpenCalls) {
+        this.endpoint = endpoint;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowCallMillis) : Long.MAX_VALUE;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.minimumCalls = Math.max(1, minimumCalls);
+        this.windowSeconds = Math.max(1, windowSeconds);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.bucketSeconds = new AtomicLongArray(this.windowSeconds);
+        this.bucketCounts = new AtomicLongArray(this.windowSeconds * 3);
+        resetWindow();
+    }
+
+    /**
+     * 在熔断器保护下执行调用
+     *
+     * @throws CircuitBreakerOpenException 熔断中或半开状态的探测名额已用完
+     */
+    public <T> T call(Supplier<T> supplier) {
+        boolean probe = acquire();
+        long start = System.nanoTime();
+        try {
+            T result = supplier.get();
+            onComplete(probe, System.nanoTime() - start, false);
+            return result;
+        } catch (JedisConnectionException e) {
+            onComplete(probe, System.nanoTime() - start, true);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            onComplete(probe, System.nanoTime() - start, false);
+            throw e;
+        }
+    }
+
+    /**
+     * 无法包装成单个 {@link Supplier} 的调用（如同时发往多个节点的 pipeline）先取得许可，
+     * 完成后必须以返回值调用一次 {@link #record(boolean, long, Throwable)}
+     *
+     * @return 是否为半开状态下的探测调用
+     * @throws CircuitBreakerOpenException 熔断中或半开状态的探测名额已用完
+     */
+    public boolean acquirePermission() {
+        return acquire();
+    }
+
+    /**
+     * 记录通过 {@link #acquirePermission()} 放行的调用结果
+     *
+     * @param error 调用抛出的异常，成功时为 null；只有 {@link JedisConnectionException} 计为失败
+     */
+    public void record(boolean probe, long nanos, Throwable error) {
+        onComplete(probe, nanos, error instanceof JedisConnectionException);
+    }
+
+    /**
+     * 取得许可后没有发出调用时归还许可，不计入统计
+     */
+    public void release(boolean probe) {
+        if (probe) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return 是否为半开状态下的探测调用
+     */
+    private boolean acquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return false;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openUntil < 0) {
+                rejected.increment();
+                throw new CircuitBreakerOpenException(endpoint);
+            }
+            if (transition(State.OPEN, State.HALF_OPEN)) {
+                halfOpenSuccesses.set(0);
+                halfOpenPermits.set(halfOpenCalls);
+            }
+            current = state.get();
+            if (current == State.CLOSED) {
+                return false;
+            }
+        }
+        if (current == State.HALF_OPEN && halfOpenPermits.getAndDecrement() > 0) {
+            return true;
+        }
+        rejected.increment();
+        throw new CircuitBreakerOpenException(endpoint);
+    }
+
+    private void onComplete(boolean probe, long nanos, boolean failure) {
+        boolean slow = nanos > slowCallNanos;
+        if (probe) {
+            if (failure || slow) {
+                trip(State.HALF_OPEN, failure ? "probe failed"
+                        : "probe took " + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms");
+            } else if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls
+                    && transition(State.HALF_OPEN, State.CLOSED)) {
+                resetWindow();
+            }
+            return;
+        }
+        long second = currentSecond();
+        int bucket = bucket(second);
+        bucketCounts.incrementAndGet(bucket * 3 + CALLS);
+        if (failure) {
+            bucketCounts.incrementAndGet(bucket * 3 + FAILURES);
+        }
+        if (slow) {
+            bucketCounts.incrementAndGet(bucket * 3 + SLOW);
+        }
+        if ((failure || slow) && state.get() == State.CLOSED) {
+            long[] totals = totals(second);
+            if (totals[CALLS] < minimumCalls) {
+                return;
+            }
+            double failureRate = rate(totals[FAILURES], totals[CALLS]);
+            double slowRate = rate(totals[SLOW], totals[CALLS]);
+            if (failureRate >= failureRateThreshold || slowRate >= slowCallRateThreshold) {
+                trip(State.CLOSED, String.format("calls %d, failure rate %.1f%%, slow rate %.1f%%",
+                        totals[CALLS], failureRate, slowRate));
+            }
+        }
+    }
+
+    private void trip(State from, String reason) {
+        openUntil = System.nanoTime() + openNanos;
+        if (transition(from, State.OPEN)) {
+            log.warn("[CircuitBreaker] {} opened for {}ms: {}", endpoint, TimeUnit.NANOSECONDS.toMillis(openNanos),
+                    reason);
+        }
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+        switch (to) {
+            case OPEN:
+                opened.increment();
+                break;
+            case HALF_OPEN:
+                halfOpened.increment();
+                break;
+            default:
+                closed.increment();
+                break;
+        }
+        if (to != State.OPEN) {
+            log.info("[CircuitBreaker] {} {} -> {}", endpoint, from, to);
+        }
+        return true;
+    }
+
+    /**
+     * 取当前秒对应的桶，桶属于已滚出窗口的旧秒数时先清零；并发清零可能丢失少量计数，对阈值判断无影响
+     */
+    private int bucket(long second) {
+        int bucket = (int) (second % windowSeconds);
+        long owner = bucketSeconds.get(bucket);
+        if (owner != second && bucketSeconds.compareAndSet(bucket, owner, second)) {
+            bucketCounts.set(bucket * 3 + CALLS, 0);
+            bucketCounts.set(bucket * 3 + FAILURES, 0);
+            bucketCounts.set(bucket * 3 + SLOW, 0);
+        }
+        return bucket;
+    }
+
+    private long[] totals(long second) {
+        long[] totals = new long[3];
+        for (int i = 0; i < windowSeconds; i++) {
+            long owner = bucketSeconds.get(i);
+            if (owner >= 0 && second - owner < windowSeconds) {
+                totals[CALLS] += bucketCounts.get(i * 3 + CALLS);
+                totals[FAILURES] += bucketCounts.get(i * 3 + FAILURES);
+                totals[SLOW] += bucketCounts.get(i * 3 + SLOW);
+            }
+        }
+        return totals;
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < windowSeconds; i++) {
+            bucketSeconds.set(i, -1);
+            bucketCounts.set(i * 3 + CALLS, 0);
+            bucketCounts.set(i * 3 + FAILURES, 0);
+            bucketCounts.set(i * 3 + SLOW, 0);
+        }
+    }
+
+    /**
+     * 自创建起的秒数，保证非负
+     */
+    private long currentSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - createdNanos);
+    }
+
+    private static double rate(long count, long total) {
+        return total == 0 ? 0 : count * 100.0 / total;
+    }
+
+    public State currentState() {
+        return state.get();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public String getState() {
+        return state.get().name();
+    }
+
+    @Override
+    public long getWindowCalls() {
+        return totals(currentSecond())[CALLS];
+    }
+
+    @Override
+    public double getFailureRate() {
+        long[] totals = totals(currentSecond());
+        return rate(totals[FAILURES], totals[CALLS]);
+    }
+
+    @Override
+    public double getSlowCallRate() {
+        long[] totals = totals(currentSecond());
+        return rate(totals[SLOW], totals[CALLS]);
+    }
+
+    @Override
+    public long getRejectedCalls() {
+        return rejected.sum();
+    }
+
+    @Override
+    public long getOpenedCount() {
+        return opened.sum();
+    }
+
+    @Override
+    public long getHalfOpenedCount() {
+        return halfOpened.sum();
+    }
+
+    @Override
+    public long getClosedCount() {
+        return closed.sum();
+    }
+}
@@ -0,0 +1,32 @@
+package site.wetsion.framework.infrastucture.cache.breaker;
+
+/**
+ * 熔断器状态与状态切换次数，比例为 0~100，基于统计窗口内的调用
+ *
+ * @author 霜华
+ * @date 2026/10/19 4:10 AM
+ **/
+public interface CircuitBreakerMXBean {
+
+    /**
+     * CLOSED、OPEN 或 HALF_OPEN
+     */
+    String getState();
+
+    long getWindowCalls();
+
+    double getFailureRate();
+
+    double getSlowCallRate();
+
+    /**
+     * 熔断期间被拒绝的调用数
+     */
+    long getRejectedCalls();
+
+    long getOpenedCount();
+
+    long getHalfOpenedCount();
+
+    long getClosedCount();
+}
@@ -0,0 +1,25 @@
+package site.wetsion.framework.infrastucture.cache.breaker;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+/**
+ * 熔断期间直接拒绝的调用，继承 {@link JedisConnectionException}，调用方按连接失败处理即可
+ *
+ * @author 霜华
+ * @date 2026/10/19 4:10 AM
+ **/
+public class CircuitBreakerOpenException extends JedisConnectionException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String endpoint;
+
+    public CircuitBreakerOpenException(String endpoint) {
+        super("redis " + endpoint + " 熔断中，拒绝调用");
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,52 @@
+package site.wetsion.framework.infrastucture.cache.breaker;
+
+import site.wetsion.framework.infrastucture.cache.monitor.JmxSupport;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 按节点创建熔断器并注册到 JMX，同一节点共用一个熔断器
+ *
+ * @author 霜华
+ * @date 2026/10/19 4:10 AM
+ **/
+public class CircuitBreakerRegistry implements Closeable {
+
+    private final String clientName;
+
+    private final Function<String, CircuitBreaker> factory;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * @param factory 以节点名称创建熔断器
+     */
+    public CircuitBreakerRegistry(String clientName, Function<String, CircuitBreaker> factory) {
+        this.clientName = clientName;
+        this.factory = factory;
+    }
+
+    public CircuitBreaker get(String endpoint) {
+        return breakers.computeIfAbsent(endpoint, name -> {
+            CircuitBreaker breaker = factory.apply(name);
+            JmxSupport.register(breaker, "CircuitBreaker", clientName + "-" + name);
+            return breaker;
+        });
+    }
+
+    public Collection<CircuitBreaker> getAll() {
+        return breakers.values();
+    }
+
+    @Override
+    public void close() {
+        for (String endpoint : breakers.keySet()) {
+            JmxSupport.unregister("CircuitBreaker", clientName + "-" + endpoint);
+        }
+        breakers.clear();
+    }
+}
@@ -0,0 +1,14 @@
+package site.wetsion.framework.infrastucture.cache.callback;
+
+import site.wetsion.framework.infrastucture.cache.executor.TypedBatch;
+
+/**
+ * 批量命令回调，在 {@link TypedBatch} 上记录命令
+ *
+ * @author 霜华
+ * @date 2026/10/18 9:10 PM
+ **/
+public interface BatchCallback<T> extends Callback {
+
+    void callback (TypedBatch<T> batch);
+}
@@ -0,0 +1,14 @@
+package site.wetsion.framework.infrastucture.cache.callback;
+
+import redis.clients.jedis.Jedis;
+
+/**
+ * 单机/哨兵模式下的命令回调
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:20 AM
+ **/
+public interface JedisCallback<T> extends Callback {
+
+    T callback (Jedis jedis);
+}
@@ -0,0 +1,14 @@
+package site.wetsion.framework.infrastucture.cache.callback;
+
+import redis.clients.jedis.JedisCluster;
+
+/**
+ * 集群模式下的命令回调
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:20 AM
+ **/
+public interface JedisClusterCallback<T> extends Callback {
+
+    T callback (JedisCluster jedisCluster);
+}
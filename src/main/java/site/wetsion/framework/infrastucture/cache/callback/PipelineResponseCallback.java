@@ -0,0 +1,15 @@
+package site.wetsion.framework.infrastucture.cache.callback;
+
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+/**
+ * 向 Pipeline 追加一条命令并返回其 Response
+ *
+ * @author 霜华
+ * @date 2026/10/18 2:05 PM
+ **/
+public interface PipelineResponseCallback<T> extends Callback {
+
+    Response<T> callback (Pipeline pipeline);
+}
@@ -0,0 +1,17 @@
+package site.wetsion.framework.infrastucture.cache.callback;
+
+import redis.clients.jedis.Transaction;
+
+/**
+ * 乐观事务的写阶段，在 MULTI 中排队写命令
+ *
+ * @author 霜华
+ * @date 2026/10/18 8:40 PM
+ **/
+public interface TransactionWriteCallback<R> extends Callback {
+
+    /**
+     * @param read 本次尝试中读阶段的返回值
+     */
+    void callback (Transaction transaction, R read);
+}
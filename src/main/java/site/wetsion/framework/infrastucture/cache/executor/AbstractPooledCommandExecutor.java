@@ -0,0 +1,170 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreaker;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreakerRegistry;
+import site.wetsion.framework.infrastucture.cache.callback.JedisCallback;
+import site.wetsion.framework.infrastucture.cache.callback.JedisClusterCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PipelineResponseCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PiplineCallback;
+import site.wetsion.framework.infrastucture.cache.monitor.CommandLatencyMetrics;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 基于连接池的命令执行器，每次执行借出一个连接，执行完成后归还
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:24 AM
+ **/
+public abstract class AbstractPooledCommandExecutor implements JedisCommandExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractPooledCommandExecutor.class);
+
+    protected final Pool<Jedis> pool;
+
+    /**
+     * 自动批量，未开启时为 null
+     */
+    private CommandBatcher commandBatcher;
+
+    /**
+     * 按命令的耗时统计，未开启时为 null
+     */
+    protected CommandLatencyMetrics latencyMetrics;
+
+    /**
+     * 主连接池的熔断器，未开启时为 null；从节点由 {@link ReplicaRouter} 按失败情况摘除
+     */
+    private CircuitBreaker circuitBreaker;
+
+    protected AbstractPooledCommandExecutor(Pool<Jedis> pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public <T> T execute(String command, JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback) {
+        return execute(command, jedisCallback);
+    }
+
+    @Override
+    public <T> T execute(String command, JedisCallback<T> jedisCallback) {
+        return execute(pool, command, jedisCallback);
+    }
+
+    /**
+     * 从指定连接池借出连接执行命令，开启耗时统计时分别记录借连接和执行耗时
+     */
+    protected <T> T execute(Pool<Jedis> from, String command, JedisCallback<T> jedisCallback) {
+        if (circuitBreaker != null && from == pool) {
+            return circuitBreaker.call(() -> doExecute(from, command, jedisCallback));
+        }
+        return doExecute(from, command, jedisCallback);
+    }
+
+    private <T> T doExecute(Pool<Jedis> from, String command, JedisCallback<T> jedisCallback) {
+        if (latencyMetrics == null) {
+            Jedis jedis = from.getResource();
+            try {
+                return jedisCallback.callback(jedis);
+            } finally {
+                close(jedis);
+            }
+        }
+        long start = System.nanoTime();
+        Jedis jedis = from.getResource();
+        long borrowed = System.nanoTime();
+        try {
+            return jedisCallback.callback(jedis);
+        } finally {
+            close(jedis);
+            latencyMetrics.record(command, borrowed - start, System.nanoTime() - borrowed);
+        }
+    }
+
+    @Override
+    public <T> T executeBatchable(String command, JedisCallback<T> jedisCallback,
+                                  JedisClusterCallback<T> clusterCallback,
+                                  PipelineResponseCallback<T> pipelineCallback) {
+        if (commandBatcher == null) {
+            return execute(command, jedisCallback);
+        }
+        if (circuitBreaker != null) {
+            return circuitBreaker.call(() -> submit(command, pipelineCallback));
+        }
+        return submit(command, pipelineCallback);
+    }
+
+    private <T> T submit(String command, PipelineResponseCallback<T> pipelineCallback) {
+        if (latencyMetrics == null) {
+            return commandBatcher.submit(pipelineCallback);
+        }
+        long start = System.nanoTime();
+        try {
+            return commandBatcher.submit(pipelineCallback);
+        } finally {
+            latencyMetrics.record(command, -1, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void executePipeline(PiplineCallback callback) {
+        execute(jedis -> {
+            callback.callback(jedis.pipelined());
+            return null;
+        });
+    }
+
+    @Override
+    public Jedis getJedis() {
+        return pool.getResource();
+    }
+
+    /**
+     * 开启自动批量，须在执行器发布给其他线程之前调用
+     */
+    public void enableAutoBatch(int maxBatchSize, long windowMicros, long timeoutMillis) {
+        if (commandBatcher == null) {
+            commandBatcher = new CommandBatcher(pool, maxBatchSize, windowMicros, timeoutMillis);
+        }
+    }
+
+    @Override
+    public void enableLatencyMetrics(CommandLatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    @Override
+    public void enableCircuitBreaker(CircuitBreakerRegistry registry, String endpoint) {
+        this.circuitBreaker = registry.get(endpoint);
+    }
+
+    @Override
+    public void close() {
+        if (commandBatcher != null) {
+            commandBatcher.close();
+        }
+    }
+
+    @Override
+    public List<Pool<Jedis>> getMasterPools() {
+        return Collections.singletonList(pool);
+    }
+
+    public Pool<Jedis> getPool() {
+        return pool;
+    }
+
+    protected void close(Jedis jedis) {
+        //释放连接
+        try {
+            jedis.close();
+        } catch (Exception e) {
+            log.error("[{}][close]happened error!", getClass().getSimpleName(), e);
+        }
+    }
+}
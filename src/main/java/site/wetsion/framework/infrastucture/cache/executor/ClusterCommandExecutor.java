@@ -0,0 +1,275 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.util.JedisClusterCRC16;
+import redis.clients.util.Pool;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreaker;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreakerRegistry;
+import site.wetsion.framework.infrastucture.cache.callback.JedisCallback;
+import site.wetsion.framework.infrastucture.cache.callback.JedisClusterCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PipelineResponseCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PiplineCallback;
+import site.wetsion.framework.infrastucture.cache.monitor.CommandLatencyMetrics;
+import site.wetsion.framework.infrastucture.cache.pool.ManagedJedisCluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 集群模式（type=cluster）命令执行器，{@link JedisCluster} 自行管理各节点连接，无需借还。
+ * 开启熔断时每个主节点一个熔断器：{@link #forKey(String)} 返回按 key 所在槽位选择熔断器的执行器，
+ * pipeline 与跨槽位的多 key 命令按各自的目标节点熔断；无 key 的命令无法确定节点，不经过熔断
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:24 AM
+ **/
+public class ClusterCommandExecutor implements JedisCommandExecutor {
+
+    private final JedisCluster jedisCluster;
+
+    private final ClusterSlotCache slotCache;
+
+    private final ClusterMultiKeyCommands multiKeyCommands;
+
+    /**
+     * 按命令的耗时统计，未开启时为 null
+     */
+    private CommandLatencyMetrics latencyMetrics;
+
+    /**
+     * 熔断器注册表，未开启时为 null
+     */
+    private CircuitBreakerRegistry breakerRegistry;
+
+    private String breakerEndpoint;
+
+    /**
+     * 节点 host:port 到熔断器，避免每次调用拼接名称
+     */
+    private final Map<String, CircuitBreaker> nodeBreakers = new ConcurrentHashMap<>();
+
+    public ClusterCommandExecutor(JedisCluster jedisCluster) {
+        this.jedisCluster = jedisCluster;
+        this.slotCache = new ClusterSlotCache(jedisCluster);
+        this.multiKeyCommands = new ClusterMultiKeyCommands(jedisCluster, slotCache, this::nodeBreaker);
+        if (jedisCluster instanceof ManagedJedisCluster) {
+            // 槽位映射随后台拓扑刷新一起更新
+            ((ManagedJedisCluster) jedisCluster).addTopologyListener(slotCache::refresh);
+        }
+    }
+
+    @Override
+    public <T> T execute(String command, JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback) {
+        return doExecute(command, clusterCallback);
+    }
+
+    @Override
+    public JedisCommandExecutor forKey(String key) {
+        return breakerRegistry == null ? this : new SlotScopedExecutor(JedisClusterCRC16.getSlot(key));
+    }
+
+    @Override
+    public JedisCommandExecutor forKey(byte[] key) {
+        return breakerRegistry == null ? this : new SlotScopedExecutor(JedisClusterCRC16.getSlot(key));
+    }
+
+    /**
+     * 集群要求多 key 命令的 key 位于同一槽位，取第一个 key 的槽位
+     */
+    @Override
+    public JedisCommandExecutor forKeys(String... keys) {
+        return keys.length == 0 ? this : forKey(keys[0]);
+    }
+
+    @Override
+    public JedisCommandExecutor forKeys(byte[]... keys) {
+        return keys.length == 0 ? this : forKey(keys[0]);
+    }
+
+    private <T> T doExecute(String command, JedisClusterCallback<T> clusterCallback) {
+        if (latencyMetrics == null) {
+            return clusterCallback.callback(jedisCluster);
+        }
+        long start = System.nanoTime();
+        try {
+            return clusterCallback.callback(jedisCluster);
+        } finally {
+            latencyMetrics.record(command, -1, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> T execute(String command, JedisCallback<T> jedisCallback) {
+        throw new IllegalStateException("not support");
+    }
+
+    /**
+     * 在槽位所在主节点上借出一个连接执行回调，用于 WATCH/MULTI 等必须在同一连接上完成的命令
+     */
+    public <T> T executeOnSlot(String command, int slot, JedisCallback<T> jedisCallback) {
+        return callOnSlot(slot, () -> doExecuteOnSlot(command, slot, jedisCallback));
+    }
+
+    private <T> T callOnSlot(int slot, Supplier<T> call) {
+        CircuitBreaker breaker = breakerRegistry == null ? null : nodeBreaker(slotCache.getSlotNode(slot));
+        return breaker == null ? call.get() : breaker.call(call);
+    }
+
+    /**
+     * @return 节点的熔断器，未开启熔断或节点未知时为 null
+     */
+    private CircuitBreaker nodeBreaker(String node) {
+        CircuitBreakerRegistry registry = breakerRegistry;
+        if (registry == null || node == null) {
+            return null;
+        }
+        CircuitBreaker breaker = nodeBreakers.get(node);
+        if (breaker == null) {
+            breaker = nodeBreakers.computeIfAbsent(node, name -> registry.get(breakerEndpoint + "-" + name));
+        }
+        return breaker;
+    }
+
+    private <T> T doExecuteOnSlot(String command, int slot, JedisCallback<T> jedisCallback) {
+        long start = System.nanoTime();
+        Jedis jedis = slotCache.getSlotPool(slot).getResource();
+        long borrowed = System.nanoTime();
+        try {
+            return jedisCallback.callback(jedis);
+        } finally {
+            jedis.close();
+            if (latencyMetrics != null) {
+                latencyMetrics.record(command, borrowed - start, System.nanoTime() - borrowed);
+            }
+        }
+    }
+
+    @Override
+    public <T> T executeBatchable(String command, JedisCallback<T> jedisCallback,
+                                  JedisClusterCallback<T> clusterCallback,
+                                  PipelineResponseCallback<T> pipelineCallback) {
+        return execute(command, jedisCallback, clusterCallback);
+    }
+
+    @Override
+    public void enableLatencyMetrics(CommandLatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    /**
+     * 每个主节点一个熔断器，名称为 endpoint-host:port，首次访问该节点时创建
+     */
+    @Override
+    public void enableCircuitBreaker(CircuitBreakerRegistry registry, String endpoint) {
+        this.breakerEndpoint = endpoint;
+        this.breakerRegistry = registry;
+    }
+
+    @Override
+    public void executePipeline(PiplineCallback callback) {
+        ClusterSlotPipeline pipeline = new ClusterSlotPipeline(slotCache, this::nodeBreaker);
+        callback.callback(pipeline);
+        pipeline.sync();
+    }
+
+    @Override
+    public Jedis getJedis() {
+        return null;
+    }
+
+    @Override
+    public List<Pool<Jedis>> getMasterPools() {
+        return new ArrayList<>(slotCache.getMasterPools().values());
+    }
+
+    public JedisCluster getJedisCluster() {
+        return jedisCluster;
+    }
+
+    public ClusterSlotCache getSlotCache() {
+        return slotCache;
+    }
+
+    public ClusterMultiKeyCommands getMultiKeyCommands() {
+        return multiKeyCommands;
+    }
+
+    /**
+     * 单个槽位上的命令，经该槽位所在节点的熔断器执行；节点在执行时解析，拓扑变化后自动切换
+     */
+    private final class SlotScopedExecutor implements JedisCommandExecutor {
+
+        private final int slot;
+
+        SlotScopedExecutor(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public <T> T execute(String command, JedisCallback<T> jedisCallback,
+                             JedisClusterCallback<T> clusterCallback) {
+            return callOnSlot(slot, () -> doExecute(command, clusterCallback));
+        }
+
+        @Override
+        public <T> T execute(String command, JedisCallback<T> jedisCallback) {
+            throw new IllegalStateException("not support");
+        }
+
+        @Override
+        public <T> T executeBatchable(String command, JedisCallback<T> jedisCallback,
+                                      JedisClusterCallback<T> clusterCallback,
+                                      PipelineResponseCallback<T> pipelineCallback) {
+            return execute(command, jedisCallback, clusterCallback);
+        }
+
+        @Override
+        public JedisCommandExecutor forKey(String key) {
+            return ClusterCommandExecutor.this.forKey(key);
+        }
+
+        @Override
+        public JedisCommandExecutor forKey(byte[] key) {
+            return ClusterCommandExecutor.this.forKey(key);
+        }
+
+        @Override
+        public JedisCommandExecutor forKeys(String... keys) {
+            return ClusterCommandExecutor.this.forKeys(keys);
+        }
+
+        @Override
+        public JedisCommandExecutor forKeys(byte[]... keys) {
+            return ClusterCommandExecutor.this.forKeys(keys);
+        }
+
+        @Override
+        public void enableLatencyMetrics(CommandLatencyMetrics latencyMetrics) {
+            ClusterCommandExecutor.this.enableLatencyMetrics(latencyMetrics);
+        }
+
+        @Override
+        public void enableCircuitBreaker(CircuitBreakerRegistry registry, String endpoint) {
+            ClusterCommandExecutor.this.enableCircuitBreaker(registry, endpoint);
+        }
+
+        @Override
+        public void executePipeline(PiplineCallback callback) {
+            ClusterCommandExecutor.this.executePipeline(callback);
+        }
+
+        @Override
+        public Jedis getJedis() {
+            return null;
+        }
+
+        @Override
+        public List<Pool<Jedis>> getMasterPools() {
+            return ClusterCommandExecutor.this.getMasterPools();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.Response;
+import redis.clients.util.JedisClusterCRC16;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreaker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 集群模式下跨槽位的多 key 命令：按槽位拆分，每个槽位一条命令，
+ * 通过 {@link ClusterSlotPipeline} 一次发往所有节点，结果按原始 key 顺序重新组装。
+ * 所有 key 位于同一槽位时直接交给 {@link JedisCluster}。开启熔断时各节点的调用经过该节点的熔断器
+ *
+ * @author 霜华
+ * @date 2026/10/18 5:20 PM
+ **/
+public class ClusterMultiKeyCommands {
+
+    private final JedisCluster jedisCluster;
+
+    private final ClusterSlotCache slotCache;
+
+    /**
+     * 节点 host:port 到熔断器，未开启熔断时为 null 或返回 null
+     */
+    private final Function<String, CircuitBreaker> breakers;
+
+    public ClusterMultiKeyCommands(JedisCluster jedisCluster, ClusterSlotCache slotCache) {
+        this(jedisCluster, slotCache, null);
+    }
+
+    public ClusterMultiKeyCommands(JedisCluster jedisCluster, ClusterSlotCache slotCache,
+                                   Function<String, CircuitBreaker> breakers) {
+        this.jedisCluster = jedisCluster;
+        this.slotCache = slotCache;
+        this.breakers = breakers;
+    }
+
+    public List<String> mget(String... keys) {
+        Collection<List<Integer>> groups = groupBySlot(keys, 1);
+        if (groups.size() <= 1) {
+            return single(slotOf(keys), () -> jedisCluster.mget(keys));
+        }
+        ClusterSlotPipeline pipeline = new ClusterSlotPipeline(slotCache, breakers);
+        List<Response<List<String>>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            String[] slotKeys = new String[group.size()];
+            for (int i = 0; i < slotKeys.length; i++) {
+                slotKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.mget(slotKeys));
+        }
+        pipeline.sync();
+        String[] values = new String[keys.length];
+        int g = 0;
+        for (List<Integer> group : groups) {
+            List<String> slotValues = responses.get(g++).get();
+            for (int i = 0; i < group.size(); i++) {
+                values[group.get(i)] = slotValues.get(i);
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    public List<byte[]> mget(byte[]... keys) {
+        Collection<List<Integer>> groups = groupBySlot(keys, 1);
+        if (groups.size() <= 1) {
+            return single(slotOf(keys), () -> jedisCluster.mget(keys));
+        }
+        ClusterSlotPipeline pipeline = new ClusterSlotPipeline(slotCache, breakers);
+        List<Response<List<byte[]>>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            byte[][] slotKeys = new byte[group.size()][];
+            for (int i = 0; i < slotKeys.length; i++) {
+                slotKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.mget(slotKeys));
+        }
+        pipeline.sync();
+        byte[][] values = new byte[keys.length][];
+        int g = 0;
+        for (List<Integer> group : groups) {
+            List<byte[]> slotValues = responses.get(g++).get();
+            for (int i = 0; i < group.size(); i++) {
+                values[group.get(i)] = slotValues.get(i);
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    public String mset(String... keysvalues) {
+        Collection<List<Integer>> groups = groupBySlot(keysvalues, 2);
+        if (groups.size() <= 1) {
+            return single(slotOf(keysvalues), () -> jedisCluster.mset(keysvalues));
+        }
+        ClusterSlotPipeline pipeline = new ClusterSlotPipeline(slotCache, breakers);
+        List<Response<String>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            String[] slotKeysvalues = new String[group.size() * 2];
+            for (int i = 0; i < group.size(); i++) {
+                slotKeysvalues[i * 2] = keysvalues[group.get(i)];
+                slotKeysvalues[i * 2 + 1] = keysvalues[group.get(i) + 1];
+            }
+            responses.add(pipeline.mset(slotKeysvalues));
+        }
+        pipeline.sync();
+        return joinStatus(responses);
+    }
+
+    public String mset(byte[]... keysvalues) {
+        Collection<List<Integer>> groups = groupBySlot(keysvalues, 2);
+        if (groups.size() <= 1) {
+            return single(slotOf(keysvalues), () -> jedisCluster.mset(keysvalues));
+        }
+        ClusterSlotPipeline pipeline = new ClusterSlotPipeline(slotCache, breakers);
+        List<Response<String>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            byte[][] slotKeysvalues = new byte[group.size() * 2][];
+            for (int i = 0; i < group.size(); i++) {
+                slotKeysvalues[i * 2] = keysvalues[group.get(i)];
+                slotKeysvalues[i * 2 + 1] = keysvalues[group.get(i) + 1];
+            }
+            responses.add(pipeline.mset(slotKeysvalues));
+        }
+        pipeline.sync();
+        return joinStatus(responses);
+    }
+
+    public Long del(String... keys) {
+        Collection<List<Integer>> groups = groupBySlot(keys, 1);
+        if (groups.size() <= 1) {
+            return single(slotOf(keys), () -> jedisCluster.del(keys));
+        }
+        ClusterSlotPipeline pipeline = new ClusterSlotPipeline(slotCache, breakers);
+        List<Response<Long>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            String[] slotKeys = new String[group.size()];
+            for (int i = 0; i < slotKeys.length; i++) {
+                slotKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.del(slotKeys));
+        }
+        pipeline.sync();
+        return sum(responses);
+    }
+
+    public Long del(byte[]... keys) {
+        Collection<List<Integer>> groups = groupBySlot(keys, 1);
+        if (groups.size() <= 1) {
+            return single(slotOf(keys), () -> jedisCluster.del(keys));
+        }
+        ClusterSlotPipeline pipeline = new ClusterSlotPipeline(slotCache, breakers);
+        List<Response<Long>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            byte[][] slotKeys = new byte[group.size()][];
+            for (int i = 0; i < slotKeys.length; i++) {
+                slotKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.del(slotKeys));
+        }
+        pipeline.sync();
+        return sum(responses);
+    }
+
+    public Long exists(String... keys) {
+        Collection<List<Integer>> groups = groupBySlot(keys, 1);
+        if (groups.size() <= 1) {
+            return single(slotOf(keys), () -> jedisCluster.exists(keys));
+        }
+        ClusterSlotPipeline pipeline = new ClusterSlotPipeline(slotCache, breakers);
+        List<Response<Long>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            String[] slotKeys = new String[group.size()];
+            for (int i = 0; i < slotKeys.length; i++) {
+                slotKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.exists(slotKeys));
+        }
+        pipeline.sync();
+        return sum(responses);
+    }
+
+    /**
+     * 所有 key 位于同一槽位时的调用，经该槽位所在节点的熔断器
+     */
+    private <T> T single(int slot, Supplier<T> command) {
+        String node = breakers == null || slot < 0 ? null : slotCache.getSlotNode(slot);
+        CircuitBreaker breaker = node == null ? null : breakers.apply(node);
+        return breaker == null ? command.get() : breaker.call(command);
+    }
+
+    private static int slotOf(String[] keys) {
+        return keys.length == 0 ? -1 : JedisClusterCRC16.getSlot(keys[0]);
+    }
+
+    private static int slotOf(byte[][] keys) {
+        return keys.length == 0 ? -1 : JedisClusterCRC16.getSlot(keys[0]);
+    }
+
+    /**
+     * 按槽位分组，返回每组 key 在参数数组中的下标；mset 的参数为 key/value 交替，step 为 2
+     */
+    private static Collection<List<Integer>> groupBySlot(String[] keys, int step) {
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i += step) {
+            groups.computeIfAbsent(JedisClusterCRC16.getSlot(keys[i]), k -> new ArrayList<>()).add(i);
+        }
+        return groups.values();
+    }
+
+    private static Collection<List<Integer>> groupBySlot(byte[][] keys, int step) {
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i += step) {
+            groups.computeIfAbsent(JedisClusterCRC16.getSlot(keys[i]), k -> new ArrayList<>()).add(i);
+        }
+        return groups.values();
+    }
+
+    private static String joinStatus(List<Response<String>> responses) {
+        String status = null;
+        for (Response<String> response : responses) {
+            status = response.get();
+        }
+        return status;
+    }
+
+    private static Long sum(List<Response<Long>> responses) {
+        long total = 0;
+        for (Response<Long> response : responses) {
+            total += response.get();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,196 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.BinaryJedisCluster;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.JedisClusterConnectionHandler;
+import redis.clients.jedis.JedisClusterInfoCache;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisClusterException;
+import redis.clients.util.JedisClusterCRC16;
+import redis.clients.util.SafeEncoder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 集群槽位到主节点连接池的映射，由 CLUSTER SLOTS 构建，遇到 MOVED 时刷新。
+ * 连接池复用 {@link JedisCluster#getClusterNodes()} 中各节点的连接池，遇到未发现的节点时先刷新 JedisCluster 自身的槽位缓存
+ *
+ * @author 霜华
+ * @date 2026/10/18 4:30 PM
+ **/
+public class ClusterSlotCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterSlotCache.class);
+
+    private static final Field CONNECTION_HANDLER;
+
+    static {
+        try {
+            CONNECTION_HANDLER = BinaryJedisCluster.class.getDeclaredField("connectionHandler");
+            CONNECTION_HANDLER.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("当前 jedis 版本不支持刷新集群槽位", e);
+        }
+    }
+
+    private final JedisCluster jedisCluster;
+
+    private volatile JedisPool[] slots;
+
+    /**
+     * 槽位所在主节点的 host:port，与 slots 一同更新
+     */
+    private volatile String[] slotNodes;
+
+    private volatile Map<String, JedisPool> masters = Collections.emptyMap();
+
+    public ClusterSlotCache(JedisCluster jedisCluster) {
+        this.jedisCluster = jedisCluster;
+    }
+
+    public JedisPool getPool(String key) {
+        return getSlotPool(JedisClusterCRC16.getSlot(key));
+    }
+
+    public JedisPool getPool(byte[] key) {
+        return getSlotPool(JedisClusterCRC16.getSlot(key));
+    }
+
+    public JedisPool getSlotPool(int slot) {
+        JedisPool[] current = slots;
+        if (current == null) {
+            refresh();
+            current = slots;
+        }
+        JedisPool pool = current[slot];
+        if (pool == null) {
+            throw new JedisClusterException("槽位 " + slot + " 未分配节点");
+        }
+        return pool;
+    }
+
+    /**
+     * 槽位所在主节点的 host:port，槽位未分配节点时为 null
+     */
+    public String getSlotNode(int slot) {
+        String[] current = slotNodes;
+        if (current == null) {
+            refresh();
+            current = slotNodes;
+        }
+        return current[slot];
+    }
+
+    /**
+     * 连接池所属节点的 host:port，不属于当前已知的任何节点时为 null
+     */
+    public String getNodeName(JedisPool pool) {
+        for (Map.Entry<String, JedisPool> node : jedisCluster.getClusterNodes().entrySet()) {
+            if (node.getValue() == pool) {
+                return node.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 重定向目标节点的连接池，JedisCluster 尚未发现该节点时先刷新其槽位缓存
+     */
+    public JedisPool getNodePool(HostAndPort node) {
+        String nodeKey = JedisClusterInfoCache.getNodeKey(node);
+        JedisPool pool = jedisCluster.getClusterNodes().get(nodeKey);
+        if (pool == null) {
+            renewClusterSlots();
+            pool = jedisCluster.getClusterNodes().get(nodeKey);
+        }
+        if (pool == null) {
+            throw new JedisClusterException("集群节点 " + node + " 不存在");
+        }
+        return pool;
+    }
+
+    /**
+     * 所有主节点的连接池，key 为 host:port
+     */
+    public Map<String, JedisPool> getMasterPools() {
+        if (slots == null) {
+            refresh();
+        }
+        return masters;
+    }
+
+    /**
+     * 遇到 MOVED 时调用：先刷新 JedisCluster 的槽位缓存以发现新节点，再重建映射
+     */
+    public synchronized void renew() {
+        renewClusterSlots();
+        refresh();
+    }
+
+    private void renewClusterSlots() {
+        try {
+            ((JedisClusterConnectionHandler) CONNECTION_HANDLER.get(jedisCluster)).renewSlotCache();
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 从任一可用节点拉取 CLUSTER SLOTS 重建映射，JedisCluster 的槽位缓存已刷新时使用
+     */
+    public synchronized void refresh() {
+        Collection<JedisPool> nodes = new ArrayList<>(jedisCluster.getClusterNodes().values());
+        for (JedisPool nodePool : nodes) {
+            try (Jedis jedis = nodePool.getResource()) {
+                load(jedis);
+                return;
+            } catch (Exception e) {
+                log.warn("[ClusterSlotCache][refresh] load slots failed, try next node", e);
+            }
+        }
+        throw new JedisClusterException("无可用节点刷新集群槽位");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load(Jedis jedis) {
+        JedisPool[] loaded = new JedisPool[JedisCluster.HASHSLOTS];
+        String[] loadedNodes = new String[JedisCluster.HASHSLOTS];
+        Map<String, JedisPool> loadedMasters = new LinkedHashMap<>();
+        for (Object slotInfoObj : jedis.clusterSlots()) {
+            List<Object> slotInfo = (List<Object>) slotInfoObj;
+            List<Object> masterInfo = (List<Object>) slotInfo.get(2);
+            String host = SafeEncoder.encode((byte[]) masterInfo.get(0));
+            if (host.isEmpty()) {
+                host = jedis.getClient().getHost();
+            }
+            HostAndPort master = new HostAndPort(host, ((Long) masterInfo.get(1)).intValue());
+            JedisPool pool = jedisCluster.getClusterNodes().get(JedisClusterInfoCache.getNodeKey(master));
+            if (pool == null) {
+                // JedisCluster 尚未发现该节点，留空等待下次刷新
+                log.warn("[ClusterSlotCache][load] node {} not found in cluster nodes", master);
+                continue;
+            }
+            String nodeKey = JedisClusterInfoCache.getNodeKey(master);
+            loadedMasters.put(nodeKey, pool);
+            int start = ((Long) slotInfo.get(0)).intValue();
+            int end = ((Long) slotInfo.get(1)).intValue();
+            for (int slot = start; slot <= end; slot++) {
+                loaded[slot] = pool;
+                loadedNodes[slot] = nodeKey;
+            }
+        }
+        masters = Collections.unmodifiableMap(loadedMasters);
+        slotNodes = loadedNodes;
+        slots = loaded;
+    }
+}
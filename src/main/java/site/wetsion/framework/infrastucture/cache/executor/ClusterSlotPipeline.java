@@ -0,0 +1,366 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisClusterException;
+import redis.clients.jedis.exceptions.JedisClusterMaxRedirectionsException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.util.JedisClusterCRC16;
+import redis.clients.util.SafeEncoder;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreaker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 集群版 Pipeline：命令先在本地记录，sync 时按槽位所属主节点分组，
+ * 先向所有节点写出并 flush 再依次读取，各节点并行处理；
+ * 遇到 MOVED 刷新槽位后重发，遇到 ASK 先发送 ASKING 再重发，结果按调用方的提交顺序返回。
+ * 开启熔断时发送前先取得所有目标节点的许可，任一节点熔断则不发送任何命令，各节点的结果分别计入其熔断器。
+ * 不支持 multi/exec
+ *
+ * @author 霜华
+ * @date 2026/10/18 4:30 PM
+ **/
+public class ClusterSlotPipeline extends Pipeline {
+
+    private static final int MAX_REDIRECTIONS = 5;
+
+    private static final Method SEND_COMMAND;
+
+    private static final Method FLUSH;
+
+    static {
+        try {
+            SEND_COMMAND = Connection.class.getDeclaredMethod("sendCommand", Protocol.Command.class, byte[][].class);
+            SEND_COMMAND.setAccessible(true);
+            FLUSH = Connection.class.getDeclaredMethod("flush");
+            FLUSH.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("当前 jedis 版本不支持集群 pipeline", e);
+        }
+    }
+
+    private final ClusterSlotCache slotCache;
+
+    /**
+     * 节点 host:port 到熔断器，未开启熔断时为 null
+     */
+    private final Function<String, CircuitBreaker> breakers;
+
+    private final List<QueuedCommand> commands = new ArrayList<>();
+
+    /**
+     * 单 key 命令在 getClient(key) 时记录槽位，紧随其后的 sendCommand 使用
+     */
+    private int slotHint = -1;
+
+    public ClusterSlotPipeline(ClusterSlotCache slotCache) {
+        this(slotCache, null);
+    }
+
+    /**
+     * @param breakers 以节点 host:port 取熔断器，为 null 时不熔断
+     */
+    public ClusterSlotPipeline(ClusterSlotCache slotCache, Function<String, CircuitBreaker> breakers) {
+        this.slotCache = slotCache;
+        this.breakers = breakers;
+        setClient(new RecordingClient());
+    }
+
+    @Override
+    protected Client getClient(String key) {
+        slotHint = JedisClusterCRC16.getSlot(key);
+        return client;
+    }
+
+    @Override
+    protected Client getClient(byte[] key) {
+        slotHint = JedisClusterCRC16.getSlot(key);
+        return client;
+    }
+
+    @Override
+    public Response<String> multi() {
+        throw new UnsupportedOperationException("集群pipeline不支持事务");
+    }
+
+    @Override
+    public void sync() {
+        if (commands.isEmpty()) {
+            return;
+        }
+        for (Object reply : execute()) {
+            generateResponse(reply);
+        }
+    }
+
+    @Override
+    public List<Object> syncAndReturnAll() {
+        if (commands.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> formatted = new ArrayList<>(commands.size());
+        for (Object reply : execute()) {
+            try {
+                formatted.add(generateResponse(reply).get());
+            } catch (JedisDataException e) {
+                formatted.add(e);
+            }
+        }
+        return formatted;
+    }
+
+    private List<Object> execute() {
+        Object[] replies = new Object[commands.size()];
+        try {
+            Map<JedisPool, List<Integer>> groups = new LinkedHashMap<>();
+            for (int i = 0; i < commands.size(); i++) {
+                JedisPool pool = commands.get(i).slot < 0
+                        ? anyMasterPool()
+                        : slotCache.getSlotPool(commands.get(i).slot);
+                groups.computeIfAbsent(pool, k -> new ArrayList<>()).add(i);
+            }
+            dispatch(groups, replies, false);
+            redirect(replies);
+            return Arrays.asList(replies);
+        } catch (RuntimeException e) {
+            clean();
+            throw e;
+        } finally {
+            commands.clear();
+        }
+    }
+
+    private void redirect(Object[] replies) {
+        for (int attempt = 0; attempt < MAX_REDIRECTIONS; attempt++) {
+            Map<JedisPool, List<Integer>> moved = new LinkedHashMap<>();
+            Map<JedisPool, List<Integer>> asked = new LinkedHashMap<>();
+            boolean refreshed = false;
+            for (int i = 0; i < replies.length; i++) {
+                if (!(replies[i] instanceof JedisRedirectionException)) {
+                    continue;
+                }
+                JedisRedirectionException redirection = (JedisRedirectionException) replies[i];
+                if (redirection instanceof JedisMovedDataException && !refreshed) {
+                    slotCache.renew();
+                    refreshed = true;
+                }
+                HostAndPort target = redirection.getTargetNode();
+                Map<JedisPool, List<Integer>> groups = redirection instanceof JedisAskDataException ? asked : moved;
+                groups.computeIfAbsent(slotCache.getNodePool(target), k -> new ArrayList<>()).add(i);
+            }
+            if (moved.isEmpty() && asked.isEmpty()) {
+                return;
+            }
+            dispatch(moved, replies, false);
+            dispatch(asked, replies, true);
+        }
+        for (int i = 0; i < replies.length; i++) {
+            if (replies[i] instanceof JedisRedirectionException) {
+                replies[i] = new JedisClusterMaxRedirectionsException(((Exception) replies[i]).getMessage());
+            }
+        }
+    }
+
+    /**
+     * 先取得所有节点的熔断许可，再向所有节点写出并 flush，最后依次读取各节点的回复
+     */
+    private void dispatch(Map<JedisPool, List<Integer>> groups, Object[] replies, boolean asking) {
+        List<NodeBatch> batches = new ArrayList<>(groups.size());
+        for (Map.Entry<JedisPool, List<Integer>> group : groups.entrySet()) {
+            batches.add(new NodeBatch(group.getKey(), group.getValue(), breakerOf(group.getKey())));
+        }
+        NodeBatch current = null;
+        try {
+            for (NodeBatch batch : batches) {
+                batch.acquire();
+            }
+            long start = System.nanoTime();
+            for (NodeBatch batch : batches) {
+                current = batch;
+                batch.jedis = batch.pool.getResource();
+                Client nodeClient = batch.jedis.getClient();
+                for (int index : batch.indexes) {
+                    if (asking) {
+                        send(nodeClient, Protocol.Command.ASKING);
+                    }
+                    QueuedCommand command = commands.get(index);
+                    send(nodeClient, command.command, command.args);
+                }
+                invoke(FLUSH, nodeClient);
+            }
+            for (NodeBatch batch : batches) {
+                current = batch;
+                List<Object> nodeReplies = batch.jedis.getClient().getAll();
+                batch.read = true;
+                int step = asking ? 2 : 1;
+                for (int i = 0; i < batch.indexes.size(); i++) {
+                    replies[batch.indexes.get(i)] = nodeReplies.get(i * step + step - 1);
+                }
+                batch.complete(System.nanoTime() - start, null);
+            }
+        } catch (RuntimeException e) {
+            if (current != null) {
+                current.complete(0, e);
+            }
+            throw e;
+        } finally {
+            for (NodeBatch batch : batches) {
+                batch.release();
+                if (batch.jedis == null) {
+                    continue;
+                }
+                if (!batch.read) {
+                    // 未读完的回复会污染连接，断开后归还，下次借出时自动重连
+                    batch.jedis.getClient().disconnect();
+                }
+                batch.jedis.close();
+            }
+        }
+    }
+
+    /**
+     * 无 key 命令发往任一主节点，映射为空时先刷新一次
+     */
+    private JedisPool anyMasterPool() {
+        Map<String, JedisPool> masters = slotCache.getMasterPools();
+        if (masters.isEmpty()) {
+            slotCache.renew();
+            masters = slotCache.getMasterPools();
+        }
+        if (masters.isEmpty()) {
+            throw new JedisClusterException("集群槽位映射中没有可用的主节点");
+        }
+        return masters.values().iterator().next();
+    }
+
+    private CircuitBreaker breakerOf(JedisPool pool) {
+        if (breakers == null) {
+            return null;
+        }
+        String node = slotCache.getNodeName(pool);
+        return node == null ? null : breakers.apply(node);
+    }
+
+    private static void send(Client nodeClient, Protocol.Command command, byte[]... args) {
+        invoke(SEND_COMMAND, nodeClient, command, args);
+    }
+
+    private static void invoke(Method method, Client nodeClient, Object... args) {
+        try {
+            method.invoke(nodeClient, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static int slotOf(Protocol.Command command, byte[]... args) {
+        if (args.length == 0) {
+            return -1;
+        }
+        if (command == Protocol.Command.EVAL || command == Protocol.Command.EVALSHA) {
+            // EVAL script numkeys key [key ...]
+            return args.length > 2 && Integer.parseInt(SafeEncoder.encode(args[1])) > 0
+                    ? JedisClusterCRC16.getSlot(args[2]) : -1;
+        }
+        return JedisClusterCRC16.getSlot(args[0]);
+    }
+
+    private static final class QueuedCommand {
+
+        private final int slot;
+
+        private final Protocol.Command command;
+
+        private final byte[][] args;
+
+        QueuedCommand(int slot, Protocol.Command command, byte[][] args) {
+            this.slot = slot;
+            this.command = command;
+            this.args = args;
+        }
+    }
+
+    private static final class NodeBatch {
+
+        private final JedisPool pool;
+
+        private final List<Integer> indexes;
+
+        private final CircuitBreaker breaker;
+
+        private Jedis jedis;
+
+        private boolean read;
+
+        private boolean permitted;
+
+        private boolean probe;
+
+        NodeBatch(JedisPool pool, List<Integer> indexes, CircuitBreaker breaker) {
+            this.pool = pool;
+            this.indexes = indexes;
+            this.breaker = breaker;
+        }
+
+        void acquire() {
+            if (breaker != null) {
+                probe = breaker.acquirePermission();
+                permitted = true;
+            }
+        }
+
+        void complete(long nanos, Throwable error) {
+            if (permitted) {
+                permitted = false;
+                breaker.record(probe, nanos, error);
+            }
+        }
+
+        /**
+         * 未得出结果的节点归还许可
+         */
+        void release() {
+            if (permitted) {
+                permitted = false;
+                breaker.release(probe);
+            }
+        }
+    }
+
+    /**
+     * 只记录命令，不持有连接
+     */
+    private final class RecordingClient extends Client {
+
+        @Override
+        protected Connection sendCommand(Protocol.Command cmd, byte[]... args) {
+            int slot = slotHint >= 0 ? slotHint : slotOf(cmd, args);
+            slotHint = -1;
+            commands.add(new QueuedCommand(slot, cmd, args));
+            return this;
+        }
+    }
+}
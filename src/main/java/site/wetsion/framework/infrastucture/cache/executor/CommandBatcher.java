@@ -0,0 +1,200 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.util.Pool;
+import site.wetsion.framework.infrastucture.cache.callback.PipelineResponseCallback;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 自动批量（隐式 pipeline）：多个线程提交的单 key 命令在一个合并窗口内（或达到批次上限时）
+ * 合并为一个 Pipeline，在一个连接上一次往返发送，各调用方分别拿到自己的结果
+ *
+ * @author 霜华
+ * @date 2026/10/18 2:05 PM
+ **/
+public class CommandBatcher implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(CommandBatcher.class);
+
+    private final Pool<Jedis> pool;
+
+    private final int maxBatchSize;
+
+    private final long windowNanos;
+
+    private final long timeoutMillis;
+
+    private final BlockingQueue<BatchedCommand<?>> queue = new LinkedBlockingQueue<>();
+
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param timeoutMillis 调用方等待所在批次结果的最长时间
+     */
+    public CommandBatcher(Pool<Jedis> pool, int maxBatchSize, long windowMicros, long timeoutMillis) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("autoBatchMaxSize 必须大于0");
+        }
+        this.pool = pool;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(windowMicros, 0));
+        this.timeoutMillis = timeoutMillis;
+        this.flusher = new Thread(this::loop, "redis-auto-batch");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 提交命令并阻塞等待所在批次执行完成
+     */
+    public <T> T submit(PipelineResponseCallback<T> command) {
+        if (!running) {
+            throw new IllegalStateException("CommandBatcher 已关闭");
+        }
+        BatchedCommand<T> batched = new BatchedCommand<>(command);
+        queue.add(batched);
+        // 检查与入队之间 close 可能已完成，刷新线程退出后不会再取出该命令
+        if (!running && queue.remove(batched)) {
+            throw new IllegalStateException("CommandBatcher 已关闭");
+        }
+        return batched.await(timeoutMillis);
+    }
+
+    private void loop() {
+        List<BatchedCommand<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                BatchedCommand<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 已收集但未发送的命令与队列中剩余的命令一起失败
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flush(batch);
+            batch.clear();
+        }
+        queue.drainTo(batch);
+        IllegalStateException closed = new IllegalStateException("CommandBatcher 已关闭");
+        for (BatchedCommand<?> command : batch) {
+            command.fail(closed);
+        }
+    }
+
+    /**
+     * 从第一条命令开始计时，窗口内持续收集，直到窗口结束或达到批次上限
+     */
+    private void collect(List<BatchedCommand<?>> batch) throws InterruptedException {
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            BatchedCommand<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    private void flush(List<BatchedCommand<?>> batch) {
+        try (Jedis jedis = pool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (BatchedCommand<?> command : batch) {
+                command.append(pipeline);
+            }
+            pipeline.sync();
+            for (BatchedCommand<?> command : batch) {
+                command.complete();
+            }
+        } catch (Exception e) {
+            log.error("[CommandBatcher][flush] batch of {} commands failed!", batch.size(), e);
+            for (BatchedCommand<?> command : batch) {
+                command.fail(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        flusher.interrupt();
+    }
+
+    private static final class BatchedCommand<T> {
+
+        private final PipelineResponseCallback<T> command;
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Response<T> response;
+
+        BatchedCommand(PipelineResponseCallback<T> command) {
+            this.command = command;
+        }
+
+        void append(Pipeline pipeline) {
+            try {
+                response = command.callback(pipeline);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        void complete() {
+            if (response == null) {
+                return;
+            }
+            try {
+                future.complete(response.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        void fail(Throwable e) {
+            future.completeExceptionally(e);
+        }
+
+        T await(long timeoutMillis) {
+            try {
+                return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new CompletionException(e.getCause());
+            } catch (TimeoutException e) {
+                throw new JedisConnectionException("auto batch timed out after " + timeoutMillis + "ms", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JedisConnectionException("interrupted while waiting for auto batch", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.util.MurmurHash;
+import redis.clients.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 带虚拟节点的一致性哈希环。虚拟节点以分片名称（host:port）命名，与分片在配置中的顺序无关，
+ * 新增一个分片只会迁移约 1/N 的 key。key 中包含非空的 {...} 时只对第一个花括号内的内容哈希，
+ * 与 Redis Cluster 的 hash tag 规则一致，可以把相关 key 固定到同一分片
+ *
+ * @author 霜华
+ * @date 2026/10/19 2:40 AM
+ **/
+public class ConsistentHashRing<T> {
+
+    private static final int SEED = 0x1234ABCD;
+
+    /**
+     * 按哈希值升序排列的虚拟节点
+     */
+    private final long[] points;
+
+    private final Object[] owners;
+
+    private final List<T> shards;
+
+    /**
+     * @param shards       分片名称到分片的映射
+     * @param virtualNodes 每个分片的虚拟节点数
+     */
+    public ConsistentHashRing(Map<String, T> shards, int virtualNodes) {
+        if (shards.isEmpty() || virtualNodes <= 0) {
+            throw new IllegalArgumentException("分片或虚拟节点数不能为空");
+        }
+        int size = shards.size() * virtualNodes;
+        long[][] entries = new long[size][];
+        List<T> shardList = new ArrayList<>(shards.values());
+        int index = 0;
+        int shard = 0;
+        for (String name : shards.keySet()) {
+            for (int n = 0; n < virtualNodes; n++) {
+                byte[] node = SafeEncoder.encode(name + "#" + n);
+                entries[index++] = new long[]{MurmurHash.hash64A(node, SEED), shard};
+            }
+            shard++;
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+        this.points = new long[size];
+        this.owners = new Object[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = entries[i][0];
+            owners[i] = shardList.get((int) entries[i][1]);
+        }
+        this.shards = Collections.unmodifiableList(shardList);
+    }
+
+    public T get(String key) {
+        return get(SafeEncoder.encode(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(byte[] key) {
+        long hash = hash(key);
+        int i = Arrays.binarySearch(points, hash);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return (T) owners[i == points.length ? 0 : i];
+    }
+
+    /**
+     * 按配置顺序排列的所有分片
+     */
+    public List<T> getShards() {
+        return shards;
+    }
+
+    static long hash(byte[] key) {
+        int start = -1;
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] == '{') {
+                start = i;
+                break;
+            }
+        }
+        if (start >= 0) {
+            for (int end = start + 1; end < key.length; end++) {
+                if (key[end] == '}') {
+                    if (end > start + 1) {
+                        return MurmurHash.hash64A(key, start + 1, end - start - 1, SEED);
+                    }
+                    break;
+                }
+            }
+        }
+        return MurmurHash.hash64A(key, SEED);
+    }
+}
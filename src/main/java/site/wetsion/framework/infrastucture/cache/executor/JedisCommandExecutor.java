@@ -0,0 +1,151 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreakerRegistry;
+import site.wetsion.framework.infrastucture.cache.callback.JedisCallback;
+import site.wetsion.framework.infrastucture.cache.callback.JedisClusterCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PipelineResponseCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PiplineCallback;
+import site.wetsion.framework.infrastucture.cache.monitor.CommandLatencyMetrics;
+
+import java.util.List;
+
+/**
+ * 命令执行器，在构造时按部署模式确定实现，命令调用路径上不再判断模式
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:24 AM
+ **/
+public interface JedisCommandExecutor {
+
+    /**
+     * 执行命令，单机/哨兵模式使用 {@code jedisCallback}，集群模式使用 {@code clusterCallback}
+     */
+    default <T> T execute(JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback) {
+        return execute((String) null, jedisCallback, clusterCallback);
+    }
+
+    /**
+     * 执行命令并按 {@code command} 记录耗时，{@code command} 为 null 时不记录
+     */
+    <T> T execute(String command, JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback);
+
+    /**
+     * 执行仅单机/哨兵模式支持的命令，集群模式下抛出 {@link IllegalStateException}
+     */
+    default <T> T execute(JedisCallback<T> jedisCallback) {
+        return execute((String) null, jedisCallback);
+    }
+
+    <T> T execute(String command, JedisCallback<T> jedisCallback);
+
+    /**
+     * 执行可自动批量的单 key 命令，开启自动批量时与其他线程的命令合并为一个 Pipeline 发送，
+     * 未开启或集群模式下等同于 {@link #execute(JedisCallback, JedisClusterCallback)}
+     */
+    default <T> T executeBatchable(JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback,
+                                   PipelineResponseCallback<T> pipelineCallback) {
+        return executeBatchable(null, jedisCallback, clusterCallback, pipelineCallback);
+    }
+
+    <T> T executeBatchable(String command, JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback,
+                           PipelineResponseCallback<T> pipelineCallback);
+
+    /**
+     * 执行只读命令，开启从节点读路由时可能发往从节点，默认等同于 {@link #execute(JedisCallback, JedisClusterCallback)}
+     */
+    default <T> T executeRead(JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback) {
+        return executeRead((String) null, jedisCallback, clusterCallback);
+    }
+
+    default <T> T executeRead(String command, JedisCallback<T> jedisCallback,
+                              JedisClusterCallback<T> clusterCallback) {
+        return execute(command, jedisCallback, clusterCallback);
+    }
+
+    /**
+     * 执行仅单机/哨兵模式支持的只读命令
+     */
+    default <T> T executeRead(JedisCallback<T> jedisCallback) {
+        return executeRead((String) null, jedisCallback);
+    }
+
+    default <T> T executeRead(String command, JedisCallback<T> jedisCallback) {
+        return execute(command, jedisCallback);
+    }
+
+    /**
+     * 执行可自动批量的只读命令，有可用从节点时发往从节点而不参与自动批量
+     */
+    default <T> T executeBatchableRead(JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback,
+                                       PipelineResponseCallback<T> pipelineCallback) {
+        return executeBatchableRead(null, jedisCallback, clusterCallback, pipelineCallback);
+    }
+
+    default <T> T executeBatchableRead(String command, JedisCallback<T> jedisCallback,
+                                       JedisClusterCallback<T> clusterCallback,
+                                       PipelineResponseCallback<T> pipelineCallback) {
+        return executeBatchable(command, jedisCallback, clusterCallback, pipelineCallback);
+    }
+
+    /**
+     * 按 key 选择执行器，分片模式下返回 key 所在分片的执行器，其他模式返回自身
+     */
+    default JedisCommandExecutor forKey(String key) {
+        return this;
+    }
+
+    default JedisCommandExecutor forKey(byte[] key) {
+        return this;
+    }
+
+    /**
+     * 按多个 key 选择执行器，分片模式下要求所有 key 位于同一分片，否则抛出 {@link IllegalStateException}
+     */
+    default JedisCommandExecutor forKeys(String... keys) {
+        return this;
+    }
+
+    default JedisCommandExecutor forKeys(byte[]... keys) {
+        return this;
+    }
+
+    /**
+     * 开启按命令的耗时统计，须在执行器发布给其他线程之前调用
+     */
+    void enableLatencyMetrics(CommandLatencyMetrics latencyMetrics);
+
+    /**
+     * 开启熔断，每个节点一个熔断器，名称以 {@code endpoint} 开头；须在执行器发布给其他线程之前调用
+     */
+    void enableCircuitBreaker(CircuitBreakerRegistry registry, String endpoint);
+
+    /**
+     * 以 pipeline 方式执行回调中的命令，回调返回后同步所有结果；集群模式下按槽位分节点执行
+     */
+    void executePipeline(PiplineCallback callback);
+
+    /**
+     * 从连接池借出一个连接，调用方负责归还；集群模式返回 null
+     */
+    Jedis getJedis();
+
+    /**
+     * 所有主节点的连接池，单机/哨兵模式只有一个，集群模式为每个主节点一个
+     */
+    List<Pool<Jedis>> getMasterPools();
+
+    /**
+     * 遍历全部数据时使用的连接池，开启从节点读路由时为一个从节点，默认为 {@link #getMasterPools()}
+     */
+    default List<Pool<Jedis>> getReadPools() {
+        return getMasterPools();
+    }
+
+    /**
+     * 释放执行器自身持有的资源，不关闭底层连接池
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,336 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPubSub;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 哨兵模式下的从节点读路由：通过 SENTINEL slaves 发现健康的从节点并为每个从节点维护一个连接池，
+ * 订阅哨兵的主从切换、上下线事件并定期刷新，使从节点集合跟随故障转移变化。
+ * 连接失败的从节点在一段随连续失败次数翻倍的时间内不参与选择（两种策略均如此）。
+ * 没有可用从节点时 {@link #choose()} 返回 null，由调用方回退到主节点
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:50 PM
+ **/
+public class ReplicaRouter implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private static final String[] SENTINEL_EVENTS = {"+switch-master", "+slave", "+sdown", "-sdown", "+odown",
+            "-odown", "+convert-to-slave", "+slave-reconf-done"};
+
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long MAX_FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    public enum Strategy {
+        /**
+         * 轮询
+         */
+        ROUND_ROBIN,
+        /**
+         * 随机取两个从节点，选择平均耗时较低者
+         */
+        LEAST_LATENCY
+    }
+
+    private final String masterName;
+
+    private final List<HostAndPort> sentinels = new ArrayList<>();
+
+    private final GenericObjectPoolConfig poolConfig;
+
+    private final int timeout;
+
+    private final String password;
+
+    private final int database;
+
+    private final String clientName;
+
+    private final Strategy strategy;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final ScheduledExecutorService refresher;
+
+    private final Thread sentinelListener;
+
+    /**
+     * 当前的哨兵订阅及其连接，subscribe 阻塞在 socket 读上不响应中断，关闭时需退订并断开连接
+     */
+    private volatile JedisPubSub sentinelSubscription;
+
+    private volatile Jedis sentinelConnection;
+
+    private volatile Replica[] replicas = new Replica[0];
+
+    private volatile boolean running = true;
+
+    public ReplicaRouter(String masterName, Set<String> sentinels, GenericObjectPoolConfig poolConfig, int timeout,
+                         String password, int database, String clientName, Strategy strategy, long refreshSeconds) {
+        this.masterName = masterName;
+        for (String sentinel : sentinels) {
+            String[] hostAndPort = sentinel.split(":");
+            this.sentinels.add(new HostAndPort(hostAndPort[0], Integer.parseInt(hostAndPort[1])));
+        }
+        this.poolConfig = poolConfig;
+        this.timeout = timeout;
+        this.password = password;
+        this.database = database;
+        this.clientName = clientName;
+        this.strategy = strategy;
+        refresh();
+        this.refresher = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("redis-replica-refresh").setDaemon(true).build());
+        this.refresher.scheduleWithFixedDelay(this::refresh, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+        this.sentinelListener = new Thread(this::listen, "redis-replica-sentinel-listener");
+        this.sentinelListener.setDaemon(true);
+        this.sentinelListener.start();
+    }
+
+    /**
+     * 选择一个未处于失败惩罚期的从节点，没有可用从节点时返回 null
+     */
+    public Replica choose() {
+        Replica[] current = replicas;
+        if (current.length == 0) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (current.length == 1) {
+            return current[0].isAvailable(now) ? current[0] : null;
+        }
+        if (strategy == Strategy.ROUND_ROBIN) {
+            return firstAvailable(current, next.getAndIncrement(), now);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(current.length);
+        int second = random.nextInt(current.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        boolean firstAvailable = current[first].isAvailable(now);
+        boolean secondAvailable = current[second].isAvailable(now);
+        if (firstAvailable && secondAvailable) {
+            return current[first].latencyNanos <= current[second].latencyNanos ? current[first] : current[second];
+        }
+        if (firstAvailable || secondAvailable) {
+            return firstAvailable ? current[first] : current[second];
+        }
+        return firstAvailable(current, first, now);
+    }
+
+    /**
+     * 从 start 开始依次查找第一个可用的从节点
+     */
+    private static Replica firstAvailable(Replica[] current, int start, long now) {
+        for (int i = 0; i < current.length; i++) {
+            Replica replica = current[Math.floorMod(start + i, current.length)];
+            if (replica.isAvailable(now)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 从哨兵重新拉取从节点列表，新增的从节点建池，下线的从节点销毁连接池；
+     * 保留的从节点沿用原有的耗时统计和失败惩罚
+     */
+    public synchronized void refresh() {
+        List<HostAndPort> discovered = discover();
+        if (discovered == null) {
+            return;
+        }
+        Map<HostAndPort, Replica> existing = new HashMap<>();
+        for (Replica replica : replicas) {
+            existing.put(replica.node, replica);
+        }
+        List<Replica> updated = new ArrayList<>(discovered.size());
+        for (HostAndPort node : discovered) {
+            Replica replica = existing.remove(node);
+            if (replica == null) {
+                replica = new Replica(node, new JedisPool(poolConfig, node.getHost(), node.getPort(), timeout,
+                        password, database, clientName));
+                log.info("[ReplicaRouter][refresh] replica {} of {} added", node, masterName);
+            }
+            updated.add(replica);
+        }
+        replicas = updated.toArray(new Replica[0]);
+        for (Replica removed : existing.values()) {
+            log.info("[ReplicaRouter][refresh] replica {} of {} removed", removed.node, masterName);
+            removed.pool.destroy();
+        }
+    }
+
+    /**
+     * 依次询问各哨兵，返回第一个成功应答的哨兵给出的健康从节点；全部失败时返回 null
+     */
+    private List<HostAndPort> discover() {
+        for (HostAndPort sentinel : sentinels) {
+            try (Jedis jedis = new Jedis(sentinel.getHost(), sentinel.getPort(), timeout)) {
+                List<HostAndPort> nodes = new ArrayList<>();
+                for (Map<String, String> slave : jedis.sentinelSlaves(masterName)) {
+                    String flags = slave.getOrDefault("flags", "");
+                    if (flags.contains("s_down") || flags.contains("o_down") || flags.contains("disconnected")
+                            || !"ok".equals(slave.get("master-link-status"))) {
+                        continue;
+                    }
+                    nodes.add(new HostAndPort(slave.get("ip"), Integer.parseInt(slave.get("port"))));
+                }
+                return nodes;
+            } catch (Exception e) {
+                log.warn("[ReplicaRouter][discover] sentinel {} unavailable: {}", sentinel, e.getMessage());
+            }
+        }
+        log.error("[ReplicaRouter][discover] all sentinels unavailable, keep replicas of {}", masterName);
+        return null;
+    }
+
+    /**
+     * 订阅哨兵事件，涉及本主节点的事件触发一次刷新；哨兵断开时轮换到下一个哨兵
+     */
+    private void listen() {
+        int index = 0;
+        while (running) {
+            HostAndPort sentinel = sentinels.get(index++ % sentinels.size());
+            try (Jedis jedis = new Jedis(sentinel.getHost(), sentinel.getPort(), timeout)) {
+                JedisPubSub subscription = new JedisPubSub() {
+                    @Override
+                    public void onMessage(String channel, String message) {
+                        if (message.contains(masterName) && running) {
+                            log.info("[ReplicaRouter][listen] sentinel event {} {}", channel, message);
+                            refresher.execute(ReplicaRouter.this::refresh);
+                        }
+                    }
+                };
+                sentinelConnection = jedis;
+                sentinelSubscription = subscription;
+                // close() 先置 running 再读取订阅，此处先登记再检查，两者不会错过对方
+                if (!running) {
+                    return;
+                }
+                jedis.subscribe(subscription, SENTINEL_EVENTS);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[ReplicaRouter][listen] sentinel {} subscription lost: {}", sentinel, e.getMessage());
+            } finally {
+                sentinelSubscription = null;
+                sentinelConnection = null;
+            }
+            try {
+                TimeUnit.SECONDS.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public int getReplicaCount() {
+        return replicas.length;
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        refresher.shutdownNow();
+        JedisPubSub subscription = sentinelSubscription;
+        if (subscription != null && subscription.isSubscribed()) {
+            try {
+                subscription.unsubscribe();
+            } catch (Exception e) {
+                log.warn("[ReplicaRouter][close] unsubscribe sentinel events failed: {}", e.getMessage());
+            }
+        }
+        // 退订未送达或订阅尚未建立时，断开连接使 subscribe 立即返回
+        Jedis connection = sentinelConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                log.warn("[ReplicaRouter][close] close sentinel connection failed: {}", e.getMessage());
+            }
+        }
+        sentinelListener.interrupt();
+        for (Replica replica : replicas) {
+            replica.pool.destroy();
+        }
+        replicas = new Replica[0];
+    }
+
+    public static final class Replica {
+
+        private final HostAndPort node;
+
+        private final JedisPool pool;
+
+        /**
+         * 命令耗时的指数加权平均，权重 1/8
+         */
+        private volatile long latencyNanos;
+
+        /**
+         * 连续失败次数，成功一次即清零
+         */
+        private volatile int failures;
+
+        /**
+         * 失败惩罚的截止时间，为 System.nanoTime() 的值
+         */
+        private volatile long penalizedUntil;
+
+        Replica(HostAndPort node, JedisPool pool) {
+            this.node = node;
+            this.pool = pool;
+        }
+
+        public HostAndPort getNode() {
+            return node;
+        }
+
+        public JedisPool getPool() {
+            return pool;
+        }
+
+        public void recordLatency(long nanos) {
+            long current = latencyNanos;
+            latencyNanos = current + ((nanos - current) >> 3);
+            failures = 0;
+        }
+
+        /**
+         * 连接失败后施加惩罚，惩罚期从 1 秒起随连续失败次数翻倍，最长 30 秒，期间不会被选中
+         */
+        public void recordFailure() {
+            int failed = Math.min(failures, 5);
+            failures = failed + 1;
+            penalizedUntil = System.nanoTime() + Math.min(FAILURE_PENALTY_NANOS << failed, MAX_FAILURE_PENALTY_NANOS);
+        }
+
+        boolean isAvailable(long now) {
+            return failures == 0 || penalizedUntil - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisSentinelPool;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.util.Pool;
+import site.wetsion.framework.infrastucture.cache.callback.JedisCallback;
+import site.wetsion.framework.infrastucture.cache.callback.JedisClusterCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PipelineResponseCallback;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 哨兵模式（type=master）命令执行器，连接始终指向哨兵选出的当前主节点；
+ * 配置了从节点读路由时，只读命令发往从节点，从节点不可用时回退到主节点
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:24 AM
+ **/
+public class SentinelCommandExecutor extends AbstractPooledCommandExecutor {
+
+    private final JedisSentinelPool sentinelPool;
+
+    /**
+     * 从节点读路由，未开启时为 null
+     */
+    private final ReplicaRouter replicaRouter;
+
+    public SentinelCommandExecutor(JedisSentinelPool sentinelPool) {
+        this(sentinelPool, null);
+    }
+
+    public SentinelCommandExecutor(JedisSentinelPool sentinelPool, ReplicaRouter replicaRouter) {
+        super(sentinelPool);
+        this.sentinelPool = sentinelPool;
+        this.replicaRouter = replicaRouter;
+    }
+
+    public HostAndPort getCurrentHostMaster() {
+        return sentinelPool.getCurrentHostMaster();
+    }
+
+    @Override
+    public <T> T executeRead(String command, JedisCallback<T> jedisCallback,
+                             JedisClusterCallback<T> clusterCallback) {
+        return executeRead(command, jedisCallback);
+    }
+
+    @Override
+    public <T> T executeRead(String command, JedisCallback<T> jedisCallback) {
+        ReplicaRouter.Replica replica = replicaRouter == null ? null : replicaRouter.choose();
+        if (replica == null) {
+            return execute(command, jedisCallback);
+        }
+        long start = System.nanoTime();
+        try {
+            T result = execute(replica.getPool(), command, jedisCallback);
+            replica.recordLatency(System.nanoTime() - start);
+            return result;
+        } catch (JedisConnectionException e) {
+            // 只读命令可安全重试
+            replica.recordFailure();
+            return execute(command, jedisCallback);
+        }
+    }
+
+    @Override
+    public <T> T executeBatchableRead(String command, JedisCallback<T> jedisCallback,
+                                      JedisClusterCallback<T> clusterCallback,
+                                      PipelineResponseCallback<T> pipelineCallback) {
+        if (replicaRouter == null || replicaRouter.getReplicaCount() == 0) {
+            return executeBatchable(command, jedisCallback, clusterCallback, pipelineCallback);
+        }
+        return executeRead(command, jedisCallback);
+    }
+
+    @Override
+    public List<Pool<Jedis>> getReadPools() {
+        ReplicaRouter.Replica replica = replicaRouter == null ? null : replicaRouter.choose();
+        return replica == null ? getMasterPools() : Collections.singletonList(replica.getPool());
+    }
+}
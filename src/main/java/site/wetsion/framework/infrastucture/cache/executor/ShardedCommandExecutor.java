@@ -0,0 +1,180 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreakerRegistry;
+import site.wetsion.framework.infrastucture.cache.callback.JedisCallback;
+import site.wetsion.framework.infrastucture.cache.callback.JedisClusterCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PipelineResponseCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PiplineCallback;
+import site.wetsion.framework.infrastucture.cache.monitor.CommandLatencyMetrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 客户端分片模式（type=shared）命令执行器：每个分片一个连接池和一个 {@link StandaloneCommandExecutor}，
+ * 通过 {@link #forKey(String)} 按一致性哈希选出 key 所在分片的执行器。
+ * 无 key 的命令（publish、脚本管理等）发往第一个分片
+ *
+ * @author 霜华
+ * @date 2026/10/19 2:40 AM
+ **/
+public class ShardedCommandExecutor implements JedisCommandExecutor {
+
+    private final Map<String, StandaloneCommandExecutor> shards;
+
+    private final ConsistentHashRing<StandaloneCommandExecutor> ring;
+
+    private final StandaloneCommandExecutor primary;
+
+    private final ShardedMultiKeyCommands multiKeyCommands;
+
+    /**
+     * @param shardPools   分片名称（host:port）到连接池的映射，按配置顺序
+     * @param virtualNodes 每个分片的虚拟节点数
+     */
+    public ShardedCommandExecutor(Map<String, Pool<Jedis>> shardPools, int virtualNodes) {
+        Map<String, StandaloneCommandExecutor> shards = new LinkedHashMap<>();
+        for (Map.Entry<String, Pool<Jedis>> entry : shardPools.entrySet()) {
+            shards.put(entry.getKey(), new StandaloneCommandExecutor(entry.getValue()));
+        }
+        this.shards = shards;
+        this.ring = new ConsistentHashRing<>(shards, virtualNodes);
+        this.primary = ring.getShards().get(0);
+        this.multiKeyCommands = new ShardedMultiKeyCommands(this);
+    }
+
+    @Override
+    public JedisCommandExecutor forKey(String key) {
+        return ring.get(key);
+    }
+
+    @Override
+    public JedisCommandExecutor forKey(byte[] key) {
+        return ring.get(key);
+    }
+
+    @Override
+    public JedisCommandExecutor forKeys(String... keys) {
+        if (keys.length == 0) {
+            return primary;
+        }
+        StandaloneCommandExecutor shard = ring.get(keys[0]);
+        for (int i = 1; i < keys.length; i++) {
+            if (ring.get(keys[i]) != shard) {
+                throw new IllegalStateException("多 key 命令的 key 不在同一分片，请使用 hash tag");
+            }
+        }
+        return shard;
+    }
+
+    @Override
+    public JedisCommandExecutor forKeys(byte[]... keys) {
+        if (keys.length == 0) {
+            return primary;
+        }
+        StandaloneCommandExecutor shard = ring.get(keys[0]);
+        for (int i = 1; i < keys.length; i++) {
+            if (ring.get(keys[i]) != shard) {
+                throw new IllegalStateException("多 key 命令的 key 不在同一分片，请使用 hash tag");
+            }
+        }
+        return shard;
+    }
+
+    @Override
+    public <T> T execute(String command, JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback) {
+        return primary.execute(command, jedisCallback);
+    }
+
+    @Override
+    public <T> T execute(String command, JedisCallback<T> jedisCallback) {
+        return primary.execute(command, jedisCallback);
+    }
+
+    @Override
+    public <T> T executeBatchable(String command, JedisCallback<T> jedisCallback,
+                                  JedisClusterCallback<T> clusterCallback,
+                                  PipelineResponseCallback<T> pipelineCallback) {
+        return primary.executeBatchable(command, jedisCallback, clusterCallback, pipelineCallback);
+    }
+
+    @Override
+    public void enableLatencyMetrics(CommandLatencyMetrics latencyMetrics) {
+        for (StandaloneCommandExecutor shard : ring.getShards()) {
+            shard.enableLatencyMetrics(latencyMetrics);
+        }
+    }
+
+    /**
+     * 每个分片一个熔断器，名称为 endpoint-host:port
+     */
+    @Override
+    public void enableCircuitBreaker(CircuitBreakerRegistry registry, String endpoint) {
+        for (Map.Entry<String, StandaloneCommandExecutor> shard : shards.entrySet()) {
+            shard.getValue().enableCircuitBreaker(registry, endpoint + "-" + shard.getKey());
+        }
+    }
+
+    /**
+     * 每个分片各自开启自动批量，须在执行器发布给其他线程之前调用
+     */
+    public void enableAutoBatch(int maxBatchSize, long windowMicros, long timeoutMillis) {
+        for (StandaloneCommandExecutor shard : ring.getShards()) {
+            shard.enableAutoBatch(maxBatchSize, windowMicros, timeoutMillis);
+        }
+    }
+
+    @Override
+    public void executePipeline(PiplineCallback callback) {
+        ShardedPipeline pipeline = new ShardedPipeline(this);
+        callback.callback(pipeline);
+        pipeline.sync();
+    }
+
+    /**
+     * 分片模式下连接属于某个分片，返回 null，需要连接时通过 {@link #forKey(String)} 选出分片
+     */
+    @Override
+    public Jedis getJedis() {
+        return null;
+    }
+
+    @Override
+    public List<Pool<Jedis>> getMasterPools() {
+        List<Pool<Jedis>> pools = new ArrayList<>(ring.getShards().size());
+        for (StandaloneCommandExecutor shard : ring.getShards()) {
+            pools.add(shard.getPool());
+        }
+        return pools;
+    }
+
+    @Override
+    public void close() {
+        for (StandaloneCommandExecutor shard : ring.getShards()) {
+            shard.close();
+        }
+    }
+
+    public Pool<Jedis> getShardPool(String key) {
+        return ring.get(key).getPool();
+    }
+
+    public Pool<Jedis> getShardPool(byte[] key) {
+        return ring.get(key).getPool();
+    }
+
+    /**
+     * 无 key 命令使用的第一个分片
+     */
+    public Pool<Jedis> getPrimaryPool() {
+        return primary.getPool();
+    }
+
+    public ShardedMultiKeyCommands getMultiKeyCommands() {
+        return multiKeyCommands;
+    }
+}
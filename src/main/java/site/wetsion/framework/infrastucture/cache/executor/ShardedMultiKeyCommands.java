@@ -0,0 +1,186 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Response;
+import redis.clients.util.Pool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分片模式下跨分片的多 key 命令：按分片拆分，每个分片一条命令，
+ * 通过 {@link ShardedPipeline} 一次发往所有分片，结果按原始 key 顺序重新组装
+ *
+ * @author 霜华
+ * @date 2026/10/19 2:40 AM
+ **/
+public class ShardedMultiKeyCommands {
+
+    private final ShardedCommandExecutor executor;
+
+    public ShardedMultiKeyCommands(ShardedCommandExecutor executor) {
+        this.executor = executor;
+    }
+
+    public List<String> mget(String... keys) {
+        Collection<List<Integer>> groups = groupByShard(keys, 1);
+        ShardedPipeline pipeline = new ShardedPipeline(executor);
+        List<Response<List<String>>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            String[] shardKeys = new String[group.size()];
+            for (int i = 0; i < shardKeys.length; i++) {
+                shardKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.mget(shardKeys));
+        }
+        pipeline.sync();
+        String[] values = new String[keys.length];
+        int g = 0;
+        for (List<Integer> group : groups) {
+            List<String> shardValues = responses.get(g++).get();
+            for (int i = 0; i < group.size(); i++) {
+                values[group.get(i)] = shardValues.get(i);
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    public List<byte[]> mget(byte[]... keys) {
+        Collection<List<Integer>> groups = groupByShard(keys, 1);
+        ShardedPipeline pipeline = new ShardedPipeline(executor);
+        List<Response<List<byte[]>>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            byte[][] shardKeys = new byte[group.size()][];
+            for (int i = 0; i < shardKeys.length; i++) {
+                shardKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.mget(shardKeys));
+        }
+        pipeline.sync();
+        byte[][] values = new byte[keys.length][];
+        int g = 0;
+        for (List<Integer> group : groups) {
+            List<byte[]> shardValues = responses.get(g++).get();
+            for (int i = 0; i < group.size(); i++) {
+                values[group.get(i)] = shardValues.get(i);
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    public String mset(String... keysvalues) {
+        Collection<List<Integer>> groups = groupByShard(keysvalues, 2);
+        ShardedPipeline pipeline = new ShardedPipeline(executor);
+        List<Response<String>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            String[] shardKeysvalues = new String[group.size() * 2];
+            for (int i = 0; i < group.size(); i++) {
+                shardKeysvalues[i * 2] = keysvalues[group.get(i)];
+                shardKeysvalues[i * 2 + 1] = keysvalues[group.get(i) + 1];
+            }
+            responses.add(pipeline.mset(shardKeysvalues));
+        }
+        pipeline.sync();
+        return joinStatus(responses);
+    }
+
+    public String mset(byte[]... keysvalues) {
+        Collection<List<Integer>> groups = groupByShard(keysvalues, 2);
+        ShardedPipeline pipeline = new ShardedPipeline(executor);
+        List<Response<String>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            byte[][] shardKeysvalues = new byte[group.size() * 2][];
+            for (int i = 0; i < group.size(); i++) {
+                shardKeysvalues[i * 2] = keysvalues[group.get(i)];
+                shardKeysvalues[i * 2 + 1] = keysvalues[group.get(i) + 1];
+            }
+            responses.add(pipeline.mset(shardKeysvalues));
+        }
+        pipeline.sync();
+        return joinStatus(responses);
+    }
+
+    public Long del(String... keys) {
+        Collection<List<Integer>> groups = groupByShard(keys, 1);
+        ShardedPipeline pipeline = new ShardedPipeline(executor);
+        List<Response<Long>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            String[] shardKeys = new String[group.size()];
+            for (int i = 0; i < shardKeys.length; i++) {
+                shardKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.del(shardKeys));
+        }
+        pipeline.sync();
+        return sum(responses);
+    }
+
+    public Long del(byte[]... keys) {
+        Collection<List<Integer>> groups = groupByShard(keys, 1);
+        ShardedPipeline pipeline = new ShardedPipeline(executor);
+        List<Response<Long>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            byte[][] shardKeys = new byte[group.size()][];
+            for (int i = 0; i < shardKeys.length; i++) {
+                shardKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.del(shardKeys));
+        }
+        pipeline.sync();
+        return sum(responses);
+    }
+
+    public Long exists(String... keys) {
+        Collection<List<Integer>> groups = groupByShard(keys, 1);
+        ShardedPipeline pipeline = new ShardedPipeline(executor);
+        List<Response<Long>> responses = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            String[] shardKeys = new String[group.size()];
+            for (int i = 0; i < shardKeys.length; i++) {
+                shardKeys[i] = keys[group.get(i)];
+            }
+            responses.add(pipeline.exists(shardKeys));
+        }
+        pipeline.sync();
+        return sum(responses);
+    }
+
+    /**
+     * 按分片分组，返回每组 key 在参数数组中的下标；mset 的参数为 key/value 交替，step 为 2
+     */
+    private Collection<List<Integer>> groupByShard(String[] keys, int step) {
+        Map<Pool<Jedis>, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i += step) {
+            groups.computeIfAbsent(executor.getShardPool(keys[i]), k -> new ArrayList<>()).add(i);
+        }
+        return groups.values();
+    }
+
+    private Collection<List<Integer>> groupByShard(byte[][] keys, int step) {
+        Map<Pool<Jedis>, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i += step) {
+            groups.computeIfAbsent(executor.getShardPool(keys[i]), k -> new ArrayList<>()).add(i);
+        }
+        return groups.values();
+    }
+
+    private static String joinStatus(List<Response<String>> responses) {
+        String status = null;
+        for (Response<String> response : responses) {
+            status = response.get();
+        }
+        return status;
+    }
+
+    private static Long sum(List<Response<Long>> responses) {
+        long total = 0;
+        for (Response<Long> response : responses) {
+            total += response.get();
+        }
+        return total;
+    }
+}
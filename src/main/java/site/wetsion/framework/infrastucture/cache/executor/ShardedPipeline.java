@@ -0,0 +1,218 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.util.Pool;
+import redis.clients.util.SafeEncoder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分片版 Pipeline：命令先在本地记录，sync 时按 key 所在分片分组，
+ * 先向所有分片写出并 flush 再依次读取，结果按调用方的提交顺序返回。
+ * 无 key 的命令发往第一个分片，不支持 multi/exec
+ *
+ * @author 霜华
+ * @date 2026/10/19 2:40 AM
+ **/
+public class ShardedPipeline extends Pipeline {
+
+    private static final Method SEND_COMMAND;
+
+    private static final Method FLUSH;
+
+    static {
+        try {
+            SEND_COMMAND = Connection.class.getDeclaredMethod("sendCommand", Protocol.Command.class, byte[][].class);
+            SEND_COMMAND.setAccessible(true);
+            FLUSH = Connection.class.getDeclaredMethod("flush");
+            FLUSH.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("当前 jedis 版本不支持分片 pipeline", e);
+        }
+    }
+
+    private final ShardedCommandExecutor executor;
+
+    private final List<QueuedCommand> commands = new ArrayList<>();
+
+    /**
+     * 单 key 命令在 getClient(key) 时记录分片，紧随其后的 sendCommand 使用
+     */
+    private Pool<Jedis> shardHint;
+
+    public ShardedPipeline(ShardedCommandExecutor executor) {
+        this.executor = executor;
+        setClient(new RecordingClient());
+    }
+
+    @Override
+    protected Client getClient(String key) {
+        shardHint = executor.getShardPool(key);
+        return client;
+    }
+
+    @Override
+    protected Client getClient(byte[] key) {
+        shardHint = executor.getShardPool(key);
+        return client;
+    }
+
+    @Override
+    public Response<String> multi() {
+        throw new UnsupportedOperationException("分片pipeline不支持事务");
+    }
+
+    @Override
+    public void sync() {
+        if (commands.isEmpty()) {
+            return;
+        }
+        for (Object reply : execute()) {
+            generateResponse(reply);
+        }
+    }
+
+    @Override
+    public List<Object> syncAndReturnAll() {
+        if (commands.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> formatted = new ArrayList<>(commands.size());
+        for (Object reply : execute()) {
+            try {
+                formatted.add(generateResponse(reply).get());
+            } catch (JedisDataException e) {
+                formatted.add(e);
+            }
+        }
+        return formatted;
+    }
+
+    private Object[] execute() {
+        Object[] replies = new Object[commands.size()];
+        try {
+            Map<Pool<Jedis>, List<Integer>> groups = new LinkedHashMap<>();
+            for (int i = 0; i < commands.size(); i++) {
+                groups.computeIfAbsent(commands.get(i).shard, k -> new ArrayList<>()).add(i);
+            }
+            dispatch(groups, replies);
+            return replies;
+        } catch (RuntimeException e) {
+            clean();
+            throw e;
+        } finally {
+            commands.clear();
+        }
+    }
+
+    /**
+     * 先向所有分片写出并 flush，再依次读取各分片的回复
+     */
+    private void dispatch(Map<Pool<Jedis>, List<Integer>> groups, Object[] replies) {
+        List<ShardBatch> batches = new ArrayList<>(groups.size());
+        try {
+            for (Map.Entry<Pool<Jedis>, List<Integer>> group : groups.entrySet()) {
+                ShardBatch batch = new ShardBatch(group.getKey().getResource(), group.getValue());
+                batches.add(batch);
+                Client shardClient = batch.jedis.getClient();
+                for (int index : batch.indexes) {
+                    QueuedCommand command = commands.get(index);
+                    invoke(SEND_COMMAND, shardClient, command.command, command.args);
+                }
+                invoke(FLUSH, shardClient);
+            }
+            for (ShardBatch batch : batches) {
+                List<Object> shardReplies = batch.jedis.getClient().getAll();
+                batch.read = true;
+                for (int i = 0; i < batch.indexes.size(); i++) {
+                    replies[batch.indexes.get(i)] = shardReplies.get(i);
+                }
+            }
+        } finally {
+            for (ShardBatch batch : batches) {
+                if (!batch.read) {
+                    // 未读完的回复会污染连接，断开后归还，下次借出时自动重连
+                    batch.jedis.getClient().disconnect();
+                }
+                batch.jedis.close();
+            }
+        }
+    }
+
+    private static void invoke(Method method, Client shardClient, Object... args) {
+        try {
+            method.invoke(shardClient, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Pool<Jedis> shardOf(Protocol.Command command, byte[]... args) {
+        if (command == Protocol.Command.EVAL || command == Protocol.Command.EVALSHA) {
+            // EVAL script numkeys key [key ...]
+            return args.length > 2 && Integer.parseInt(SafeEncoder.encode(args[1])) > 0
+                    ? executor.getShardPool(args[2]) : executor.getPrimaryPool();
+        }
+        return args.length == 0 ? executor.getPrimaryPool() : executor.getShardPool(args[0]);
+    }
+
+    private static final class QueuedCommand {
+
+        private final Pool<Jedis> shard;
+
+        private final Protocol.Command command;
+
+        private final byte[][] args;
+
+        QueuedCommand(Pool<Jedis> shard, Protocol.Command command, byte[][] args) {
+            this.shard = shard;
+            this.command = command;
+            this.args = args;
+        }
+    }
+
+    private static final class ShardBatch {
+
+        private final Jedis jedis;
+
+        private final List<Integer> indexes;
+
+        private boolean read;
+
+        ShardBatch(Jedis jedis, List<Integer> indexes) {
+            this.jedis = jedis;
+            this.indexes = indexes;
+        }
+    }
+
+    /**
+     * 只记录命令，不持有连接
+     */
+    private final class RecordingClient extends Client {
+
+        @Override
+        protected Connection sendCommand(Protocol.Command cmd, byte[]... args) {
+            Pool<Jedis> shard = shardHint != null ? shardHint : shardOf(cmd, args);
+            shardHint = null;
+            commands.add(new QueuedCommand(shard, cmd, args));
+            return this;
+        }
+    }
+}
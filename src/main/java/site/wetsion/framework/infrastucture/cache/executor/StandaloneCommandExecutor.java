@@ -0,0 +1,17 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+/**
+ * 单机模式（type=pool）命令执行器
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:24 AM
+ **/
+public class StandaloneCommandExecutor extends AbstractPooledCommandExecutor {
+
+    public StandaloneCommandExecutor(Pool<Jedis> pool) {
+        super(pool);
+    }
+}
@@ -0,0 +1,183 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.util.JedisClusterCRC16;
+import site.wetsion.framework.infrastucture.cache.callback.JedisCallback;
+import site.wetsion.framework.infrastucture.cache.callback.TransactionWriteCallback;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WATCH/MULTI 乐观事务执行器：WATCH 指定 key 后执行读阶段，再在 MULTI 中执行写阶段，
+ * EXEC 因 key 被并发修改而中止时按带随机抖动的指数退避重试，直到用完尝试次数。
+ * 集群模式下所有 watch 的 key 必须位于同一槽位，事务在该槽位所在节点上执行；槽位迁移导致的
+ * MOVED/ASK、TRYAGAIN 或 EXECABORT 会刷新槽位缓存后计入尝试次数重试。
+ * 每次尝试都经过执行器，与其他命令一样受熔断和耗时统计约束
+ *
+ * @author 霜华
+ * @date 2026/10/18 8:40 PM
+ **/
+public class TransactionRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionRunner.class);
+
+    private final JedisCommandExecutor executor;
+
+    private final int maxAttempts;
+
+    private final long baseBackoffMillis;
+
+    private final long maxBackoffMillis;
+
+    private final LongAdder attempts = new LongAdder();
+
+    private final LongAdder conflicts = new LongAdder();
+
+    private final LongAdder commits = new LongAdder();
+
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * @param maxAttempts       单次事务最多尝试次数
+     * @param baseBackoffMillis 首次重试的退避上限，之后每次翻倍
+     * @param maxBackoffMillis  退避上限
+     */
+    public TransactionRunner(JedisCommandExecutor executor, int maxAttempts, long baseBackoffMillis,
+                             long maxBackoffMillis) {
+        this.executor = executor;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * 执行乐观事务，读阶段和写阶段在每次重试时都会重新执行，因此不应有 redis 之外的副作用
+     *
+     * @param watchKeys 需要 WATCH 的 key
+     * @param read      读阶段，在 WATCH 之后、MULTI 之前执行
+     * @param write     写阶段，参数为本次读阶段的结果
+     * @return EXEC 的返回值
+     * @throws IllegalStateException 尝试次数用完仍被中止
+     */
+    public <R> List<Object> run(List<String> watchKeys, JedisCallback<R> read, TransactionWriteCallback<R> write) {
+        String[] keys = watchKeys.toArray(new String[0]);
+        int slot = slot(watchKeys);
+        JedisCallback<List<Object>> transaction = jedis -> {
+            jedis.watch(keys);
+            R value = read.callback(jedis);
+            Transaction multi = jedis.multi();
+            write.callback(multi, value);
+            return multi.exec();
+        };
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            attempts.increment();
+            List<Object> result;
+            try {
+                result = slot < 0
+                        ? executor.forKeys(keys).execute("transaction", transaction)
+                        : ((ClusterCommandExecutor) executor).executeOnSlot("transaction", slot, transaction);
+            } catch (JedisDataException e) {
+                if (slot < 0 || !isSlotMigration(e) || attempt + 1 >= maxAttempts) {
+                    throw e;
+                }
+                log.info("[TransactionRunner][run] slot {} is migrating, retry: {}", slot, e.getMessage());
+                ((ClusterCommandExecutor) executor).getSlotCache().renew();
+                if (!backoff(attempt)) {
+                    throw e;
+                }
+                continue;
+            }
+            if (result != null) {
+                commits.increment();
+                return result;
+            }
+            conflicts.increment();
+            if (attempt + 1 < maxAttempts && !backoff(attempt)) {
+                break;
+            }
+        }
+        exhausted.increment();
+        log.warn("[TransactionRunner][run] transaction on {} aborted after {} attempts", watchKeys, maxAttempts);
+        throw new IllegalStateException("transaction aborted after " + maxAttempts + " attempts");
+    }
+
+    /**
+     * 集群模式下返回所有 key 共同的槽位，其他模式返回 -1
+     */
+    private int slot(List<String> watchKeys) {
+        if (watchKeys.isEmpty()) {
+            throw new IllegalArgumentException("watch keys must not be empty");
+        }
+        if (!(executor instanceof ClusterCommandExecutor)) {
+            return -1;
+        }
+        int slot = JedisClusterCRC16.getSlot(watchKeys.get(0));
+        for (String key : watchKeys) {
+            if (JedisClusterCRC16.getSlot(key) != slot) {
+                throw new IllegalArgumentException("watch keys must hash to the same slot in cluster mode");
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * WATCH 或读阶段收到 MOVED/ASK，迁移中的多 key 操作收到 TRYAGAIN，
+     * 或 MULTI 中排队的命令被重定向导致 EXEC 被丢弃
+     */
+    private static boolean isSlotMigration(JedisDataException e) {
+        String message = e.getMessage();
+        return e instanceof JedisRedirectionException
+                || message != null && (message.startsWith("TRYAGAIN") || message.startsWith("EXECABORT"));
+    }
+
+    /**
+     * 全抖动退避：在 [0, min(max, base * 2^attempt)] 内随机休眠，被中断时返回 false
+     */
+    private boolean backoff(int attempt) {
+        long cap = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt, 20));
+        if (cap <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public long getAttempts() {
+        return attempts.sum();
+    }
+
+    public long getConflicts() {
+        return conflicts.sum();
+    }
+
+    public long getCommits() {
+        return commits.sum();
+    }
+
+    /**
+     * 用完尝试次数仍未提交的事务数
+     */
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    /**
+     * 冲突率，即被中止的 EXEC 占全部尝试的比例
+     */
+    public double getConflictRate() {
+        long total = attempts.sum();
+        return total == 0 ? 0 : (double) conflicts.sum() / total;
+    }
+}
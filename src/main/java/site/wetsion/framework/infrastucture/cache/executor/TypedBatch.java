@@ -0,0 +1,232 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.util.SafeEncoder;
+import site.wetsion.framework.infrastucture.cache.util.SerializeUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 带类型的批量命令：记录命令并按块通过 pipeline 发送，读命令的返回值经 {@link SerializeUtil} 解码为 T。
+ * 待发送的命令数或字节数达到上限时自动发送一块，内存占用与批次总量无关；
+ * 开启自适应时按每块实际往返耗时调整块大小，使单块耗时接近目标值。
+ * 每块发送后（包括发送失败）把其中写命令的 key 通知给 {@link #onWritten(Consumer)} 登记的监听器，用于失效近端缓存
+ *
+ * @author 霜华
+ * @date 2026/10/18 9:10 PM
+ **/
+public class TypedBatch<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(TypedBatch.class);
+
+    private static final int MIN_CHUNK_SIZE = 16;
+
+    private final JedisCommandExecutor executor;
+
+    private final Class<T> type;
+
+    private final Function<String, byte[]> keyEncoder;
+
+    private final int maxCommands;
+
+    private final long maxBytes;
+
+    private final long targetFlushNanos;
+
+    private final List<T> results = new ArrayList<>();
+
+    private List<QueuedCommand> pending = new ArrayList<>();
+
+    /**
+     * 当前块中写命令的 key
+     */
+    private List<String> pendingWrites = new ArrayList<>();
+
+    private Consumer<String> writeListener;
+
+    private long pendingBytes;
+
+    private int chunkSize;
+
+    /**
+     * @param keyEncoder        key 的编码方式，需与写入方一致
+     * @param maxCommands       单块最多命令数，也是自适应块大小的上限
+     * @param maxBytes          单块最多 key 和 value 字节数
+     * @param targetFlushMillis 单块目标往返耗时，不大于 0 时不调整块大小
+     */
+    public TypedBatch(JedisCommandExecutor executor, Class<T> type, Function<String, byte[]> keyEncoder,
+                      int maxCommands, long maxBytes, long targetFlushMillis) {
+        this.executor = executor;
+        this.type = type;
+        this.keyEncoder = keyEncoder;
+        this.maxCommands = Math.max(MIN_CHUNK_SIZE, maxCommands);
+        this.maxBytes = maxBytes;
+        this.targetFlushNanos = TimeUnit.MILLISECONDS.toNanos(targetFlushMillis);
+        this.chunkSize = this.maxCommands;
+    }
+
+    public TypedBatch<T> get(String key) {
+        byte[] rawKey = keyEncoder.apply(key);
+        return read(pipeline -> pipeline.get(rawKey), rawKey.length);
+    }
+
+    public TypedBatch<T> hget(String key, String field) {
+        byte[] rawKey = keyEncoder.apply(key);
+        byte[] rawField = SafeEncoder.encode(field);
+        return read(pipeline -> pipeline.hget(rawKey, rawField), rawKey.length + rawField.length);
+    }
+
+    public TypedBatch<T> lindex(String key, long index) {
+        byte[] rawKey = keyEncoder.apply(key);
+        return read(pipeline -> pipeline.lindex(rawKey, index), rawKey.length);
+    }
+
+    public TypedBatch<T> lpop(String key) {
+        byte[] rawKey = keyEncoder.apply(key);
+        return read(pipeline -> pipeline.lpop(rawKey), rawKey.length);
+    }
+
+    public TypedBatch<T> rpop(String key) {
+        byte[] rawKey = keyEncoder.apply(key);
+        return read(pipeline -> pipeline.rpop(rawKey), rawKey.length);
+    }
+
+    public TypedBatch<T> set(String key, T value) {
+        byte[] rawKey = keyEncoder.apply(key);
+        byte[] rawValue = SerializeUtil.serialize(value);
+        return write(key, pipeline -> pipeline.set(rawKey, rawValue), rawKey.length + rawValue.length);
+    }
+
+    public TypedBatch<T> setex(String key, int seconds, T value) {
+        byte[] rawKey = keyEncoder.apply(key);
+        byte[] rawValue = SerializeUtil.serialize(value);
+        return write(key, pipeline -> pipeline.setex(rawKey, seconds, rawValue), rawKey.length + rawValue.length);
+    }
+
+    public TypedBatch<T> hset(String key, String field, T value) {
+        byte[] rawKey = keyEncoder.apply(key);
+        byte[] rawField = SafeEncoder.encode(field);
+        byte[] rawValue = SerializeUtil.serialize(value);
+        return write(key, pipeline -> pipeline.hset(rawKey, rawField, rawValue),
+                rawKey.length + rawField.length + rawValue.length);
+    }
+
+    public TypedBatch<T> del(String key) {
+        byte[] rawKey = keyEncoder.apply(key);
+        return write(key, pipeline -> pipeline.del(rawKey), rawKey.length);
+    }
+
+    public TypedBatch<T> expire(String key, int seconds) {
+        byte[] rawKey = keyEncoder.apply(key);
+        return write(key, pipeline -> pipeline.expire(rawKey, seconds), rawKey.length);
+    }
+
+    private TypedBatch<T> read(Function<Pipeline, Response<byte[]>> command, int bytes) {
+        return queue(command::apply, bytes);
+    }
+
+    private TypedBatch<T> write(String key, Function<Pipeline, ?> command, int bytes) {
+        pendingWrites.add(key);
+        return queue(pipeline -> {
+            command.apply(pipeline);
+            return null;
+        }, bytes);
+    }
+
+    private TypedBatch<T> queue(QueuedCommand command, int bytes) {
+        pending.add(command);
+        pendingBytes += bytes;
+        if (pending.size() >= chunkSize || pendingBytes >= maxBytes) {
+            flush();
+        }
+        return this;
+    }
+
+    /**
+     * 发送尚未发送的命令
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<QueuedCommand> chunk = pending;
+        List<String> writes = pendingWrites;
+        pending = new ArrayList<>();
+        pendingWrites = new ArrayList<>();
+        pendingBytes = 0;
+        List<Response<byte[]>> responses = new ArrayList<>(chunk.size());
+        long start = System.nanoTime();
+        try {
+            executor.executePipeline(pipeline -> {
+                for (QueuedCommand command : chunk) {
+                    responses.add(command.queue(pipeline));
+                }
+                pipeline.sync();
+            });
+        } finally {
+            // 发送失败时部分写命令可能已生效，同样通知
+            if (writeListener != null) {
+                writes.forEach(writeListener);
+            }
+        }
+        adapt(chunk.size(), System.nanoTime() - start);
+        for (Response<byte[]> response : responses) {
+            if (response != null) {
+                byte[] value = response.get();
+                results.add(value != null && value.length > 0 ? SerializeUtil.deserialize(value, type) : null);
+            }
+        }
+    }
+
+    /**
+     * 按本块耗时与目标耗时的比例估算理想块大小，与当前值取平均以平滑抖动；
+     * 只有满块才参与调整，避免末尾的零散命令把块大小拉低
+     */
+    private void adapt(int size, long elapsedNanos) {
+        if (targetFlushNanos <= 0 || size < chunkSize || elapsedNanos <= 0) {
+            return;
+        }
+        long ideal = size * targetFlushNanos / elapsedNanos;
+        int adapted = (int) Math.max(MIN_CHUNK_SIZE, Math.min(maxCommands, (chunkSize + ideal) / 2));
+        if (adapted != chunkSize) {
+            log.debug("[TypedBatch][adapt] chunk of {} took {}us, chunk size {} -> {}", size,
+                    TimeUnit.NANOSECONDS.toMicros(elapsedNanos), chunkSize, adapted);
+            chunkSize = adapted;
+        }
+    }
+
+    /**
+     * 发送剩余命令并返回全部读命令的结果，顺序与读命令记录顺序一致，key 不存在时为 null；写命令不产生结果
+     */
+    public List<T> execute() {
+        flush();
+        return results;
+    }
+
+    /**
+     * 登记写入监听器，每块发送后以该块中每个写命令的 key 调用一次，发送失败时也会调用
+     */
+    public TypedBatch<T> onWritten(Consumer<String> listener) {
+        this.writeListener = listener;
+        return this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private interface QueuedCommand {
+
+        /**
+         * @return 读命令的响应，写命令返回 null
+         */
+        Response<byte[]> queue(Pipeline pipeline);
+    }
+}
@@ -0,0 +1,77 @@
+package site.wetsion.framework.infrastucture.cache.local;
+
+/**
+ * 4 位计数器的 Count-Min Sketch，用于估算 key 的近期访问频率。
+ * 记录次数达到样本数后所有计数减半，使频率随时间衰减。非线程安全，由调用方加锁
+ *
+ * @author 霜华
+ * @date 2026/10/18 9:40 PM
+ **/
+class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+
+    private final int tableMask;
+
+    private final int sampleSize;
+
+    private int size;
+
+    FrequencySketch(long maximumSize) {
+        int capacity = (int) Math.min(maximumSize, 1 << 30);
+        int length = Integer.highestOneBit(Math.max(capacity, 8) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * Math.max(capacity, 8);
+    }
+
+    int frequency(int hash) {
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int offset = counterOffset(hash, i);
+            frequency = Math.min(frequency, (int) ((table[index] >>> offset) & 0xF));
+        }
+        return frequency;
+    }
+
+    void increment(int hash) {
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int offset = counterOffset(hash, i);
+            if (((table[index] >>> offset) & 0xF) != 0xF) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    /**
+     * 每个 long 含 16 个计数器，按 hash 的不同位选择其中之一
+     */
+    private int counterOffset(int hash, int i) {
+        return (((hash >>> (i << 3)) & 0x3) + (i << 2)) << 2;
+    }
+}
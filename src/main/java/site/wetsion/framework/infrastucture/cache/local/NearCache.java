@@ -0,0 +1,399 @@
+package site.wetsion.framework.infrastucture.cache.local;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 进程内近端缓存，按条目数限制容量，采用 W-TinyLFU 淘汰：
+ * 新条目先进入 1% 容量的 LRU 窗口区，被挤出窗口后与主区（SLRU，试用区 + 80% 保护区）
+ * 的淘汰候选比较频率，频率更高者留下。频率由 {@link FrequencySketch} 估算。
+ * <p>
+ * 读路径只做一次无锁查找，访问顺序的调整在拿不到锁时直接跳过；
+ * 条目的存活时间受命名空间（key 中第一个 ':' 之前的部分）对应的上限约束。
+ * 缓存的是反序列化后的对象，调用方不应修改返回的对象
+ *
+ * @author 霜华
+ * @date 2026/10/18 9:40 PM
+ **/
+public class NearCache {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final Map<String, Node> data = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final FrequencySketch sketch;
+
+    private final long maximumSize;
+
+    private final long windowMaximum;
+
+    private final long protectedMaximum;
+
+    private final long defaultTtlNanos;
+
+    private final Map<String, Long> namespaceTtlNanos = new ConcurrentHashMap<>();
+
+    private final AccessDeque window = new AccessDeque();
+
+    private final AccessDeque probation = new AccessDeque();
+
+    private final AccessDeque protectedDeque = new AccessDeque();
+
+    private long windowSize;
+
+    private long protectedSize;
+
+    /**
+     * 失效版本分段数，须为 2 的幂
+     */
+    private static final int STAMP_STRIPES = 4096;
+
+    /**
+     * 按 key 哈希分段的失效版本，key 失效时其所在分段加一，回填时据此丢弃在读取期间已被失效的值。
+     * 只有落在同一分段的 key 会互相影响，其他 key 的失效不会丢弃回填
+     */
+    private final AtomicLongArray invalidationStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    /**
+     * 暂停时不再回填，用于无法收到失效通知期间
+     */
+    private volatile boolean suspended;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize         最多缓存条目数
+     * @param defaultTtlSeconds   未单独配置的命名空间的存活时间上限
+     * @param namespaceTtlSeconds 命名空间 -> 存活时间上限，单位秒
+     */
+    public NearCache(long maximumSize, long defaultTtlSeconds, Map<String, Long> namespaceTtlSeconds) {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.windowMaximum = Math.max(1, this.maximumSize / 100);
+        this.protectedMaximum = (this.maximumSize - windowMaximum) * 80 / 100;
+        this.sketch = new FrequencySketch(this.maximumSize);
+        this.defaultTtlNanos = TimeUnit.SECONDS.toNanos(defaultTtlSeconds);
+        Map<String, Long> namespaces = namespaceTtlSeconds == null ? Collections.emptyMap() : namespaceTtlSeconds;
+        namespaces.forEach((namespace, ttl) -> namespaceTtlNanos.put(namespace, TimeUnit.SECONDS.toNanos(ttl)));
+    }
+
+    /**
+     * @return 未命中或已过期时返回 null
+     */
+    public Object get(String key) {
+        Node node = data.get(key);
+        if (node == null || node.expireAt - System.nanoTime() <= 0) {
+            misses.increment();
+            if (lock.tryLock()) {
+                try {
+                    sketch.increment(key.hashCode());
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return null;
+        }
+        hits.increment();
+        if (lock.tryLock()) {
+            try {
+                sketch.increment(key.hashCode());
+                if (data.get(key) == node) {
+                    onAccess(node);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * 忽略过期时间读取本地值，不计入命中率；已失效的 key 不会返回，用于 redis 不可用时降级
+     */
+    public Object getStale(String key) {
+        Node node = data.get(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * 未命中后从 redis 读取前调用，作为 {@link #put(String, Object, long)} 的参数
+     */
+    public long stamp(String key) {
+        return invalidationStamps.get(stripe(key));
+    }
+
+    /**
+     * 回填读取到的值，读取期间发生过失效时放弃回填，避免缓存旧值
+     */
+    public void put(String key, Object value, long stamp) {
+        if (value == null || suspended) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (stamp != invalidationStamps.get(stripe(key))) {
+                return;
+            }
+            long expireAt = System.nanoTime() + ttlNanos(key);
+            Node node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                node.expireAt = expireAt;
+                onAccess(node);
+                return;
+            }
+            node = new Node(key, value, expireAt);
+            data.put(key, node);
+            window.addFirst(node);
+            windowSize++;
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            invalidationStamps.incrementAndGet(stripe(key));
+            Node node = data.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            invalidateStamps();
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedDeque.clear();
+            windowSize = 0;
+            protectedSize = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 把所有条目标记为过期但不删除：之后的 {@link #get(String)} 不再命中，{@link #getStale(String)} 仍可读到，
+     * 读取期间的回填同样被放弃。用于暂时收不到失效通知、但 redis 故障时仍希望降级读取本地值的场景
+     */
+    public void expireAll() {
+        lock.lock();
+        try {
+            invalidateStamps();
+            long now = System.nanoTime();
+            for (Node node : data.values()) {
+                node.expireAt = now;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 暂停或恢复回填，暂停期间已缓存的条目仍可命中，调用方需自行 {@link #invalidateAll()} 或 {@link #expireAll()}
+     */
+    public void setSuspended(boolean suspended) {
+        this.suspended = suspended;
+    }
+
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    private static int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STAMP_STRIPES - 1);
+    }
+
+    private void invalidateStamps() {
+        for (int i = 0; i < STAMP_STRIPES; i++) {
+            invalidationStamps.incrementAndGet(i);
+        }
+    }
+
+    private long ttlNanos(String key) {
+        int index = key.indexOf(':');
+        Long ttl = namespaceTtlNanos.get(index < 0 ? key : key.substring(0, index));
+        return ttl != null ? ttl : defaultTtlNanos;
+    }
+
+    private void onAccess(Node node) {
+        if (node.queue == WINDOW) {
+            window.moveToFront(node);
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedDeque.addFirst(node);
+            protectedSize++;
+            while (protectedSize > protectedMaximum) {
+                Node demoted = protectedDeque.pollLast();
+                protectedSize--;
+                demoted.queue = PROBATION;
+                probation.addFirst(demoted);
+            }
+        } else {
+            protectedDeque.moveToFront(node);
+        }
+    }
+
+    /**
+     * 窗口区溢出的条目进入试用区；总数超限时，最新进入试用区的候选与试用区队尾比较频率，淘汰频率低者
+     */
+    private void evict() {
+        Node candidate = null;
+        while (windowSize > windowMaximum) {
+            candidate = window.pollLast();
+            windowSize--;
+            candidate.queue = PROBATION;
+            probation.addFirst(candidate);
+        }
+        while (data.size() > maximumSize) {
+            Node victim = probation.peekLast();
+            if (victim == null) {
+                victim = protectedDeque.peekLast() != null ? protectedDeque.peekLast() : window.peekLast();
+            } else if (candidate != null && candidate != victim
+                    && sketch.frequency(candidate.key.hashCode()) <= sketch.frequency(victim.key.hashCode())) {
+                victim = candidate;
+                candidate = null;
+            }
+            data.remove(victim.key);
+            unlink(victim);
+            evictions.increment();
+        }
+    }
+
+    private void unlink(Node node) {
+        if (node.queue == WINDOW) {
+            window.remove(node);
+            windowSize--;
+        } else if (node.queue == PROBATION) {
+            probation.remove(node);
+        } else {
+            protectedDeque.remove(node);
+            protectedSize--;
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    public long size() {
+        return data.size();
+    }
+
+    private static final class Node {
+
+        final String key;
+
+        volatile Object value;
+
+        volatile long expireAt;
+
+        int queue = WINDOW;
+
+        Node prev;
+
+        Node next;
+
+        Node(String key, Object value, long expireAt) {
+            this.key = key;
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+    }
+
+    /**
+     * 侵入式双向链表，头部为最近访问
+     */
+    private static final class AccessDeque {
+
+        private Node head;
+
+        private Node tail;
+
+        void addFirst(Node node) {
+            node.prev = null;
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            } else {
+                tail = node;
+            }
+            head = node;
+        }
+
+        void remove(Node node) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else {
+                head = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            } else {
+                tail = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToFront(Node node) {
+            if (head != node) {
+                remove(node);
+                addFirst(node);
+            }
+        }
+
+        Node peekLast() {
+            return tail;
+        }
+
+        Node pollLast() {
+            Node node = tail;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package site.wetsion.framework.infrastucture.cache.local;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import site.wetsion.framework.infrastucture.cache.pubsub.ConnectionListener;
+import site.wetsion.framework.infrastucture.cache.pubsub.Subscription;
+import site.wetsion.framework.infrastucture.cache.pubsub.SubscriptionManager;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * 近端缓存跨节点失效：本节点写入后把失效的 key 攒批发布到失效频道，其他节点收到后使本地缓存失效。
+ * 消息格式为 "节点标识\n发布时间戳\nkey1\nkey2..."，本节点发布的消息在接收时忽略。
+ * 订阅连接断开期间会错过失效通知，因此断开时把缓存全部标记为过期并暂停回填，
+ * 过期的条目只供 redis 不可用时降级读取；重新连上后清空缓存并恢复回填。
+ * 本节点没有近端缓存时只发布失效通知，不订阅
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:20 PM
+ **/
+public class NearCacheInvalidator implements ConnectionListener, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(NearCacheInvalidator.class);
+
+    private static final char SEPARATOR = '\n';
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final NearCache nearCache;
+
+    private final String channel;
+
+    private final BiFunction<String, String, Long> publisher;
+
+    private final long batchMillis;
+
+    private final int batchMaxKeys;
+
+    private final LinkedBlockingQueue<String> pending = new LinkedBlockingQueue<>();
+
+    /**
+     * 只发布时为 null
+     */
+    private final Subscription subscription;
+
+    private final Thread flusher;
+
+    private final LongAdder published = new LongAdder();
+
+    private final LongAdder received = new LongAdder();
+
+    private final LongAdder lagMillis = new LongAdder();
+
+    private final LongAdder messages = new LongAdder();
+
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    /**
+     * @param nearCache           本节点的近端缓存，为 null 时只发布
+     * @param subscriptionManager 只发布时可为 null
+     * @param publisher           发布消息的方式，参数为频道和消息
+     * @param batchMillis         攒批等待时间
+     * @param batchMaxKeys        单条消息最多携带的 key 数
+     */
+    public NearCacheInvalidator(NearCache nearCache, SubscriptionManager subscriptionManager, String channel,
+                                BiFunction<String, String, Long> publisher, long batchMillis, int batchMaxKeys) {
+        this.nearCache = nearCache;
+        this.channel = channel;
+        this.publisher = publisher;
+        this.batchMillis = batchMillis;
+        this.batchMaxKeys = Math.max(1, batchMaxKeys);
+        if (nearCache != null) {
+            // 首次连上之前收不到其他节点的失效通知
+            nearCache.setSuspended(true);
+            subscriptionManager.addConnectionListener(this);
+            this.subscription = subscriptionManager.subscribe(channel, (ch, message) -> onInvalidation(message));
+        } else {
+            this.subscription = null;
+        }
+        this.flusher = new Thread(this::flushLoop, "near-cache-invalidator");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 登记本节点写入的 key，由后台线程攒批发布
+     */
+    public void publish(String key) {
+        pending.offer(key);
+    }
+
+    private void flushLoop() {
+        List<String> batch = new ArrayList<>(batchMaxKeys);
+        while (running) {
+            try {
+                String first = pending.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchMillis);
+                while (batch.size() < batchMaxKeys) {
+                    long remaining = deadline - System.nanoTime();
+                    String key = remaining > 0 ? pending.poll(remaining, TimeUnit.NANOSECONDS) : pending.poll();
+                    if (key == null) {
+                        break;
+                    }
+                    batch.add(key);
+                }
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[NearCacheInvalidator][flushLoop] publish {} invalidations failed!", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<String> keys) {
+        StringBuilder message = new StringBuilder(nodeId).append(SEPARATOR).append(System.currentTimeMillis());
+        for (String key : keys) {
+            message.append(SEPARATOR).append(key);
+        }
+        publisher.apply(channel, message.toString());
+        published.add(keys.size());
+    }
+
+    private void onInvalidation(String message) {
+        int nodeEnd = message.indexOf(SEPARATOR);
+        int timeEnd = nodeEnd < 0 ? -1 : message.indexOf(SEPARATOR, nodeEnd + 1);
+        if (timeEnd < 0) {
+            log.warn("[NearCacheInvalidator][onInvalidation] malformed message: {}", message);
+            return;
+        }
+        if (message.regionMatches(0, nodeId, 0, nodeEnd) && nodeEnd == nodeId.length()) {
+            return;
+        }
+        int start = timeEnd + 1;
+        while (start <= message.length()) {
+            int end = message.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = message.length();
+            }
+            nearCache.invalidate(message.substring(start, end));
+            received.increment();
+            start = end + 1;
+        }
+        // 跨节点计算，包含节点间的时钟偏差
+        long lag = Math.max(0, System.currentTimeMillis() - Long.parseLong(message.substring(nodeEnd + 1, timeEnd)));
+        messages.increment();
+        lagMillis.add(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+    }
+
+    @Override
+    public void onConnected() {
+        nearCache.invalidateAll();
+        nearCache.setSuspended(false);
+        log.info("[NearCacheInvalidator] invalidation channel {} connected, near cache flushed", channel);
+    }
+
+    @Override
+    public void onDisconnected() {
+        nearCache.setSuspended(true);
+        // 不清空数据，getStale 在熔断降级时仍可读到
+        nearCache.expireAll();
+        log.warn("[NearCacheInvalidator] invalidation channel {} disconnected, near cache suspended", channel);
+    }
+
+    public long getPublishedInvalidations() {
+        return published.sum();
+    }
+
+    public long getReceivedInvalidations() {
+        return received.sum();
+    }
+
+    /**
+     * 从其他节点发布到本节点失效完成的平均延迟，单位毫秒
+     */
+    public long getAverageInvalidationLagMillis() {
+        long count = messages.sum();
+        return count == 0 ? 0 : lagMillis.sum() / count;
+    }
+
+    public long getMaxInvalidationLagMillis() {
+        return maxLagMillis.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        flusher.interrupt();
+        if (subscription != null) {
+            subscription.unsubscribe();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import java.util.Map;
+
+/**
+ * 按命令统计的客户端耗时，单位微秒；借连接耗时与网络耗时（命令发送到收到应答）分别统计
+ *
+ * @author 霜华
+ * @date 2026/10/19 12:20 AM
+ **/
+public interface CommandLatencyMXBean {
+
+    /**
+     * 部署模式：standalone、sentinel 或 cluster
+     */
+    String getMode();
+
+    Map<String, Long> getCounts();
+
+    Map<String, Long> getNetworkP50Micros();
+
+    Map<String, Long> getNetworkP99Micros();
+
+    Map<String, Long> getNetworkP999Micros();
+
+    Map<String, Long> getNetworkMaxMicros();
+
+    Map<String, Long> getBorrowP50Micros();
+
+    Map<String, Long> getBorrowP99Micros();
+
+    Map<String, Long> getBorrowP999Micros();
+
+    Map<String, Long> getBorrowMaxMicros();
+
+    /**
+     * 清空所有统计
+     */
+    void reset();
+}
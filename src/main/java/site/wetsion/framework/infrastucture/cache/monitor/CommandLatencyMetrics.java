@@ -0,0 +1,120 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 按命令名统计借连接耗时和网络耗时的直方图。命令名为调用方传入的字符串常量，
+ * 首次出现时创建直方图，之后的记录只有一次哈希查找和直方图自增，不分配对象。
+ * 集群模式由 JedisCluster 内部借还连接，借连接耗时计入网络耗时
+ *
+ * @author 霜华
+ * @date 2026/10/19 12:20 AM
+ **/
+public class CommandLatencyMetrics implements CommandLatencyMXBean {
+
+    /**
+     * 60 秒，单位微秒
+     */
+    private static final long HIGHEST_MICROS = 60_000_000L;
+
+    private final String mode;
+
+    private final Map<String, CommandHistograms> commands = new ConcurrentHashMap<>();
+
+    public CommandLatencyMetrics(String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * @param command      命令名，为 null 时不记录
+     * @param borrowNanos  借连接耗时，没有单独借连接时为 -1
+     * @param networkNanos 命令执行耗时
+     */
+    public void record(String command, long borrowNanos, long networkNanos) {
+        if (command == null) {
+            return;
+        }
+        CommandHistograms histograms = commands.get(command);
+        if (histograms == null) {
+            histograms = commands.computeIfAbsent(command, name -> new CommandHistograms());
+        }
+        if (borrowNanos >= 0) {
+            histograms.borrow.record(borrowNanos / 1000);
+        }
+        histograms.network.record(networkNanos / 1000);
+    }
+
+    private Map<String, Long> collect(ToLongFunction<CommandHistograms> metric) {
+        Map<String, Long> result = new TreeMap<>();
+        commands.forEach((command, histograms) -> result.put(command, metric.applyAsLong(histograms)));
+        return result;
+    }
+
+    @Override
+    public String getMode() {
+        return mode;
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return collect(histograms -> histograms.network.getCount());
+    }
+
+    @Override
+    public Map<String, Long> getNetworkP50Micros() {
+        return collect(histograms -> histograms.network.getValueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getNetworkP99Micros() {
+        return collect(histograms -> histograms.network.getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getNetworkP999Micros() {
+        return collect(histograms -> histograms.network.getValueAtPercentile(99.9));
+    }
+
+    @Override
+    public Map<String, Long> getNetworkMaxMicros() {
+        return collect(histograms -> histograms.network.getMax());
+    }
+
+    @Override
+    public Map<String, Long> getBorrowP50Micros() {
+        return collect(histograms -> histograms.borrow.getValueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getBorrowP99Micros() {
+        return collect(histograms -> histograms.borrow.getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getBorrowP999Micros() {
+        return collect(histograms -> histograms.borrow.getValueAtPercentile(99.9));
+    }
+
+    @Override
+    public Map<String, Long> getBorrowMaxMicros() {
+        return collect(histograms -> histograms.borrow.getMax());
+    }
+
+    @Override
+    public void reset() {
+        commands.values().forEach(histograms -> {
+            histograms.borrow.reset();
+            histograms.network.reset();
+        });
+    }
+
+    private static final class CommandHistograms {
+
+        final LogHistogram borrow = new LogHistogram(HIGHEST_MICROS);
+
+        final LogHistogram network = new LogHistogram(HIGHEST_MICROS);
+    }
+}
@@ -0,0 +1,244 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.util.SafeEncoder;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 热 key 探测：按采样率抽样记录命令的 key，用无锁的 Count-Min Sketch 估算访问次数，
+ * 并维护估算次数最高的 K 个 key。窗口分为前后两半，估算值为两半之和，每半个窗口滚动一次并上报，
+ * 因此上报结果始终覆盖最近一个完整窗口。
+ * <p>
+ * 只有估算次数超过当前 top-K 门槛的采样才需要加锁更新 top-K；未开启时调用方持有的引用为 null，不产生开销
+ *
+ * @author 霜华
+ * @date 2026/10/18 11:20 PM
+ **/
+public class HotKeyDetector implements HotKeysMXBean, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(HotKeyDetector.class);
+
+    private static final int DEPTH = 4;
+
+    private static final int WIDTH = 1 << 14;
+
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F};
+
+    private final int sampleRate;
+
+    private final int topK;
+
+    private final long windowSeconds;
+
+    private final boolean byPrefix;
+
+    private final List<HotKeyListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService rotator;
+
+    private volatile AtomicLongArray current = new AtomicLongArray(DEPTH * WIDTH);
+
+    private volatile AtomicLongArray previous = new AtomicLongArray(DEPTH * WIDTH);
+
+    /**
+     * top-K 候选，读写均在 this 上同步
+     */
+    private final Map<String, Long> candidates = new HashMap<>();
+
+    /**
+     * 估算次数最小的候选，候选未满时为 null；在 this 上同步
+     */
+    private String minCandidate;
+
+    /**
+     * 进入 top-K 所需的最小估算次数，候选未满时为 0
+     */
+    private volatile long admissionThreshold;
+
+    private volatile Map<String, Long> lastHotKeys = Collections.emptyMap();
+
+    /**
+     * @param sampleRate    每 sampleRate 次命令采样一次
+     * @param topK          上报的热 key 个数
+     * @param windowSeconds 统计窗口
+     * @param byPrefix      是否按 key 前缀（第一个 ':' 之前的部分）聚合
+     */
+    public HotKeyDetector(int sampleRate, int topK, long windowSeconds, boolean byPrefix) {
+        this.sampleRate = Math.max(1, sampleRate);
+        this.topK = Math.max(1, topK);
+        this.windowSeconds = Math.max(2, windowSeconds);
+        this.byPrefix = byPrefix;
+        long half = TimeUnit.SECONDS.toMillis(this.windowSeconds) / 2;
+        this.rotator = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("redis-hot-key").setDaemon(true).build());
+        this.rotator.scheduleAtFixedRate(this::rotate, half, half, TimeUnit.MILLISECONDS);
+    }
+
+    public void addListener(HotKeyListener listener) {
+        listeners.add(listener);
+    }
+
+    public void record(String key) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+        sample(key);
+    }
+
+    public void record(byte[] key) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+        sample(SafeEncoder.encode(key));
+    }
+
+    private void sample(String key) {
+        String name = byPrefix ? prefix(key) : key;
+        int hash = spread(name.hashCode());
+        AtomicLongArray sketch = current;
+        AtomicLongArray old = previous;
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = i * WIDTH + (spread(hash ^ SEEDS[i]) & (WIDTH - 1));
+            estimate = Math.min(estimate, sketch.incrementAndGet(index) + old.get(index));
+        }
+        if (estimate > admissionThreshold) {
+            offer(name, estimate);
+        }
+    }
+
+    /**
+     * 已在候选中且不是最小候选时只更新次数，门槛不变，无需遍历候选
+     */
+    private synchronized void offer(String name, long estimate) {
+        if (candidates.containsKey(name)) {
+            candidates.put(name, estimate);
+            if (!name.equals(minCandidate)) {
+                return;
+            }
+        } else if (candidates.size() < topK) {
+            candidates.put(name, estimate);
+        } else {
+            if (estimate <= candidates.get(minCandidate)) {
+                return;
+            }
+            candidates.remove(minCandidate);
+            candidates.put(name, estimate);
+        }
+        updateThreshold();
+    }
+
+    private void updateThreshold() {
+        if (candidates.size() < topK) {
+            minCandidate = null;
+            admissionThreshold = 0;
+        } else {
+            minCandidate = findMinCandidate();
+            admissionThreshold = candidates.get(minCandidate);
+        }
+    }
+
+    private String findMinCandidate() {
+        String min = null;
+        long minCount = Long.MAX_VALUE;
+        for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+            if (entry.getValue() < minCount) {
+                min = entry.getKey();
+                minCount = entry.getValue();
+            }
+        }
+        return min;
+    }
+
+    /**
+     * 上报最近一个完整窗口的 top-K，然后丢弃较早的半个窗口；候选按剩下半个窗口重新估算
+     */
+    private synchronized void rotate() {
+        try {
+            List<Map.Entry<String, Long>> sorted = new ArrayList<>(candidates.entrySet());
+            sorted.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+            Map<String, Long> hotKeys = new LinkedHashMap<>();
+            for (Map.Entry<String, Long> entry : sorted) {
+                hotKeys.put(entry.getKey(), entry.getValue() * sampleRate);
+            }
+            lastHotKeys = Collections.unmodifiableMap(hotKeys);
+
+            AtomicLongArray recycled = previous;
+            previous = current;
+            for (int i = 0; i < recycled.length(); i++) {
+                recycled.set(i, 0);
+            }
+            current = recycled;
+            for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+                entry.setValue(estimate(entry.getKey()));
+            }
+            candidates.values().removeIf(count -> count == 0);
+            updateThreshold();
+
+            if (!hotKeys.isEmpty()) {
+                for (HotKeyListener listener : listeners) {
+                    listener.onHotKeys(lastHotKeys);
+                }
+            }
+        } catch (Exception e) {
+            log.error("[HotKeyDetector][rotate] report hot keys failed!", e);
+        }
+    }
+
+    private long estimate(String name) {
+        int hash = spread(name.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = i * WIDTH + (spread(hash ^ SEEDS[i]) & (WIDTH - 1));
+            estimate = Math.min(estimate, current.get(index) + previous.get(index));
+        }
+        return estimate;
+    }
+
+    private static String prefix(String key) {
+        int index = key.indexOf(':');
+        return index < 0 ? key : key.substring(0, index);
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x45d9f3b;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    @Override
+    public Map<String, Long> getHotKeys() {
+        return lastHotKeys;
+    }
+
+    @Override
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    @Override
+    public void close() {
+        rotator.shutdownNow();
+    }
+}
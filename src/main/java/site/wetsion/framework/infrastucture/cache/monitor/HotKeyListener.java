@@ -0,0 +1,17 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import java.util.Map;
+
+/**
+ * 热 key 回调，每个窗口结束时在统计线程中调用
+ *
+ * @author 霜华
+ * @date 2026/10/18 11:20 PM
+ **/
+public interface HotKeyListener {
+
+    /**
+     * @param hotKeys key 或 key 前缀 -> 估算访问次数，按次数降序
+     */
+    void onHotKeys(Map<String, Long> hotKeys);
+}
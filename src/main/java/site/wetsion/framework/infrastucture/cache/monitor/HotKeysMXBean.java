@@ -0,0 +1,21 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import java.util.Map;
+
+/**
+ * 热 key 的 JMX 视图
+ *
+ * @author 霜华
+ * @date 2026/10/18 11:20 PM
+ **/
+public interface HotKeysMXBean {
+
+    /**
+     * 最近一个完整窗口的热 key 及其估算访问次数（已按采样率放大），按次数降序
+     */
+    Map<String, Long> getHotKeys();
+
+    int getSampleRate();
+
+    long getWindowSeconds();
+}
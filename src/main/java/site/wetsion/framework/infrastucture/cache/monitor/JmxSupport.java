@@ -0,0 +1,55 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 监控指标的 JMX 注册，对象名为 site.wetsion.framework.infrastucture.cache:type=类型,name=客户端名。
+ * 注册失败只记录日志，不影响 redis 客户端使用
+ *
+ * @author 霜华
+ * @date 2026/10/18 11:20 PM
+ **/
+public final class JmxSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(JmxSupport.class);
+
+    private static final String DOMAIN = "site.wetsion.framework.infrastucture.cache";
+
+    public static void register(Object mbean, String type, String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = objectName(type, name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(mbean, objectName);
+        } catch (Exception e) {
+            log.warn("[JmxSupport][register] register {} {} failed: {}", type, name, e.getMessage());
+        }
+    }
+
+    public static void unregister(String type, String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = objectName(type, name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (Exception e) {
+            log.warn("[JmxSupport][unregister] unregister {} {} failed: {}", type, name, e.getMessage());
+        }
+    }
+
+    private static ObjectName objectName(String type, String name) throws Exception {
+        return new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name == null ? "default" : name));
+    }
+
+    private JmxSupport() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+}
@@ -0,0 +1,100 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 对数分桶直方图（HDR 风格）：按数量级分段，每段再均分为 32 个子桶，相对误差约 3%。
+ * 记录只做一次数组自增和一次最大值 CAS，无锁且不分配对象；分位数为所在桶的上界
+ *
+ * @author 霜华
+ * @date 2026/10/18 11:50 PM
+ **/
+public class LogHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts;
+
+    private final AtomicLong total = new AtomicLong();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param highestTrackableValue 可区分的最大值，更大的值计入最后一个桶
+     */
+    public LogHistogram(long highestTrackableValue) {
+        this.counts = new AtomicLongArray(indexOf(Math.max(highestTrackableValue, SUB_BUCKETS)) + 1);
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(Math.min(indexOf(value), counts.length() - 1));
+        total.incrementAndGet();
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // 重试直到最大值不小于本次记录
+        }
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * shift + (int) (value >>> shift);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long top = index - (long) SUB_BUCKETS * shift;
+        return ((top + 1) << shift) - 1;
+    }
+
+    /**
+     * @param percentile 0 到 100
+     * @return 没有记录时返回 0
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                // 最后一个桶包含所有超出上限的值，上界只能取最大值
+                return i == counts.length() - 1 ? max.get() : Math.min(highestValueOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getCount() {
+        return total.get();
+    }
+
+    /**
+     * 清空统计，与并发记录之间不保证原子性
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        total.set(0);
+        max.set(0);
+    }
+}
@@ -0,0 +1,131 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * 序列化后 value 大小监控：按配置的 key 前缀（最长匹配，未匹配归入 other）分别记录大小直方图，
+ * 超过阈值的 value 记为大 value 并打印告警，按采样率附带调用方堆栈
+ *
+ * @author 霜华
+ * @date 2026/10/18 11:50 PM
+ **/
+public class ValueSizeMonitor implements ValueSizesMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ValueSizeMonitor.class);
+
+    private static final String OTHER = "other";
+
+    /**
+     * 单个 value 最大 512MB
+     */
+    private static final long MAX_VALUE_BYTES = 512L * 1024 * 1024;
+
+    private final List<String> prefixes;
+
+    private final LogHistogram[] histograms;
+
+    private final LogHistogram otherHistogram = new LogHistogram(MAX_VALUE_BYTES);
+
+    private final long thresholdBytes;
+
+    private final int stackSampleRate;
+
+    private final LongAdder bigValues = new LongAdder();
+
+    /**
+     * @param prefixes        统计的 key 前缀
+     * @param thresholdBytes  大 value 阈值
+     * @param stackSampleRate 每 N 个大 value 附带一次调用方堆栈，为 0 时不打印堆栈
+     */
+    public ValueSizeMonitor(List<String> prefixes, long thresholdBytes, int stackSampleRate) {
+        List<String> sorted = new ArrayList<>(prefixes == null ? Collections.emptyList() : prefixes);
+        // 长前缀在前，保证最长匹配
+        sorted.sort((a, b) -> b.length() - a.length());
+        this.prefixes = sorted;
+        this.histograms = new LogHistogram[sorted.size()];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LogHistogram(MAX_VALUE_BYTES);
+        }
+        this.thresholdBytes = thresholdBytes;
+        this.stackSampleRate = stackSampleRate;
+    }
+
+    public void record(String key, byte[] value) {
+        if (value == null) {
+            return;
+        }
+        int size = value.length;
+        histogramOf(key).record(size);
+        if (thresholdBytes > 0 && size > thresholdBytes) {
+            bigValues.increment();
+            if (stackSampleRate > 0 && ThreadLocalRandom.current().nextInt(stackSampleRate) == 0) {
+                log.warn("[ValueSizeMonitor] big value {} of {} bytes", key, size, new Throwable("caller"));
+            } else {
+                log.warn("[ValueSizeMonitor] big value {} of {} bytes", key, size);
+            }
+        }
+    }
+
+    private LogHistogram histogramOf(String key) {
+        for (int i = 0; i < histograms.length; i++) {
+            if (key.startsWith(prefixes.get(i))) {
+                return histograms[i];
+            }
+        }
+        return otherHistogram;
+    }
+
+    private Map<String, Long> collect(ToLongFunction<LogHistogram> metric) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < histograms.length; i++) {
+            result.put(prefixes.get(i), metric.applyAsLong(histograms[i]));
+        }
+        result.put(OTHER, metric.applyAsLong(otherHistogram));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getP50Bytes() {
+        return collect(histogram -> histogram.getValueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getP99Bytes() {
+        return collect(histogram -> histogram.getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getP999Bytes() {
+        return collect(histogram -> histogram.getValueAtPercentile(99.9));
+    }
+
+    @Override
+    public Map<String, Long> getMaxBytes() {
+        return collect(LogHistogram::getMax);
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return collect(LogHistogram::getCount);
+    }
+
+    @Override
+    public long getBigValueCount() {
+        return bigValues.sum();
+    }
+
+    @Override
+    public long getBigValueThresholdBytes() {
+        return thresholdBytes;
+    }
+}
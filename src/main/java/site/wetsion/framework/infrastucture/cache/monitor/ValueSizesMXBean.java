@@ -0,0 +1,29 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import java.util.Map;
+
+/**
+ * 按 key 前缀统计的序列化后 value 大小，单位字节
+ *
+ * @author 霜华
+ * @date 2026/10/18 11:50 PM
+ **/
+public interface ValueSizesMXBean {
+
+    Map<String, Long> getP50Bytes();
+
+    Map<String, Long> getP99Bytes();
+
+    Map<String, Long> getP999Bytes();
+
+    Map<String, Long> getMaxBytes();
+
+    Map<String, Long> getCounts();
+
+    /**
+     * 超过阈值的 value 数
+     */
+    long getBigValueCount();
+
+    long getBigValueThresholdBytes();
+}
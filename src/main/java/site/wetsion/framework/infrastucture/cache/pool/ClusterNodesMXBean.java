@@ -0,0 +1,29 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import java.util.Map;
+
+/**
+ * 集群各节点连接池状态，key 为 host:port
+ *
+ * @author 霜华
+ * @date 2026/10/19 3:30 AM
+ **/
+public interface ClusterNodesMXBean {
+
+    int getNodeCount();
+
+    Map<String, Integer> getNodeActive();
+
+    Map<String, Integer> getNodeIdle();
+
+    Map<String, Integer> getNodeWaiters();
+
+    /**
+     * 活跃连接占 maxTotal 的比例
+     */
+    Map<String, Double> getNodeUtilization();
+
+    long getTopologyRefreshes();
+
+    long getTopologyRefreshFailures();
+}
@@ -0,0 +1,111 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 连接健康检查：包装连接池的 PooledObjectFactory，统计校验与失败次数，
+ * 并可只校验空闲时间超过阈值的连接。后台校验由 commons-pool 的空闲驱逐线程按
+ * testWhileIdle 执行，校验失败或 I/O 异常的连接被驱逐，借出时不必再逐次 PING
+ *
+ * @author 霜华
+ * @date 2026/10/19 2:10 AM
+ **/
+public class ConnectionHealth implements PooledObjectFactory<Jedis>, ConnectionHealthMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionHealth.class);
+
+    private final String poolName;
+
+    private final PooledObjectFactory<Jedis> delegate;
+
+    private final long idleThresholdMillis;
+
+    private final LongAdder validations = new LongAdder();
+
+    private final LongAdder skipped = new LongAdder();
+
+    private final LongAdder broken = new LongAdder();
+
+    private ConnectionHealth(String poolName, PooledObjectFactory<Jedis> delegate, long idleThresholdMillis) {
+        this.poolName = poolName;
+        this.delegate = delegate;
+        this.idleThresholdMillis = idleThresholdMillis;
+    }
+
+    /**
+     * 以包装后的 factory 重建底层连接池，须在连接池投入使用前调用。
+     * 哨兵切换主节点时只更新原 factory 的地址并清空连接池，包装关系不受影响
+     *
+     * @param idleThresholdMillis 空闲时间未超过该值的连接不做校验，不大于 0 时总是校验
+     */
+    public static ConnectionHealth install(String poolName, InstrumentedPool pool, GenericObjectPoolConfig config,
+                                           long idleThresholdMillis) {
+        ConnectionHealth health = new ConnectionHealth(poolName, pool.getInternalPool().getFactory(),
+                idleThresholdMillis);
+        pool.initPool(config, health);
+        return health;
+    }
+
+    @Override
+    public PooledObject<Jedis> makeObject() throws Exception {
+        return delegate.makeObject();
+    }
+
+    @Override
+    public void destroyObject(PooledObject<Jedis> p) throws Exception {
+        delegate.destroyObject(p);
+    }
+
+    @Override
+    public boolean validateObject(PooledObject<Jedis> p) {
+        if (idleThresholdMillis > 0 && p.getIdleTimeMillis() < idleThresholdMillis) {
+            skipped.increment();
+            return true;
+        }
+        validations.increment();
+        boolean valid = delegate.validateObject(p);
+        if (!valid) {
+            broken.increment();
+            log.warn("[ConnectionHealth] {} connection failed validation after idle {}ms, state {}", poolName,
+                    p.getIdleTimeMillis(), p.getState());
+        }
+        return valid;
+    }
+
+    @Override
+    public void activateObject(PooledObject<Jedis> p) throws Exception {
+        delegate.activateObject(p);
+    }
+
+    @Override
+    public void passivateObject(PooledObject<Jedis> p) throws Exception {
+        delegate.passivateObject(p);
+    }
+
+    @Override
+    public long getValidations() {
+        return validations.sum();
+    }
+
+    @Override
+    public long getSkippedValidations() {
+        return skipped.sum();
+    }
+
+    @Override
+    public long getBrokenConnections() {
+        return broken.sum();
+    }
+
+    @Override
+    public long getValidationIdleThresholdMillis() {
+        return idleThresholdMillis;
+    }
+}
@@ -0,0 +1,27 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+/**
+ * 连接校验统计
+ *
+ * @author 霜华
+ * @date 2026/10/19 2:10 AM
+ **/
+public interface ConnectionHealthMXBean {
+
+    /**
+     * 实际执行 PING 校验的次数，包括借出时与后台空闲校验
+     */
+    long getValidations();
+
+    /**
+     * 空闲时间未超过阈值而跳过的校验次数
+     */
+    long getSkippedValidations();
+
+    /**
+     * 校验失败被关闭的连接数
+     */
+    long getBrokenConnections();
+
+    long getValidationIdleThresholdMillis();
+}
@@ -0,0 +1,51 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * 记录借连接耗时的单机连接池
+ *
+ * @author 霜华
+ * @date 2026/10/19 12:50 AM
+ **/
+public class InstrumentedJedisPool extends JedisPool implements InstrumentedPool {
+
+    private volatile PoolTelemetry telemetry;
+
+    public InstrumentedJedisPool(GenericObjectPoolConfig poolConfig, String host, int port, int timeout,
+                                 String password, int database, String clientName) {
+        super(poolConfig, host, port, timeout, password, database, clientName);
+    }
+
+    @Override
+    public Jedis getResource() {
+        PoolTelemetry current = telemetry;
+        if (current == null) {
+            return super.getResource();
+        }
+        long start = System.nanoTime();
+        boolean exhausted = false;
+        try {
+            return super.getResource();
+        } catch (JedisException e) {
+            exhausted = PoolTelemetry.isExhausted(e);
+            throw e;
+        } finally {
+            current.recordBorrow(System.nanoTime() - start, exhausted);
+        }
+    }
+
+    @Override
+    public GenericObjectPool<Jedis> getInternalPool() {
+        return internalPool;
+    }
+
+    @Override
+    public void setTelemetry(PoolTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+}
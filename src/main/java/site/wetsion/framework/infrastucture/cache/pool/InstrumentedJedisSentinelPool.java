@@ -0,0 +1,54 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisSentinelPool;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.Set;
+
+/**
+ * 记录借连接耗时的哨兵连接池
+ *
+ * @author 霜华
+ * @date 2026/10/19 12:50 AM
+ **/
+public class InstrumentedJedisSentinelPool extends JedisSentinelPool implements InstrumentedPool {
+
+    private volatile PoolTelemetry telemetry;
+
+    public InstrumentedJedisSentinelPool(String masterName, Set<String> sentinels,
+                                         GenericObjectPoolConfig poolConfig, int timeout, String password,
+                                         int database, String clientName) {
+        super(masterName, sentinels, poolConfig, timeout, password, database, clientName);
+    }
+
+    @Override
+    public Jedis getResource() {
+        PoolTelemetry current = telemetry;
+        if (current == null) {
+            return super.getResource();
+        }
+        long start = System.nanoTime();
+        boolean exhausted = false;
+        try {
+            return super.getResource();
+        } catch (JedisException e) {
+            exhausted = PoolTelemetry.isExhausted(e);
+            throw e;
+        } finally {
+            current.recordBorrow(System.nanoTime() - start, exhausted);
+        }
+    }
+
+    @Override
+    public GenericObjectPool<Jedis> getInternalPool() {
+        return internalPool;
+    }
+
+    @Override
+    public void setTelemetry(PoolTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+}
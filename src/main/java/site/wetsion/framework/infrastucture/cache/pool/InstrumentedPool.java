@@ -0,0 +1,27 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+
+/**
+ * 暴露底层 commons-pool 状态的连接池，供监控与运行时调整使用
+ *
+ * @author 霜华
+ * @date 2026/10/19 12:50 AM
+ **/
+public interface InstrumentedPool {
+
+    /**
+     * 当前底层连接池，哨兵模式主从切换后会被替换，因此不应缓存
+     */
+    GenericObjectPool<Jedis> getInternalPool();
+
+    void setTelemetry(PoolTelemetry telemetry);
+
+    /**
+     * 以新的 factory 重建底层连接池，由 {@link redis.clients.util.Pool#initPool} 实现
+     */
+    void initPool(GenericObjectPoolConfig poolConfig, PooledObjectFactory<Jedis> factory);
+}
@@ -0,0 +1,148 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.JedisPool;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * 由配置构建的集群客户端：后台定期刷新槽位拓扑，使请求路径上很少再遇到 MOVED 后同步刷新；
+ * 刷新后通知监听器（如 ClusterSlotCache），并提供各节点连接池的利用率
+ *
+ * @author 霜华
+ * @date 2026/10/19 3:30 AM
+ **/
+public class ManagedJedisCluster extends JedisCluster implements ClusterNodesMXBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ManagedJedisCluster.class);
+
+    private final List<Runnable> topologyListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 各节点连接池使用同一份配置
+     */
+    private final int maxTotal;
+
+    private final LongAdder refreshes = new LongAdder();
+
+    private final LongAdder refreshFailures = new LongAdder();
+
+    /**
+     * 未开启后台刷新时为 null
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param refreshSeconds 拓扑刷新间隔，不大于 0 时只在遇到 MOVED 时刷新
+     */
+    public ManagedJedisCluster(Set<HostAndPort> nodes, int timeout, int maxAttempts, String password,
+                               GenericObjectPoolConfig poolConfig, long refreshSeconds) {
+        super(nodes, timeout, timeout, maxAttempts, password, poolConfig);
+        this.maxTotal = poolConfig.getMaxTotal();
+        if (refreshSeconds > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("redis-cluster-refresh").setDaemon(true).build());
+            scheduler.scheduleWithFixedDelay(this::refreshTopology, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 拓扑刷新后在刷新线程中执行
+     */
+    public void addTopologyListener(Runnable listener) {
+        topologyListeners.add(listener);
+    }
+
+    /**
+     * 从任一可用节点拉取 CLUSTER SLOTS 重建槽位映射并通知监听器
+     */
+    public void refreshTopology() {
+        try {
+            int before = getClusterNodes().size();
+            connectionHandler.renewSlotCache();
+            refreshes.increment();
+            int after = getClusterNodes().size();
+            if (before != after) {
+                log.info("[ManagedJedisCluster] cluster nodes changed {} -> {}", before, after);
+            }
+            for (Runnable listener : topologyListeners) {
+                listener.run();
+            }
+        } catch (Exception e) {
+            refreshFailures.increment();
+            log.error("[ManagedJedisCluster][refreshTopology] happened error!", e);
+        }
+    }
+
+    @Override
+    public int getNodeCount() {
+        return getClusterNodes().size();
+    }
+
+    @Override
+    public Map<String, Integer> getNodeActive() {
+        return collect(JedisPool::getNumActive);
+    }
+
+    @Override
+    public Map<String, Integer> getNodeIdle() {
+        return collect(JedisPool::getNumIdle);
+    }
+
+    @Override
+    public Map<String, Integer> getNodeWaiters() {
+        return collect(JedisPool::getNumWaiters);
+    }
+
+    @Override
+    public Map<String, Double> getNodeUtilization() {
+        Map<String, Double> utilization = new LinkedHashMap<>();
+        for (Map.Entry<String, JedisPool> node : getClusterNodes().entrySet()) {
+            utilization.put(node.getKey(), maxTotal <= 0 ? 0 : (double) node.getValue().getNumActive() / maxTotal);
+        }
+        return utilization;
+    }
+
+    @Override
+    public long getTopologyRefreshes() {
+        return refreshes.sum();
+    }
+
+    @Override
+    public long getTopologyRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    private Map<String, Integer> collect(ToIntFunction<JedisPool> stat) {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        for (Map.Entry<String, JedisPool> node : getClusterNodes().entrySet()) {
+            values.put(node.getKey(), stat.applyAsInt(node.getValue()));
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        super.close();
+    }
+}
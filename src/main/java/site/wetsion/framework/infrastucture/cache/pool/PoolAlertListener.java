@@ -0,0 +1,19 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+/**
+ * 借连接等待时间告警，在统计线程中回调
+ *
+ * @author 霜华
+ * @date 2026/10/19 12:50 AM
+ **/
+public interface PoolAlertListener {
+
+    /**
+     * 一个统计周期内借连接等待时间的 p99 超过阈值
+     *
+     * @param poolName        连接池名称
+     * @param waitP99Micros   本周期等待时间 p99，单位微秒
+     * @param thresholdMicros 告警阈值，单位微秒
+     */
+    void onWaitThresholdExceeded(String poolName, long waitP99Micros, long thresholdMicros);
+}
@@ -0,0 +1,153 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 连接池大小自适应：每个遥测周期结束时根据等待时间 p99、等待线程数、借连接失败次数和利用率调整 maxTotal。
+ * 扩容与缩容阈值分开，并要求连续多个周期满足条件、调整后进入冷却期，避免在阈值附近来回抖动。
+ * 缩容只下调 maxTotal 和 maxIdle，多余的空闲连接在归还或空闲驱逐时关闭，不打断正在使用的连接
+ *
+ * @author 霜华
+ * @date 2026/10/19 1:20 AM
+ **/
+public class PoolSizeController implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(PoolSizeController.class);
+
+    /**
+     * 连续满足扩容条件的周期数
+     */
+    private static final int GROW_INTERVALS = 2;
+
+    /**
+     * 连续满足缩容条件的周期数，缩容比扩容保守
+     */
+    private static final int SHRINK_INTERVALS = 6;
+
+    /**
+     * 每次调整后跳过的周期数
+     */
+    private static final int COOLDOWN_INTERVALS = 2;
+
+    private final String poolName;
+
+    private final InstrumentedPool pool;
+
+    private final PoolTelemetry telemetry;
+
+    private final int lowerBound;
+
+    private final int upperBound;
+
+    private final long growWaitMicros;
+
+    private final double shrinkUtilization;
+
+    private final LongAdder grows = new LongAdder();
+
+    private final LongAdder shrinks = new LongAdder();
+
+    private int growStreak;
+
+    private int shrinkStreak;
+
+    private int cooldown;
+
+    private long lastExhausted;
+
+    /**
+     * @param lowerBound        maxTotal 下限
+     * @param upperBound        maxTotal 上限
+     * @param growWaitMillis    周期内等待时间 p99 超过该值时扩容，低于其一半才允许缩容
+     * @param shrinkUtilization 活跃连接占 maxTotal 的比例低于该值时缩容
+     */
+    public PoolSizeController(String poolName, InstrumentedPool pool, PoolTelemetry telemetry, int lowerBound,
+                              int upperBound, long growWaitMillis, double shrinkUtilization) {
+        if (lowerBound <= 0 || upperBound < lowerBound) {
+            throw new IllegalArgumentException("连接池自适应上下限配置错误: " + lowerBound + "-" + upperBound);
+        }
+        this.poolName = poolName;
+        this.pool = pool;
+        this.telemetry = telemetry;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.growWaitMicros = TimeUnit.MILLISECONDS.toMicros(growWaitMillis);
+        this.shrinkUtilization = shrinkUtilization;
+        this.lastExhausted = telemetry.getExhaustedCount();
+        GenericObjectPool<Jedis> internalPool = pool.getInternalPool();
+        int initial = Math.min(upperBound, Math.max(lowerBound, internalPool.getMaxTotal()));
+        resize(internalPool, initial);
+        telemetry.addIntervalListener(this);
+    }
+
+    @Override
+    public void run() {
+        GenericObjectPool<Jedis> internalPool = pool.getInternalPool();
+        int maxTotal = internalPool.getMaxTotal();
+        int active = internalPool.getNumActive();
+        int idle = internalPool.getNumIdle();
+        int waiters = internalPool.getNumWaiters();
+        long waitP99 = telemetry.getIntervalWaitP99Micros();
+        long exhausted = telemetry.getExhaustedCount();
+        long exhaustedDelta = exhausted - lastExhausted;
+        lastExhausted = exhausted;
+        double utilization = maxTotal <= 0 ? 0 : (double) active / maxTotal;
+
+        if (cooldown > 0) {
+            cooldown--;
+            return;
+        }
+        boolean pressure = waitP99 > growWaitMicros || waiters > 0 || exhaustedDelta > 0;
+        boolean slack = utilization < shrinkUtilization && waitP99 < growWaitMicros / 2 && waiters == 0
+                && exhaustedDelta == 0;
+        growStreak = pressure ? growStreak + 1 : 0;
+        shrinkStreak = slack ? shrinkStreak + 1 : 0;
+
+        int target = maxTotal;
+        if (growStreak >= GROW_INTERVALS && maxTotal < upperBound) {
+            target = Math.min(upperBound, maxTotal + Math.max(1, maxTotal / 4));
+        } else if (shrinkStreak >= SHRINK_INTERVALS && maxTotal > lowerBound) {
+            // 至少保留当前活跃连接并留出余量
+            int floor = Math.max(lowerBound, (int) Math.ceil(active / Math.max(shrinkUtilization, 0.1)));
+            target = Math.max(floor, maxTotal - Math.max(1, maxTotal / 8));
+        }
+        if (target == maxTotal) {
+            return;
+        }
+        log.info("[PoolSizeController] {} resize maxTotal {} -> {}, waitP99 {}us, waiters {}, exhausted {}, "
+                        + "active {}, idle {}, utilization {}", poolName, maxTotal, target, waitP99, waiters,
+                exhaustedDelta, active, idle, String.format("%.2f", utilization));
+        if (target > maxTotal) {
+            grows.increment();
+        } else {
+            shrinks.increment();
+        }
+        resize(internalPool, target);
+        growStreak = 0;
+        shrinkStreak = 0;
+        cooldown = COOLDOWN_INTERVALS;
+    }
+
+    private void resize(GenericObjectPool<Jedis> internalPool, int maxTotal) {
+        internalPool.setMaxTotal(maxTotal);
+        // 扩容后的连接在负载期间保持空闲，避免归还时立即关闭；缩容后多出的空闲连接由空闲驱逐关闭
+        internalPool.setMaxIdle(maxTotal);
+        if (internalPool.getMinIdle() > maxTotal) {
+            internalPool.setMinIdle(maxTotal);
+        }
+    }
+
+    public long getGrowCount() {
+        return grows.sum();
+    }
+
+    public long getShrinkCount() {
+        return shrinks.sum();
+    }
+}
@@ -0,0 +1,218 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+import site.wetsion.framework.infrastucture.cache.monitor.LogHistogram;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 连接池遥测：借连接等待时间直方图（累计与当前周期两份）、活跃/空闲/等待线程数、
+ * 连接创建与销毁速率、等待超时或耗尽导致的借连接失败次数。每个统计周期结束时计算速率，
+ * 周期内等待时间 p99 超过阈值时通知 {@link PoolAlertListener}
+ *
+ * @author 霜华
+ * @date 2026/10/19 12:50 AM
+ **/
+public class PoolTelemetry implements PoolTelemetryMXBean, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(PoolTelemetry.class);
+
+    /**
+     * 60 秒，单位微秒
+     */
+    private static final long HIGHEST_MICROS = 60_000_000L;
+
+    private final String poolName;
+
+    private final InstrumentedPool pool;
+
+    private final long alertThresholdMicros;
+
+    private final LogHistogram waits = new LogHistogram(HIGHEST_MICROS);
+
+    private final LogHistogram intervalWaits = new LogHistogram(HIGHEST_MICROS);
+
+    private final LongAdder exhausted = new LongAdder();
+
+    private final List<PoolAlertListener> alertListeners = new CopyOnWriteArrayList<>();
+
+    private final List<Runnable> intervalListeners = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile long intervalWaitP99Micros;
+
+    private volatile double createdPerSecond;
+
+    private volatile double destroyedPerSecond;
+
+    private long lastCreated;
+
+    private long lastDestroyed;
+
+    private long lastTick = System.nanoTime();
+
+    /**
+     * @param intervalSeconds      统计周期
+     * @param alertThresholdMillis 等待时间 p99 告警阈值，不大于 0 时不告警
+     */
+    public PoolTelemetry(String poolName, InstrumentedPool pool, long intervalSeconds, long alertThresholdMillis) {
+        this.poolName = poolName;
+        this.pool = pool;
+        this.alertThresholdMicros = TimeUnit.MILLISECONDS.toMicros(alertThresholdMillis);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("redis-pool-telemetry").setDaemon(true).build());
+        this.scheduler.scheduleAtFixedRate(this::tick, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        pool.setTelemetry(this);
+    }
+
+    void recordBorrow(long waitNanos, boolean exhausted) {
+        long micros = waitNanos / 1000;
+        waits.record(micros);
+        intervalWaits.record(micros);
+        if (exhausted) {
+            this.exhausted.increment();
+        }
+    }
+
+    /**
+     * 借连接失败是否由等待超时或连接池耗尽导致。Jedis 把 commons-pool 的 NoSuchElementException 包装后抛出，
+     * 而新建连接激活、校验失败时抛出的 NoSuchElementException 带有原始异常，连接、认证错误则是其他异常类型，
+     * 这些都不应计入耗尽次数
+     */
+    static boolean isExhausted(JedisException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof NoSuchElementException && cause.getCause() == null;
+    }
+
+    public void addAlertListener(PoolAlertListener listener) {
+        alertListeners.add(listener);
+    }
+
+    /**
+     * 每个统计周期结束、指标更新后在统计线程中执行，供自适应调整等使用
+     */
+    public void addIntervalListener(Runnable listener) {
+        intervalListeners.add(listener);
+    }
+
+    private void tick() {
+        try {
+            long now = System.nanoTime();
+            double seconds = Math.max(1e-3, (now - lastTick) / 1e9);
+            lastTick = now;
+            GenericObjectPool<Jedis> internalPool = pool.getInternalPool();
+            long created = internalPool.getCreatedCount();
+            long destroyed = internalPool.getDestroyedCount();
+            // 哨兵切换主节点后底层连接池被替换，计数从零开始
+            createdPerSecond = Math.max(0, created - lastCreated) / seconds;
+            destroyedPerSecond = Math.max(0, destroyed - lastDestroyed) / seconds;
+            lastCreated = created;
+            lastDestroyed = destroyed;
+
+            long p99 = intervalWaits.getValueAtPercentile(99);
+            intervalWaitP99Micros = p99;
+            intervalWaits.reset();
+            if (alertThresholdMicros > 0 && p99 > alertThresholdMicros) {
+                log.warn("[PoolTelemetry] {} borrow wait p99 {}us exceeds {}us, active {} idle {} waiters {}",
+                        poolName, p99, alertThresholdMicros, getActive(), getIdle(), getWaiters());
+                for (PoolAlertListener listener : alertListeners) {
+                    listener.onWaitThresholdExceeded(poolName, p99, alertThresholdMicros);
+                }
+            }
+            for (Runnable listener : intervalListeners) {
+                listener.run();
+            }
+        } catch (Exception e) {
+            log.error("[PoolTelemetry][tick] {} happened error!", poolName, e);
+        }
+    }
+
+    @Override
+    public int getActive() {
+        return pool.getInternalPool().getNumActive();
+    }
+
+    @Override
+    public int getIdle() {
+        return pool.getInternalPool().getNumIdle();
+    }
+
+    @Override
+    public int getWaiters() {
+        return pool.getInternalPool().getNumWaiters();
+    }
+
+    @Override
+    public int getMaxTotal() {
+        return pool.getInternalPool().getMaxTotal();
+    }
+
+    @Override
+    public long getWaitP50Micros() {
+        return waits.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getWaitP99Micros() {
+        return waits.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getWaitP999Micros() {
+        return waits.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getWaitMaxMicros() {
+        return waits.getMax();
+    }
+
+    @Override
+    public long getIntervalWaitP99Micros() {
+        return intervalWaitP99Micros;
+    }
+
+    @Override
+    public long getCreatedCount() {
+        return pool.getInternalPool().getCreatedCount();
+    }
+
+    @Override
+    public long getDestroyedCount() {
+        return pool.getInternalPool().getDestroyedCount();
+    }
+
+    @Override
+    public double getCreatedPerSecond() {
+        return createdPerSecond;
+    }
+
+    @Override
+    public double getDestroyedPerSecond() {
+        return destroyedPerSecond;
+    }
+
+    @Override
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        pool.setTelemetry(null);
+    }
+}
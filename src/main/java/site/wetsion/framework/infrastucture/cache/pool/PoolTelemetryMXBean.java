@@ -0,0 +1,44 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+/**
+ * 连接池状态，等待时间单位微秒，速率为最近一个统计周期内的每秒次数
+ *
+ * @author 霜华
+ * @date 2026/10/19 12:50 AM
+ **/
+public interface PoolTelemetryMXBean {
+
+    int getActive();
+
+    int getIdle();
+
+    int getWaiters();
+
+    int getMaxTotal();
+
+    long getWaitP50Micros();
+
+    long getWaitP99Micros();
+
+    long getWaitP999Micros();
+
+    long getWaitMaxMicros();
+
+    /**
+     * 最近一个统计周期的等待时间 p99
+     */
+    long getIntervalWaitP99Micros();
+
+    long getCreatedCount();
+
+    long getDestroyedCount();
+
+    double getCreatedPerSecond();
+
+    double getDestroyedPerSecond();
+
+    /**
+     * 等待超时或连接池耗尽导致借连接失败的次数
+     */
+    long getExhaustedCount();
+}
@@ -0,0 +1,98 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 启动预热：并行借出指定数量的连接，逐个 PING 校验后统一归还，
+ * 使连接建立、AUTH、SELECT、CLIENT SETNAME 在启动阶段完成而不是落在第一批请求上。
+ * 所有连接借出后才归还，保证创建的是不同的连接
+ *
+ * @author 霜华
+ * @date 2026/10/19 1:45 AM
+ **/
+public final class PoolWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(PoolWarmer.class);
+
+    private static final int MAX_PARALLELISM = 16;
+
+    private PoolWarmer() {
+    }
+
+    /**
+     * @param count     预热连接数
+     * @param timeoutMs 整体超时，超时前已建立的连接照常归还，超时后才建立的连接由预热线程直接归还
+     * @return 校验通过的连接数
+     */
+    public static int warmUp(String poolName, Pool<Jedis> pool, int count, long timeoutMs) {
+        if (count <= 0) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        int parallelism = Math.min(count, MAX_PARALLELISM);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                new ThreadFactoryBuilder().setNameFormat("redis-pool-warmer-%d").setDaemon(true).build());
+        // 预热结束前借出的连接登记在 warmed 中统一归还，结束后才完成的任务自行归还，超时也不会泄漏连接
+        List<Jedis> warmed = new ArrayList<>(count);
+        AtomicBoolean finished = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(executor.submit(() -> {
+                Jedis jedis = pool.getResource();
+                try {
+                    jedis.ping();
+                } catch (RuntimeException e) {
+                    jedis.close();
+                    throw e;
+                }
+                synchronized (warmed) {
+                    if (!finished.get()) {
+                        warmed.add(jedis);
+                        return;
+                    }
+                }
+                jedis.close();
+            }));
+        }
+        executor.shutdown();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        int failed = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed++;
+            } catch (Exception e) {
+                failed++;
+                if (failed == 1) {
+                    log.warn("[PoolWarmer][warmUp] {} connection warm-up failed", poolName, e);
+                }
+            }
+        }
+        List<Jedis> borrowed;
+        synchronized (warmed) {
+            finished.set(true);
+            borrowed = new ArrayList<>(warmed);
+        }
+        executor.shutdownNow();
+        for (Jedis jedis : borrowed) {
+            jedis.close();
+        }
+        log.info("[PoolWarmer] {} warmed {} of {} connections in {}ms with {} threads, {} failed", poolName,
+                borrowed.size(), count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), parallelism, failed);
+        return borrowed.size();
+    }
+}
@@ -0,0 +1,22 @@
+package site.wetsion.framework.infrastucture.cache.pubsub;
+
+/**
+ * 订阅连接状态监听，在订阅线程中回调，不应阻塞
+ *
+ * @author 霜华
+ * @date 2026/10/18 10:20 PM
+ **/
+public interface ConnectionListener {
+
+    /**
+     * 连接（重新）建立并已发出全部订阅
+     */
+    default void onConnected() {
+    }
+
+    /**
+     * 连接断开，断开期间发布的消息会丢失
+     */
+    default void onDisconnected() {
+    }
+}
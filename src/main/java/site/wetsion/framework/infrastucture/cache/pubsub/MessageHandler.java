@@ -0,0 +1,15 @@
+package site.wetsion.framework.infrastucture.cache.pubsub;
+
+/**
+ * 订阅消息处理器，在处理器自己的派发线程中执行
+ *
+ * @author 霜华
+ * @date 2026/10/18 7:05 PM
+ **/
+public interface MessageHandler {
+
+    /**
+     * @param channel 消息所在频道，模式订阅时为实际匹配到的频道
+     */
+    void onMessage(String channel, String message);
+}
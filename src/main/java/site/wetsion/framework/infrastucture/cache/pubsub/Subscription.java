@@ -0,0 +1,22 @@
+package site.wetsion.framework.infrastucture.cache.pubsub;
+
+/**
+ * {@link SubscriptionManager} 返回的订阅句柄
+ *
+ * @author 霜华
+ * @date 2026/10/18 7:05 PM
+ **/
+public interface Subscription {
+
+    /**
+     * 频道名或模式
+     */
+    String getTopic();
+
+    boolean isPattern();
+
+    /**
+     * 取消订阅，该频道/模式上没有其他处理器时向 redis 发送 UNSUBSCRIBE/PUNSUBSCRIBE
+     */
+    void unsubscribe();
+}
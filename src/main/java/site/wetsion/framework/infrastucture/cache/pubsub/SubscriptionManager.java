@@ -0,0 +1,310 @@
+package site.wetsion.framework.infrastucture.cache.pubsub;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 多路复用的订阅管理器：使用一个不属于连接池的专用连接承载所有频道和模式订阅，
+ * 处理器可在运行时增减；每个处理器有独立的单线程派发队列，队列满时丢弃消息并计数。
+ * 专用连接始终订阅一个私有控制频道，因此处理器全部取消后连接仍保持，断线后自动重连并恢复订阅
+ *
+ * @author 霜华
+ * @date 2026/10/18 7:05 PM
+ **/
+public class SubscriptionManager implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(SubscriptionManager.class);
+
+    private static final long MAX_RECONNECT_BACKOFF_MILLIS = 30000;
+
+    private final Supplier<HostAndPort> nodeSupplier;
+
+    private final String password;
+
+    private final int timeout;
+
+    private final int queueSize;
+
+    private final String controlChannel = "__subscription_manager__:" + UUID.randomUUID();
+
+    private final Map<String, List<Dispatcher>> channelHandlers = new ConcurrentHashMap<>();
+
+    private final Map<String, List<Dispatcher>> patternHandlers = new ConcurrentHashMap<>();
+
+    private final List<ConnectionListener> connectionListeners = new CopyOnWriteArrayList<>();
+
+    private final Thread subscriber;
+
+    private final LongAdder dispatched = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder dispatchLagNanos = new LongAdder();
+
+    private final AtomicLong maxDispatchLagNanos = new AtomicLong();
+
+    /**
+     * 当前连接上的订阅监听器，未连接时为 null；读写均在 this 上同步
+     */
+    private Listener listener;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param nodeSupplier 每次建立连接时调用，返回订阅使用的节点
+     * @param queueSize    每个处理器派发队列的长度
+     */
+    public SubscriptionManager(Supplier<HostAndPort> nodeSupplier, String password, int timeout, int queueSize) {
+        this.nodeSupplier = nodeSupplier;
+        this.password = password;
+        this.timeout = timeout;
+        this.queueSize = queueSize;
+        this.subscriber = new Thread(this::loop, "redis-subscriber");
+        this.subscriber.setDaemon(true);
+        this.subscriber.start();
+    }
+
+    public Subscription subscribe(String channel, MessageHandler handler) {
+        return register(channelHandlers, channel, false, handler);
+    }
+
+    public Subscription psubscribe(String pattern, MessageHandler handler) {
+        return register(patternHandlers, pattern, true, handler);
+    }
+
+    public void addConnectionListener(ConnectionListener connectionListener) {
+        connectionListeners.add(connectionListener);
+    }
+
+    private synchronized Subscription register(Map<String, List<Dispatcher>> handlers, String topic, boolean pattern,
+                                               MessageHandler handler) {
+        if (!running) {
+            throw new IllegalStateException("SubscriptionManager 已关闭");
+        }
+        Dispatcher dispatcher = new Dispatcher(topic, pattern, handler);
+        List<Dispatcher> dispatchers = handlers.get(topic);
+        if (dispatchers == null) {
+            dispatchers = new CopyOnWriteArrayList<>();
+            handlers.put(topic, dispatchers);
+            // 未连接时由重连后的 onSubscribe 统一补订阅
+            if (listener != null) {
+                if (pattern) {
+                    listener.psubscribe(topic);
+                } else {
+                    listener.subscribe(topic);
+                }
+            }
+        }
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+
+    private synchronized void unregister(Dispatcher dispatcher) {
+        Map<String, List<Dispatcher>> handlers = dispatcher.pattern ? patternHandlers : channelHandlers;
+        List<Dispatcher> dispatchers = handlers.get(dispatcher.topic);
+        if (dispatchers != null && dispatchers.remove(dispatcher) && dispatchers.isEmpty()) {
+            handlers.remove(dispatcher.topic);
+            if (listener != null) {
+                if (dispatcher.pattern) {
+                    listener.punsubscribe(dispatcher.topic);
+                } else {
+                    listener.unsubscribe(dispatcher.topic);
+                }
+            }
+        }
+        dispatcher.executor.shutdown();
+    }
+
+    private void loop() {
+        long backoff = 100;
+        while (running) {
+            try (Jedis jedis = connect()) {
+                backoff = 100;
+                jedis.subscribe(new Listener(), controlChannel);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.error("[SubscriptionManager][loop] subscription connection lost, reconnect in {}ms", backoff, e);
+            } finally {
+                boolean connected;
+                synchronized (this) {
+                    connected = listener != null;
+                    listener = null;
+                }
+                if (connected) {
+                    connectionListeners.forEach(ConnectionListener::onDisconnected);
+                }
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoff = Math.min(backoff * 2, MAX_RECONNECT_BACKOFF_MILLIS);
+        }
+    }
+
+    private Jedis connect() {
+        HostAndPort node = nodeSupplier.get();
+        Jedis jedis = new Jedis(node.getHost(), node.getPort(), timeout);
+        if (password != null) {
+            jedis.auth(password);
+        }
+        log.info("[SubscriptionManager] subscribe on {}", node);
+        return jedis;
+    }
+
+    public long getDispatchedMessages() {
+        return dispatched.sum();
+    }
+
+    public long getDroppedMessages() {
+        return dropped.sum();
+    }
+
+    /**
+     * 消息从接收到开始处理的平均等待时间，单位微秒
+     */
+    public long getAverageDispatchLagMicros() {
+        long count = dispatched.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(dispatchLagNanos.sum() / count);
+    }
+
+    public long getMaxDispatchLagMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxDispatchLagNanos.get());
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            running = false;
+            if (listener != null) {
+                listener.unsubscribe();
+                listener.punsubscribe();
+            }
+            for (List<Dispatcher> dispatchers : channelHandlers.values()) {
+                dispatchers.forEach(dispatcher -> dispatcher.executor.shutdown());
+            }
+            for (List<Dispatcher> dispatchers : patternHandlers.values()) {
+                dispatchers.forEach(dispatcher -> dispatcher.executor.shutdown());
+            }
+            channelHandlers.clear();
+            patternHandlers.clear();
+        }
+        subscriber.interrupt();
+    }
+
+    private final class Listener extends JedisPubSub {
+
+        @Override
+        public void onSubscribe(String channel, int subscribedChannels) {
+            if (!controlChannel.equals(channel)) {
+                return;
+            }
+            // 控制频道订阅成功即连接就绪，补订阅当前所有频道和模式
+            synchronized (SubscriptionManager.this) {
+                listener = this;
+                if (!channelHandlers.isEmpty()) {
+                    subscribe(channelHandlers.keySet().toArray(new String[0]));
+                }
+                if (!patternHandlers.isEmpty()) {
+                    psubscribe(patternHandlers.keySet().toArray(new String[0]));
+                }
+            }
+            connectionListeners.forEach(ConnectionListener::onConnected);
+        }
+
+        @Override
+        public void onMessage(String channel, String message) {
+            dispatch(channelHandlers.get(channel), channel, message);
+        }
+
+        @Override
+        public void onPMessage(String pattern, String channel, String message) {
+            dispatch(patternHandlers.get(pattern), channel, message);
+        }
+
+        private void dispatch(List<Dispatcher> dispatchers, String channel, String message) {
+            if (dispatchers == null) {
+                return;
+            }
+            long received = System.nanoTime();
+            for (Dispatcher dispatcher : dispatchers) {
+                dispatcher.dispatch(channel, message, received);
+            }
+        }
+    }
+
+    private final class Dispatcher implements Subscription {
+
+        private final String topic;
+
+        private final boolean pattern;
+
+        private final MessageHandler handler;
+
+        private final ThreadPoolExecutor executor;
+
+        Dispatcher(String topic, boolean pattern, MessageHandler handler) {
+            this.topic = topic;
+            this.pattern = pattern;
+            this.handler = handler;
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize),
+                    new ThreadFactoryBuilder().setNameFormat("redis-subscriber-" + topic + "-%d").setDaemon(true).build());
+        }
+
+        void dispatch(String channel, String message, long received) {
+            try {
+                executor.execute(() -> {
+                    long lag = System.nanoTime() - received;
+                    dispatched.increment();
+                    dispatchLagNanos.add(lag);
+                    maxDispatchLagNanos.accumulateAndGet(lag, Math::max);
+                    try {
+                        handler.onMessage(channel, message);
+                    } catch (Exception e) {
+                        log.error("[SubscriptionManager][dispatch] handler of {} failed!", topic, e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                dropped.increment();
+            }
+        }
+
+        @Override
+        public String getTopic() {
+            return topic;
+        }
+
+        @Override
+        public boolean isPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void unsubscribe() {
+            unregister(this);
+        }
+    }
+}
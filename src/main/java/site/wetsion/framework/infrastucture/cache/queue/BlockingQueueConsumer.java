@@ -0,0 +1,154 @@
+package site.wetsion.framework.infrastucture.cache.queue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多队列消费者：一个线程持有一个阻塞连接，对所有注册的队列 key 执行一次 BRPOP，
+ * 避免每个队列各自占用一个连接。每轮轮换 key 顺序，防止排在前面的繁忙队列饿死后面的队列。
+ * 队列 key 可在运行时增减，最迟在一个阻塞超时后生效。
+ * 处理器在消费线程上同步执行，一个处理器阻塞会拖慢所有队列，耗时的处理应自行转交线程池
+ *
+ * @author 霜华
+ * @date 2026/10/18 7:40 PM
+ **/
+public class BlockingQueueConsumer implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockingQueueConsumer.class);
+
+    private static final long MAX_BACKOFF_MILLIS = 10000;
+
+    private final Pool<Jedis> pool;
+
+    private final int timeoutSeconds;
+
+    private final Map<String, QueueMessageHandler> handlers = new ConcurrentHashMap<>();
+
+    private final Thread consumer;
+
+    private volatile boolean running = true;
+
+    private int offset;
+
+    /**
+     * @param pool           阻塞连接来源，消费期间始终占用其中一个连接
+     * @param timeoutSeconds 单次 BRPOP 阻塞时间，决定新注册的 key 和关闭的最大生效延迟
+     */
+    public BlockingQueueConsumer(Pool<Jedis> pool, int timeoutSeconds) {
+        this.pool = pool;
+        this.timeoutSeconds = timeoutSeconds;
+        this.consumer = new Thread(this::loop, "redis-queue-consumer");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * 处理器在消费线程上同步执行，不应阻塞
+     */
+    public void register(String key, QueueMessageHandler handler) {
+        handlers.put(key, handler);
+        synchronized (handlers) {
+            handlers.notifyAll();
+        }
+    }
+
+    public void unregister(String key) {
+        handlers.remove(key);
+    }
+
+    private void loop() {
+        long backoff = 100;
+        while (running) {
+            Jedis jedis = null;
+            try {
+                jedis = pool.getResource();
+                backoff = 100;
+                while (running) {
+                    String[] keys = nextKeys();
+                    if (keys == null) {
+                        continue;
+                    }
+                    List<String> result = jedis.brpop(timeoutSeconds, keys);
+                    if (result != null && result.size() == 2) {
+                        handle(jedis, result.get(0), result.get(1));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.error("[BlockingQueueConsumer][loop] consume failed, retry in {}ms", backoff, e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            } finally {
+                if (jedis != null) {
+                    jedis.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * 轮换后的 key 列表，没有注册 key 时等待注册并返回 null
+     */
+    private String[] nextKeys() throws InterruptedException {
+        String[] registered = handlers.keySet().toArray(new String[0]);
+        if (registered.length == 0) {
+            synchronized (handlers) {
+                if (handlers.isEmpty()) {
+                    handlers.wait(TimeUnit.SECONDS.toMillis(timeoutSeconds));
+                }
+            }
+            return null;
+        }
+        int start = Math.floorMod(offset++, registered.length);
+        String[] keys = new String[registered.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = registered[(start + i) % registered.length];
+        }
+        return keys;
+    }
+
+    private void handle(Jedis jedis, String key, String message) {
+        QueueMessageHandler handler = handlers.get(key);
+        if (handler == null) {
+            // 弹出后 key 已被注销，放回队尾（BRPOP 的出队端），留给下一个消费者
+            try {
+                jedis.rpush(key, message);
+            } catch (Exception e) {
+                log.error("[BlockingQueueConsumer][handle] push back to {} failed, message lost: {}", key, message, e);
+                throw e;
+            }
+            return;
+        }
+        try {
+            handler.onMessage(key, message);
+        } catch (Exception e) {
+            log.error("[BlockingQueueConsumer][handle] handler of {} failed!", key, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        synchronized (handlers) {
+            handlers.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package site.wetsion.framework.infrastucture.cache.queue;
+
+/**
+ * 队列消息处理器，在消费线程中同步执行，耗时处理应自行转交其他线程
+ *
+ * @author 霜华
+ * @date 2026/10/18 7:40 PM
+ **/
+public interface QueueMessageHandler {
+
+    void onMessage(String key, String message);
+}
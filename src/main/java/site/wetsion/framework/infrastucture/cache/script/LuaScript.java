@@ -0,0 +1,44 @@
+package site.wetsion.framework.infrastucture.cache.script;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 已登记的 lua 脚本，SHA1 在本地计算，与 SCRIPT LOAD 返回值一致
+ *
+ * @author 霜华
+ * @date 2026/10/18 8:10 PM
+ **/
+public final class LuaScript {
+
+    private final String script;
+
+    private final String sha1;
+
+    LuaScript(String script) {
+        this.script = script;
+        this.sha1 = sha1(script);
+    }
+
+    public String getScript() {
+        return script;
+    }
+
+    public String getSha1() {
+        return sha1;
+    }
+
+    private static String sha1(String script) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(script.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
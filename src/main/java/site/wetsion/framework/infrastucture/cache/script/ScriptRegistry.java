@@ -0,0 +1,132 @@
+package site.wetsion.framework.infrastucture.cache.script;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+import redis.clients.util.Pool;
+import site.wetsion.framework.infrastucture.cache.executor.JedisCommandExecutor;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * lua 脚本登记表：登记时在所有主节点上 SCRIPT LOAD，调用走 EVALSHA，
+ * 遇到 NOSCRIPT（主从切换、节点重启或 SCRIPT FLUSH 后）透明地改用 EVAL 并在后台重新加载全部脚本
+ *
+ * @author 霜华
+ * @date 2026/10/18 8:10 PM
+ **/
+public class ScriptRegistry implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ScriptRegistry.class);
+
+    /**
+     * 最多登记的脚本数，动态拼接的脚本超出后按最近最少使用淘汰，被淘汰的脚本再次调用时重新加载
+     */
+    private static final int MAX_SCRIPTS = 1024;
+
+    private final JedisCommandExecutor executor;
+
+    /**
+     * 脚本原文 -> 脚本，脚本一般为常量，按原文查找避免每次调用重新计算 SHA1
+     */
+    private final Cache<String, LuaScript> scripts = CacheBuilder.newBuilder().maximumSize(MAX_SCRIPTS).build();
+
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("redis-script-reload-%d").setDaemon(true).build());
+
+    public ScriptRegistry(JedisCommandExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 登记脚本，首次登记时加载到所有主节点；加载在登记表之外进行，并发登记同一脚本时可能重复加载
+     */
+    public LuaScript register(String script) {
+        LuaScript luaScript = scripts.getIfPresent(script);
+        if (luaScript != null) {
+            return luaScript;
+        }
+        LuaScript created = new LuaScript(script);
+        load(created);
+        LuaScript existing = scripts.asMap().putIfAbsent(script, created);
+        return existing != null ? existing : created;
+    }
+
+    public Object eval(String script, List<String> keys, List<String> args) {
+        return eval(register(script), keys, args);
+    }
+
+    public Object eval(LuaScript script, List<String> keys, List<String> args) {
+        return executor.forKeys(keys.toArray(new String[0])).execute(jedis -> {
+            try {
+                return jedis.evalsha(script.getSha1(), keys, args);
+            } catch (JedisNoScriptException e) {
+                reloadAsync();
+                return jedis.eval(script.getScript(), keys, args);
+            }
+        }, cluster -> {
+            try {
+                return cluster.evalsha(script.getSha1(), keys, args);
+            } catch (JedisNoScriptException e) {
+                reloadAsync();
+                return cluster.eval(script.getScript(), keys, args);
+            }
+        });
+    }
+
+    /**
+     * 将所有已登记脚本重新加载到当前所有主节点
+     */
+    public void reload() {
+        for (LuaScript script : scripts.asMap().values()) {
+            load(script);
+        }
+    }
+
+    private void reloadAsync() {
+        if (reloading.compareAndSet(false, true)) {
+            try {
+                reloader.execute(() -> {
+                    try {
+                        reload();
+                    } finally {
+                        reloading.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 已关闭
+                reloading.set(false);
+            }
+        }
+    }
+
+    private void load(LuaScript script) {
+        for (Pool<Jedis> pool : executor.getMasterPools()) {
+            try (Jedis jedis = pool.getResource()) {
+                String sha1 = jedis.scriptLoad(script.getScript());
+                if (!script.getSha1().equals(sha1)) {
+                    log.warn("[ScriptRegistry][load] sha1 mismatch, local {} remote {}", script.getSha1(), sha1);
+                }
+            } catch (Exception e) {
+                // 加载失败不影响调用，EVALSHA 未命中时会回退为 EVAL
+                log.error("[ScriptRegistry][load] load script {} failed!", script.getSha1(), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        reloader.shutdownNow();
+    }
+}
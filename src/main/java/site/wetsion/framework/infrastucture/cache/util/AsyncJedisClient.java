@@ -0,0 +1,1597 @@
+package site.wetsion.framework.infrastucture.cache.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import redis.clients.jedis.*;
+import redis.clients.jedis.params.sortedset.ZAddParams;
+import redis.clients.util.Slowlog;
+import site.wetsion.framework.infrastucture.cache.callback.PiplineCallback;
+import site.wetsion.framework.infrastucture.cache.callback.TransactionCallback;
+import site.wetsion.framework.infrastucture.cache.util.JedisClientUtil.ExpireType;
+import site.wetsion.framework.infrastucture.cache.util.JedisClientUtil.SetPremise;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JedisClientUtil} 的异步版本，命令在有界线程池中执行并返回 {@link CompletableFuture}，
+ * 调用方可以并行发起多个互不依赖的查询后再统一 join。
+ * 线程数即异步调用占用的连接上限，队列满时返回的 future 以 {@link RejectedExecutionException} 失败
+ *
+ * @author 霜华
+ * @date 2026/10/18 3:40 PM
+ **/
+public class AsyncJedisClient {
+
+    private final JedisClientUtil jedisClient;
+
+    private final ThreadPoolExecutor executor;
+
+    AsyncJedisClient(JedisClientUtil jedisClient, int poolSize, int queueSize) {
+        this.jedisClient = jedisClient;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat("redis-async-%d").setDaemon(true).build());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 在异步线程池中执行任意任务，可用于把序列化等工作一并移出调用线程
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 异步线程池，可供 {@link ScanIterator#prefetch} 等预取使用
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<String> getValue(String key) {
+        return submit(() -> jedisClient.getValue(key));
+    }
+
+    public <T> CompletableFuture<String> setObject(String key, T obj) {
+        return submit(() -> jedisClient.setObject(key, obj));
+    }
+
+    public <T> CompletableFuture<String> setObjectEx(String key, int seconds, T obj) {
+        return submit(() -> jedisClient.setObjectEx(key, seconds, obj));
+    }
+
+    public <T> CompletableFuture<T> getObject(String key, Class<T> targetClass) {
+        return submit(() -> jedisClient.getObject(key, targetClass));
+    }
+
+    public <T> CompletableFuture<String> setList(String key, List<T> objList) {
+        return submit(() -> jedisClient.setList(key, objList));
+    }
+
+    public <T> CompletableFuture<List<T>> getList(String key, Class<T> targetClass) {
+        return submit(() -> jedisClient.getList(key, targetClass));
+    }
+
+    public CompletableFuture<Void> execTransaction(TransactionCallback callback) {
+        return submit(() -> {
+            jedisClient.execTransaction(callback);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> execPipeline(PiplineCallback callback) {
+        return submit(() -> {
+            jedisClient.execPipeline(callback);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Object> eval(String script, int keyCount, String... params) {
+        return submit(() -> jedisClient.eval(script, keyCount, params));
+    }
+
+    public CompletableFuture<Object> eval(String script, List<String> keys, List<String> args) {
+        return submit(() -> jedisClient.eval(script, keys, args));
+    }
+
+    public CompletableFuture<Object> eval(String script) {
+        return submit(() -> jedisClient.eval(script));
+    }
+
+    public CompletableFuture<Object> evalsha(String script) {
+        return submit(() -> jedisClient.evalsha(script));
+    }
+
+    public CompletableFuture<Object> evalsha(String sha1, List<String> keys, List<String> args) {
+        return submit(() -> jedisClient.evalsha(sha1, keys, args));
+    }
+
+    public CompletableFuture<Object> evalsha(String sha1, int keyCount, String... params) {
+        return submit(() -> jedisClient.evalsha(sha1, keyCount, params));
+    }
+
+    public CompletableFuture<Boolean> scriptExists(String sha1) {
+        return submit(() -> jedisClient.scriptExists(sha1));
+    }
+
+    public CompletableFuture<List<Boolean>> scriptExists(String... sha1) {
+        return submit(() -> jedisClient.scriptExists(sha1));
+    }
+
+    public CompletableFuture<String> scriptLoad(String script) {
+        return submit(() -> jedisClient.scriptLoad(script));
+    }
+
+    public CompletableFuture<String> scriptLoad(String script, String key) {
+        return submit(() -> jedisClient.scriptLoad(script, key));
+    }
+
+    public CompletableFuture<List<String>> configGet(String pattern) {
+        return submit(() -> jedisClient.configGet(pattern));
+    }
+
+    public CompletableFuture<String> configSet(String parameter, String value) {
+        return submit(() -> jedisClient.configSet(parameter, value));
+    }
+
+    public CompletableFuture<List<Slowlog>> slowlogGet() {
+        return submit(() -> jedisClient.slowlogGet());
+    }
+
+    public CompletableFuture<List<Slowlog>> slowlogGet(long entries) {
+        return submit(() -> jedisClient.slowlogGet(entries));
+    }
+
+    public CompletableFuture<Long> objectRefcount(String string) {
+        return submit(() -> jedisClient.objectRefcount(string));
+    }
+
+    public CompletableFuture<String> objectEncoding(String string) {
+        return submit(() -> jedisClient.objectEncoding(string));
+    }
+
+    public CompletableFuture<Long> objectIdletime(String string) {
+        return submit(() -> jedisClient.objectIdletime(string));
+    }
+
+    public CompletableFuture<Long> del(String... keys) {
+        return submit(() -> jedisClient.del(keys));
+    }
+
+    public CompletableFuture<Long> exists(String... keys) {
+        return submit(() -> jedisClient.exists(keys));
+    }
+
+    public CompletableFuture<List<String>> blpop(int timeout, String... keys) {
+        return submit(() -> jedisClient.blpop(timeout, keys));
+    }
+
+    public CompletableFuture<List<String>> brpop(int timeout, String... keys) {
+        return submit(() -> jedisClient.brpop(timeout, keys));
+    }
+
+    public CompletableFuture<List<String>> blpop(String... args) {
+        return submit(() -> jedisClient.blpop(args));
+    }
+
+    public CompletableFuture<List<String>> brpop(String... args) {
+        return submit(() -> jedisClient.brpop(args));
+    }
+
+    public CompletableFuture<Set<String>> keys(String pattern) {
+        return submit(() -> jedisClient.keys(pattern));
+    }
+
+    public CompletableFuture<List<String>> mget(String... keys) {
+        return submit(() -> jedisClient.mget(keys));
+    }
+
+    public CompletableFuture<String> mset(String... keysvalues) {
+        return submit(() -> jedisClient.mset(keysvalues));
+    }
+
+    public CompletableFuture<Long> msetnx(String... keysvalues) {
+        return submit(() -> jedisClient.msetnx(keysvalues));
+    }
+
+    public CompletableFuture<String> rename(String oldkey, String newkey) {
+        return submit(() -> jedisClient.rename(oldkey, newkey));
+    }
+
+    public CompletableFuture<Long> renamenx(String oldkey, String newkey) {
+        return submit(() -> jedisClient.renamenx(oldkey, newkey));
+    }
+
+    public CompletableFuture<String> rpoplpush(String srckey, String dstkey) {
+        return submit(() -> jedisClient.rpoplpush(srckey, dstkey));
+    }
+
+    public CompletableFuture<Set<String>> sdiff(String... keys) {
+        return submit(() -> jedisClient.sdiff(keys));
+    }
+
+    public CompletableFuture<Long> sdiffstore(String dstkey, String... keys) {
+        return submit(() -> jedisClient.sdiffstore(dstkey, keys));
+    }
+
+    public CompletableFuture<Set<String>> sinter(String... keys) {
+        return submit(() -> jedisClient.sinter(keys));
+    }
+
+    public CompletableFuture<Long> sinterstore(String dstkey, String... keys) {
+        return submit(() -> jedisClient.sinterstore(dstkey, keys));
+    }
+
+    public CompletableFuture<Long> smove(String srckey, String dstkey, String member) {
+        return submit(() -> jedisClient.smove(srckey, dstkey, member));
+    }
+
+    public CompletableFuture<Long> sort(String key, SortingParams sortingParameters, String dstkey) {
+        return submit(() -> jedisClient.sort(key, sortingParameters, dstkey));
+    }
+
+    public CompletableFuture<Long> sort(String key, String dstkey) {
+        return submit(() -> jedisClient.sort(key, dstkey));
+    }
+
+    public CompletableFuture<Set<String>> sunion(String... keys) {
+        return submit(() -> jedisClient.sunion(keys));
+    }
+
+    public CompletableFuture<Long> sunionstore(String dstkey, String... keys) {
+        return submit(() -> jedisClient.sunionstore(dstkey, keys));
+    }
+
+    public CompletableFuture<String> watch(String... keys) {
+        return submit(() -> jedisClient.watch(keys));
+    }
+
+    public CompletableFuture<Long> zinterstore(String dstkey, String... sets) {
+        return submit(() -> jedisClient.zinterstore(dstkey, sets));
+    }
+
+    public CompletableFuture<Long> zinterstore(String dstkey, ZParams params, String... sets) {
+        return submit(() -> jedisClient.zinterstore(dstkey, params, sets));
+    }
+
+    public CompletableFuture<Long> zunionstore(String dstkey, String... sets) {
+        return submit(() -> jedisClient.zunionstore(dstkey, sets));
+    }
+
+    public CompletableFuture<Long> zunionstore(String dstkey, ZParams params, String... sets) {
+        return submit(() -> jedisClient.zunionstore(dstkey, params, sets));
+    }
+
+    public CompletableFuture<String> brpoplpush(String source, String destination, int timeout) {
+        return submit(() -> jedisClient.brpoplpush(source, destination, timeout));
+    }
+
+    public CompletableFuture<Long> publish(String channel, String message) {
+        return submit(() -> jedisClient.publish(channel, message));
+    }
+
+    public CompletableFuture<String> randomKey() {
+        return submit(() -> jedisClient.randomKey());
+    }
+
+    public CompletableFuture<Long> bitop(BitOP op, String destKey, String... srcKeys) {
+        return submit(() -> jedisClient.bitop(op, destKey, srcKeys));
+    }
+
+    public CompletableFuture<ScanResult<String>> scan(int cursor) {
+        return submit(() -> jedisClient.scan(cursor));
+    }
+
+    public CompletableFuture<ScanResult<String>> scan(String cursor) {
+        return submit(() -> jedisClient.scan(cursor));
+    }
+
+    public CompletableFuture<ScanResult<String>> scan(String key, ScanParams scanParams) {
+        return submit(() -> jedisClient.scan(key, scanParams));
+    }
+
+    public CompletableFuture<String> pfmerge(String destkey, String... sourcekeys) {
+        return submit(() -> jedisClient.pfmerge(destkey, sourcekeys));
+    }
+
+    public CompletableFuture<Long> pfcount(String... keys) {
+        return submit(() -> jedisClient.pfcount(keys));
+    }
+
+    public CompletableFuture<String> set(String key, String value) {
+        return submit(() -> jedisClient.set(key, value));
+    }
+
+    public CompletableFuture<String> set(String key, String value, SetPremise nxxx) {
+        return submit(() -> jedisClient.set(key, value, nxxx));
+    }
+
+    public CompletableFuture<String> set(String key, String value, SetPremise nxxx, ExpireType expx, long time) {
+        return submit(() -> jedisClient.set(key, value, nxxx, expx, time));
+    }
+
+    public CompletableFuture<String> get(String key) {
+        return submit(() -> jedisClient.get(key));
+    }
+
+    public CompletableFuture<Boolean> exists(String key) {
+        return submit(() -> jedisClient.exists(key));
+    }
+
+    public CompletableFuture<Long> persist(String key) {
+        return submit(() -> jedisClient.persist(key));
+    }
+
+    public CompletableFuture<String> type(String key) {
+        return submit(() -> jedisClient.type(key));
+    }
+
+    public CompletableFuture<Long> expire(String key, int seconds) {
+        return submit(() -> jedisClient.expire(key, seconds));
+    }
+
+    public CompletableFuture<Long> expireAt(String key, long unixTime) {
+        return submit(() -> jedisClient.expireAt(key, unixTime));
+    }
+
+    public CompletableFuture<Long> pexpireAt(String key, long l) {
+        return submit(() -> jedisClient.pexpireAt(key, l));
+    }
+
+    public CompletableFuture<Long> ttl(String key) {
+        return submit(() -> jedisClient.ttl(key));
+    }
+
+    public CompletableFuture<Long> pttl(String s) {
+        return submit(() -> jedisClient.pttl(s));
+    }
+
+    public CompletableFuture<Boolean> setbit(String key, long offset, boolean value) {
+        return submit(() -> jedisClient.setbit(key, offset, value));
+    }
+
+    public CompletableFuture<Boolean> setbit(String key, long offset, String value) {
+        return submit(() -> jedisClient.setbit(key, offset, value));
+    }
+
+    public CompletableFuture<Boolean> getbit(String key, long offset) {
+        return submit(() -> jedisClient.getbit(key, offset));
+    }
+
+    public CompletableFuture<Long> setrange(String key, long offset, String value) {
+        return submit(() -> jedisClient.setrange(key, offset, value));
+    }
+
+    public CompletableFuture<String> getrange(String key, long startOffset, long endOffset) {
+        return submit(() -> jedisClient.getrange(key, startOffset, endOffset));
+    }
+
+    public CompletableFuture<String> getSet(String key, String value) {
+        return submit(() -> jedisClient.getSet(key, value));
+    }
+
+    public CompletableFuture<Long> setnx(String key, String value) {
+        return submit(() -> jedisClient.setnx(key, value));
+    }
+
+    public CompletableFuture<String> setex(String key, int seconds, String value) {
+        return submit(() -> jedisClient.setex(key, seconds, value));
+    }
+
+    public CompletableFuture<String> psetex(String key, long milliseconds, String value) {
+        return submit(() -> jedisClient.psetex(key, milliseconds, value));
+    }
+
+    public CompletableFuture<Long> decrBy(String key, long integer) {
+        return submit(() -> jedisClient.decrBy(key, integer));
+    }
+
+    public CompletableFuture<Long> decr(String key) {
+        return submit(() -> jedisClient.decr(key));
+    }
+
+    public CompletableFuture<Long> incrBy(String key, long integer) {
+        return submit(() -> jedisClient.incrBy(key, integer));
+    }
+
+    public CompletableFuture<Double> incrByFloat(String key, double integer) {
+        return submit(() -> jedisClient.incrByFloat(key, integer));
+    }
+
+    public CompletableFuture<Long> incr(String key) {
+        return submit(() -> jedisClient.incr(key));
+    }
+
+    public CompletableFuture<Long> append(String key, String value) {
+        return submit(() -> jedisClient.append(key, value));
+    }
+
+    public CompletableFuture<String> substr(String key, int start, int end) {
+        return submit(() -> jedisClient.substr(key, start, end));
+    }
+
+    public CompletableFuture<Long> hset(String key, String field, String value) {
+        return submit(() -> jedisClient.hset(key, field, value));
+    }
+
+    public CompletableFuture<String> hget(String key, String field) {
+        return submit(() -> jedisClient.hget(key, field));
+    }
+
+    public CompletableFuture<Long> hsetnx(String key, String field, String value) {
+        return submit(() -> jedisClient.hsetnx(key, field, value));
+    }
+
+    public CompletableFuture<String> hmset(String key, Map<String, String> hash) {
+        return submit(() -> jedisClient.hmset(key, hash));
+    }
+
+    public CompletableFuture<List<String>> hmget(String key, String... fields) {
+        return submit(() -> jedisClient.hmget(key, fields));
+    }
+
+    public CompletableFuture<Long> hincrBy(String key, String field, long value) {
+        return submit(() -> jedisClient.hincrBy(key, field, value));
+    }
+
+    public CompletableFuture<Double> hincrByFloat(String key, String field, double value) {
+        return submit(() -> jedisClient.hincrByFloat(key, field, value));
+    }
+
+    public CompletableFuture<Boolean> hexists(String key, String field) {
+        return submit(() -> jedisClient.hexists(key, field));
+    }
+
+    public CompletableFuture<Long> hdel(String key, String... fields) {
+        return submit(() -> jedisClient.hdel(key, fields));
+    }
+
+    public CompletableFuture<Long> hlen(String key) {
+        return submit(() -> jedisClient.hlen(key));
+    }
+
+    public CompletableFuture<Set<String>> hkeys(String key) {
+        return submit(() -> jedisClient.hkeys(key));
+    }
+
+    public CompletableFuture<List<String>> hvals(String key) {
+        return submit(() -> jedisClient.hvals(key));
+    }
+
+    public CompletableFuture<Map<String, String>> hgetAll(String key) {
+        return submit(() -> jedisClient.hgetAll(key));
+    }
+
+    public CompletableFuture<Long> rpush(String key, String... strings) {
+        return submit(() -> jedisClient.rpush(key, strings));
+    }
+
+    public CompletableFuture<Long> lpush(String key, String... strings) {
+        return submit(() -> jedisClient.lpush(key, strings));
+    }
+
+    public CompletableFuture<Long> llen(String key) {
+        return submit(() -> jedisClient.llen(key));
+    }
+
+    public CompletableFuture<List<String>> lrange(String key, long start, long end) {
+        return submit(() -> jedisClient.lrange(key, start, end));
+    }
+
+    public CompletableFuture<String> ltrim(String key, long start, long end) {
+        return submit(() -> jedisClient.ltrim(key, start, end));
+    }
+
+    public CompletableFuture<String> lindex(String key, long index) {
+        return submit(() -> jedisClient.lindex(key, index));
+    }
+
+    public CompletableFuture<String> lset(String key, long index, String value) {
+        return submit(() -> jedisClient.lset(key, index, value));
+    }
+
+    public CompletableFuture<Long> lrem(String key, long count, String value) {
+        return submit(() -> jedisClient.lrem(key, count, value));
+    }
+
+    public CompletableFuture<String> lpop(String key) {
+        return submit(() -> jedisClient.lpop(key));
+    }
+
+    public CompletableFuture<String> rpop(String key) {
+        return submit(() -> jedisClient.rpop(key));
+    }
+
+    public CompletableFuture<Long> sadd(String key, String... members) {
+        return submit(() -> jedisClient.sadd(key, members));
+    }
+
+    public CompletableFuture<Set<String>> smembers(String key) {
+        return submit(() -> jedisClient.smembers(key));
+    }
+
+    public CompletableFuture<Long> srem(String key, String... members) {
+        return submit(() -> jedisClient.srem(key, members));
+    }
+
+    public CompletableFuture<String> spop(String key) {
+        return submit(() -> jedisClient.spop(key));
+    }
+
+    public CompletableFuture<Set<String>> spop(String key, long l) {
+        return submit(() -> jedisClient.spop(key, l));
+    }
+
+    public CompletableFuture<Long> scard(String key) {
+        return submit(() -> jedisClient.scard(key));
+    }
+
+    public CompletableFuture<Boolean> sismember(String key, String member) {
+        return submit(() -> jedisClient.sismember(key, member));
+    }
+
+    public CompletableFuture<String> srandmember(String key) {
+        return submit(() -> jedisClient.srandmember(key));
+    }
+
+    public CompletableFuture<List<String>> srandmember(String key, int count) {
+        return submit(() -> jedisClient.srandmember(key, count));
+    }
+
+    public CompletableFuture<Long> strlen(String key) {
+        return submit(() -> jedisClient.strlen(key));
+    }
+
+    public CompletableFuture<Long> zadd(String key, double score, String member) {
+        return submit(() -> jedisClient.zadd(key, score, member));
+    }
+
+    public CompletableFuture<Long> zadd(String key, Map<String, Double> scoreMembers) {
+        return submit(() -> jedisClient.zadd(key, scoreMembers));
+    }
+
+    public CompletableFuture<Set<String>> zrange(String key, long start, long end) {
+        return submit(() -> jedisClient.zrange(key, start, end));
+    }
+
+    public CompletableFuture<Long> zrem(String key, String... members) {
+        return submit(() -> jedisClient.zrem(key, members));
+    }
+
+    public CompletableFuture<Double> zincrby(String key, double score, String member) {
+        return submit(() -> jedisClient.zincrby(key, score, member));
+    }
+
+    public CompletableFuture<Long> zrank(String key, String member) {
+        return submit(() -> jedisClient.zrank(key, member));
+    }
+
+    public CompletableFuture<Long> zrevrank(String key, String member) {
+        return submit(() -> jedisClient.zrevrank(key, member));
+    }
+
+    public CompletableFuture<Set<String>> zrevrange(String key, long start, long end) {
+        return submit(() -> jedisClient.zrevrange(key, start, end));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrangeWithScores(String key, long start, long end) {
+        return submit(() -> jedisClient.zrangeWithScores(key, start, end));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrevrangeWithScores(String key, long start, long end) {
+        return submit(() -> jedisClient.zrevrangeWithScores(key, start, end));
+    }
+
+    public CompletableFuture<Long> zcard(String key) {
+        return submit(() -> jedisClient.zcard(key));
+    }
+
+    public CompletableFuture<Double> zscore(String key, String member) {
+        return submit(() -> jedisClient.zscore(key, member));
+    }
+
+    public CompletableFuture<List<String>> sort(String key) {
+        return submit(() -> jedisClient.sort(key));
+    }
+
+    public CompletableFuture<List<String>> sort(String key, SortingParams sortingParameters) {
+        return submit(() -> jedisClient.sort(key, sortingParameters));
+    }
+
+    public CompletableFuture<Long> zcount(String key, double min, double max) {
+        return submit(() -> jedisClient.zcount(key, min, max));
+    }
+
+    public CompletableFuture<Long> zcount(String key, String min, String max) {
+        return submit(() -> jedisClient.zcount(key, min, max));
+    }
+
+    public CompletableFuture<Set<String>> zrangeByScore(String key, double min, double max) {
+        return submit(() -> jedisClient.zrangeByScore(key, min, max));
+    }
+
+    public CompletableFuture<Set<String>> zrangeByScore(String key, String min, String max, int offset, int count) {
+        return submit(() -> jedisClient.zrangeByScore(key, min, max, offset, count));
+    }
+
+    public CompletableFuture<Set<String>> zrangeByScore(String key, String min, String max) {
+        return submit(() -> jedisClient.zrangeByScore(key, min, max));
+    }
+
+    public CompletableFuture<Set<String>> zrevrangeByScore(String key, double max, double min) {
+        return submit(() -> jedisClient.zrevrangeByScore(key, max, min));
+    }
+
+    public CompletableFuture<Set<String>> zrevrangeByScore(String key, String max, String min) {
+        return submit(() -> jedisClient.zrevrangeByScore(key, max, min));
+    }
+
+    public CompletableFuture<Set<String>> zrevrangeByScore(String key, String max, String min, int offset, int count) {
+        return submit(() -> jedisClient.zrevrangeByScore(key, max, min, offset, count));
+    }
+
+    public CompletableFuture<Set<String>> zrevrangeByScore(String key, double max, double min, int offset, int count) {
+        return submit(() -> jedisClient.zrevrangeByScore(key, max, min, offset, count));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, double min, double max) {
+        return submit(() -> jedisClient.zrevrangeByScoreWithScores(key, min, max));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, String min, String max) {
+        return submit(() -> jedisClient.zrevrangeByScoreWithScores(key, min, max));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, double min, double max, int offset,
+            int count) {
+        return submit(() -> jedisClient.zrevrangeByScoreWithScores(key, min, max, offset, count));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrevrangeByScoreWithScores(String key, String min, String max, int offset,
+            int count) {
+        return submit(() -> jedisClient.zrevrangeByScoreWithScores(key, min, max, offset, count));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, double min, double max) {
+        return submit(() -> jedisClient.zrangeByScoreWithScores(key, min, max));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, String min, String max, int offset,
+            int count) {
+        return submit(() -> jedisClient.zrangeByScoreWithScores(key, min, max, offset, count));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(String key, String min, String max) {
+        return submit(() -> jedisClient.zrangeByScoreWithScores(key, min, max));
+    }
+
+    public CompletableFuture<Long> zremrangeByRank(String key, long start, long end) {
+        return submit(() -> jedisClient.zremrangeByRank(key, start, end));
+    }
+
+    public CompletableFuture<Long> zremrangeByScore(String key, double start, double end) {
+        return submit(() -> jedisClient.zremrangeByScore(key, start, end));
+    }
+
+    public CompletableFuture<Long> zremrangeByScore(String key, String start, String end) {
+        return submit(() -> jedisClient.zremrangeByScore(key, start, end));
+    }
+
+    public CompletableFuture<Long> zlexcount(String key, String min, String max) {
+        return submit(() -> jedisClient.zlexcount(key, min, max));
+    }
+
+    public CompletableFuture<Set<String>> zrangeByLex(String key, String min, String max) {
+        return submit(() -> jedisClient.zrangeByLex(key, min, max));
+    }
+
+    public CompletableFuture<Set<String>> zrangeByLex(String key, String min, String max, int offset, int count) {
+        return submit(() -> jedisClient.zrangeByLex(key, min, max, offset, count));
+    }
+
+    public CompletableFuture<Set<String>> zrevrangeByLex(String key, String s1, String s2) {
+        return submit(() -> jedisClient.zrevrangeByLex(key, s1, s2));
+    }
+
+    public CompletableFuture<Set<String>> zrevrangeByLex(String key, String s1, String s2, int i, int i1) {
+        return submit(() -> jedisClient.zrevrangeByLex(key, s1, s2, i, i1));
+    }
+
+    public CompletableFuture<Long> zremrangeByLex(String key, String min, String max) {
+        return submit(() -> jedisClient.zremrangeByLex(key, min, max));
+    }
+
+    public CompletableFuture<Long> lpushx(String key, String... string) {
+        return submit(() -> jedisClient.lpushx(key, string));
+    }
+
+    public CompletableFuture<Long> rpushx(String key, String... string) {
+        return submit(() -> jedisClient.rpushx(key, string));
+    }
+
+    public CompletableFuture<List<String>> blpop(String arg) {
+        return submit(() -> jedisClient.blpop(arg));
+    }
+
+    public CompletableFuture<List<String>> blpop(int timeout, String key) {
+        return submit(() -> jedisClient.blpop(timeout, key));
+    }
+
+    public CompletableFuture<List<String>> brpop(String arg) {
+        return submit(() -> jedisClient.brpop(arg));
+    }
+
+    public CompletableFuture<List<String>> brpop(int timeout, String key) {
+        return submit(() -> jedisClient.brpop(timeout, key));
+    }
+
+    public CompletableFuture<Long> del(String key) {
+        return submit(() -> jedisClient.del(key));
+    }
+
+    public CompletableFuture<String> echo(String string) {
+        return submit(() -> jedisClient.echo(string));
+    }
+
+    public CompletableFuture<Long> move(String key, int dbIndex) {
+        return submit(() -> jedisClient.move(key, dbIndex));
+    }
+
+    public CompletableFuture<Long> bitcount(String key) {
+        return submit(() -> jedisClient.bitcount(key));
+    }
+
+    public CompletableFuture<Long> bitcount(String key, long start, long end) {
+        return submit(() -> jedisClient.bitcount(key, start, end));
+    }
+
+    public CompletableFuture<Long> bitpos(String key, boolean b) {
+        return submit(() -> jedisClient.bitpos(key, b));
+    }
+
+    public CompletableFuture<Long> bitpos(String key, boolean b, BitPosParams bitPosParams) {
+        return submit(() -> jedisClient.bitpos(key, b, bitPosParams));
+    }
+
+    public CompletableFuture<ScanResult<Map.Entry<String, String>>> hscan(String key, int cursor) {
+        return submit(() -> jedisClient.hscan(key, cursor));
+    }
+
+    public CompletableFuture<ScanResult<String>> sscan(String key, int cursor) {
+        return submit(() -> jedisClient.sscan(key, cursor));
+    }
+
+    public CompletableFuture<ScanResult<Tuple>> zscan(String key, int cursor) {
+        return submit(() -> jedisClient.zscan(key, cursor));
+    }
+
+    public CompletableFuture<ScanResult<Map.Entry<String, String>>> hscan(String key, String cursor) {
+        return submit(() -> jedisClient.hscan(key, cursor));
+    }
+
+    public CompletableFuture<ScanResult<Map.Entry<String, String>>> hscan(String key, String s1,
+            ScanParams scanParams) {
+        return submit(() -> jedisClient.hscan(key, s1, scanParams));
+    }
+
+    public CompletableFuture<ScanResult<String>> sscan(String key, String cursor) {
+        return submit(() -> jedisClient.sscan(key, cursor));
+    }
+
+    public CompletableFuture<ScanResult<String>> sscan(String key, String s1, ScanParams scanParams) {
+        return submit(() -> jedisClient.sscan(key, s1, scanParams));
+    }
+
+    public CompletableFuture<ScanResult<Tuple>> zscan(String key, String cursor) {
+        return submit(() -> jedisClient.zscan(key, cursor));
+    }
+
+    public CompletableFuture<ScanResult<Tuple>> zscan(String key, String s1, ScanParams scanParams) {
+        return submit(() -> jedisClient.zscan(key, s1, scanParams));
+    }
+
+    public CompletableFuture<Long> pfadd(String key, String... elements) {
+        return submit(() -> jedisClient.pfadd(key, elements));
+    }
+
+    public CompletableFuture<Long> pfcount(String key) {
+        return submit(() -> jedisClient.pfcount(key));
+    }
+
+    public CompletableFuture<Long> geoadd(String key, double v, double v1, String s1) {
+        return submit(() -> jedisClient.geoadd(key, v, v1, s1));
+    }
+
+    public CompletableFuture<Long> geoadd(String key, Map<String, GeoCoordinate> map) {
+        return submit(() -> jedisClient.geoadd(key, map));
+    }
+
+    public CompletableFuture<Double> geodist(String key, String s1, String s2) {
+        return submit(() -> jedisClient.geodist(key, s1, s2));
+    }
+
+    public CompletableFuture<Double> geodist(String key, String s1, String s2, GeoUnit geoUnit) {
+        return submit(() -> jedisClient.geodist(key, s1, s2, geoUnit));
+    }
+
+    public CompletableFuture<List<String>> geohash(String key, String... strings) {
+        return submit(() -> jedisClient.geohash(key, strings));
+    }
+
+    public CompletableFuture<List<GeoCoordinate>> geopos(String key, String... strings) {
+        return submit(() -> jedisClient.geopos(key, strings));
+    }
+
+    public CompletableFuture<List<GeoRadiusResponse>> georadius(String key, double v, double v1, double v2,
+            GeoUnit geoUnit) {
+        return submit(() -> jedisClient.georadius(key, v, v1, v2, geoUnit));
+    }
+
+    public CompletableFuture<List<GeoRadiusResponse>> georadiusByMember(String key, String s1, double v,
+            GeoUnit geoUnit) {
+        return submit(() -> jedisClient.georadiusByMember(key, s1, v, geoUnit));
+    }
+
+    public CompletableFuture<Object> eval(byte[] script, byte[] keyCount, byte[]... params) {
+        return submit(() -> jedisClient.eval(script, keyCount, params));
+    }
+
+    public CompletableFuture<Object> eval(byte[] script, int keyCount, byte[]... params) {
+        return submit(() -> jedisClient.eval(script, keyCount, params));
+    }
+
+    public CompletableFuture<Object> eval(byte[] script, List<byte[]> keys, List<byte[]> args) {
+        return submit(() -> jedisClient.eval(script, keys, args));
+    }
+
+    public CompletableFuture<Object> eval(byte[] script) {
+        return submit(() -> jedisClient.eval(script));
+    }
+
+    public CompletableFuture<Object> evalsha(byte[] script) {
+        return submit(() -> jedisClient.evalsha(script));
+    }
+
+    public CompletableFuture<Object> evalsha(byte[] sha1, List<byte[]> keys, List<byte[]> args) {
+        return submit(() -> jedisClient.evalsha(sha1, keys, args));
+    }
+
+    public CompletableFuture<Object> evalsha(byte[] sha1, int keyCount, byte[]... params) {
+        return submit(() -> jedisClient.evalsha(sha1, keyCount, params));
+    }
+
+    public CompletableFuture<List<Long>> scriptExists(byte[]... sha1) {
+        return submit(() -> jedisClient.scriptExists(sha1));
+    }
+
+    public CompletableFuture<byte[]> scriptLoad(byte[] script) {
+        return submit(() -> jedisClient.scriptLoad(script));
+    }
+
+    public CompletableFuture<String> scriptFlush() {
+        return submit(() -> jedisClient.scriptFlush());
+    }
+
+    public CompletableFuture<String> scriptKill() {
+        return submit(() -> jedisClient.scriptKill());
+    }
+
+    public CompletableFuture<List<byte[]>> configGet(byte[] pattern) {
+        return submit(() -> jedisClient.configGet(pattern));
+    }
+
+    public CompletableFuture<byte[]> configSet(byte[] parameter, byte[] value) {
+        return submit(() -> jedisClient.configSet(parameter, value));
+    }
+
+    public CompletableFuture<String> slowlogReset() {
+        return submit(() -> jedisClient.slowlogReset());
+    }
+
+    public CompletableFuture<Long> slowlogLen() {
+        return submit(() -> jedisClient.slowlogLen());
+    }
+
+    public CompletableFuture<List<byte[]>> slowlogGetBinary() {
+        return submit(() -> jedisClient.slowlogGetBinary());
+    }
+
+    public CompletableFuture<List<byte[]>> slowlogGetBinary(long entries) {
+        return submit(() -> jedisClient.slowlogGetBinary(entries));
+    }
+
+    public CompletableFuture<Long> objectRefcount(byte[] key) {
+        return submit(() -> jedisClient.objectRefcount(key));
+    }
+
+    public CompletableFuture<byte[]> objectEncoding(byte[] key) {
+        return submit(() -> jedisClient.objectEncoding(key));
+    }
+
+    public CompletableFuture<Long> objectIdletime(byte[] key) {
+        return submit(() -> jedisClient.objectIdletime(key));
+    }
+
+    public CompletableFuture<Long> del(byte[]... keys) {
+        return submit(() -> jedisClient.del(keys));
+    }
+
+    public CompletableFuture<Long> exists(byte[]... bytes) {
+        return submit(() -> jedisClient.exists(bytes));
+    }
+
+    public CompletableFuture<List<byte[]>> blpop(int timeout, byte[]... keys) {
+        return submit(() -> jedisClient.blpop(timeout, keys));
+    }
+
+    public CompletableFuture<List<byte[]>> brpop(int timeout, byte[]... keys) {
+        return submit(() -> jedisClient.brpop(timeout, keys));
+    }
+
+    public CompletableFuture<List<byte[]>> blpop(byte[]... args) {
+        return submit(() -> jedisClient.blpop(args));
+    }
+
+    public CompletableFuture<List<byte[]>> brpop(byte[]... args) {
+        return submit(() -> jedisClient.brpop(args));
+    }
+
+    public CompletableFuture<Set<byte[]>> keys(byte[] pattern) {
+        return submit(() -> jedisClient.keys(pattern));
+    }
+
+    public CompletableFuture<List<byte[]>> mget(byte[]... keys) {
+        return submit(() -> jedisClient.mget(keys));
+    }
+
+    public CompletableFuture<String> mset(byte[]... keysvalues) {
+        return submit(() -> jedisClient.mset(keysvalues));
+    }
+
+    public CompletableFuture<Long> msetnx(byte[]... keysvalues) {
+        return submit(() -> jedisClient.msetnx(keysvalues));
+    }
+
+    public CompletableFuture<String> rename(byte[] oldkey, byte[] newkey) {
+        return submit(() -> jedisClient.rename(oldkey, newkey));
+    }
+
+    public CompletableFuture<Long> renamenx(byte[] oldkey, byte[] newkey) {
+        return submit(() -> jedisClient.renamenx(oldkey, newkey));
+    }
+
+    public CompletableFuture<byte[]> rpoplpush(byte[] srckey, byte[] dstkey) {
+        return submit(() -> jedisClient.rpoplpush(srckey, dstkey));
+    }
+
+    public CompletableFuture<Set<byte[]>> sdiff(byte[]... keys) {
+        return submit(() -> jedisClient.sdiff(keys));
+    }
+
+    public CompletableFuture<Long> sdiffstore(byte[] dstkey, byte[]... keys) {
+        return submit(() -> jedisClient.sdiffstore(dstkey, keys));
+    }
+
+    public CompletableFuture<Set<byte[]>> sinter(byte[]... keys) {
+        return submit(() -> jedisClient.sinter(keys));
+    }
+
+    public CompletableFuture<Long> sinterstore(byte[] dstkey, byte[]... keys) {
+        return submit(() -> jedisClient.sinterstore(dstkey, keys));
+    }
+
+    public CompletableFuture<Long> smove(byte[] srckey, byte[] dstkey, byte[] member) {
+        return submit(() -> jedisClient.smove(srckey, dstkey, member));
+    }
+
+    public CompletableFuture<Long> sort(byte[] key, SortingParams sortingParameters, byte[] dstkey) {
+        return submit(() -> jedisClient.sort(key, sortingParameters, dstkey));
+    }
+
+    public CompletableFuture<Long> sort(byte[] key, byte[] dstkey) {
+        return submit(() -> jedisClient.sort(key, dstkey));
+    }
+
+    public CompletableFuture<Set<byte[]>> sunion(byte[]... keys) {
+        return submit(() -> jedisClient.sunion(keys));
+    }
+
+    public CompletableFuture<Long> sunionstore(byte[] dstkey, byte[]... keys) {
+        return submit(() -> jedisClient.sunionstore(dstkey, keys));
+    }
+
+    public CompletableFuture<String> watch(byte[]... keys) {
+        return submit(() -> jedisClient.watch(keys));
+    }
+
+    public CompletableFuture<String> unwatch() {
+        return submit(() -> jedisClient.unwatch());
+    }
+
+    public CompletableFuture<Long> zinterstore(byte[] dstkey, byte[]... sets) {
+        return submit(() -> jedisClient.zinterstore(dstkey, sets));
+    }
+
+    public CompletableFuture<Long> zinterstore(byte[] dstkey, ZParams params, byte[]... sets) {
+        return submit(() -> jedisClient.zinterstore(dstkey, params, sets));
+    }
+
+    public CompletableFuture<Long> zunionstore(byte[] dstkey, byte[]... sets) {
+        return submit(() -> jedisClient.zunionstore(dstkey, sets));
+    }
+
+    public CompletableFuture<Long> zunionstore(byte[] dstkey, ZParams params, byte[]... sets) {
+        return submit(() -> jedisClient.zunionstore(dstkey, params, sets));
+    }
+
+    public CompletableFuture<byte[]> brpoplpush(byte[] source, byte[] destination, int timeout) {
+        return submit(() -> jedisClient.brpoplpush(source, destination, timeout));
+    }
+
+    public CompletableFuture<Long> publish(byte[] channel, byte[] message) {
+        return submit(() -> jedisClient.publish(channel, message));
+    }
+
+    public CompletableFuture<byte[]> randomBinaryKey() {
+        return submit(() -> jedisClient.randomBinaryKey());
+    }
+
+    public CompletableFuture<Long> bitop(BitOP op, byte[] destKey, byte[]... srcKeys) {
+        return submit(() -> jedisClient.bitop(op, destKey, srcKeys));
+    }
+
+    public CompletableFuture<String> pfmerge(byte[] destkey, byte[]... sourcekeys) {
+        return submit(() -> jedisClient.pfmerge(destkey, sourcekeys));
+    }
+
+    public CompletableFuture<Long> pfcount(byte[]... keys) {
+        return submit(() -> jedisClient.pfcount(keys));
+    }
+
+    public CompletableFuture<String> set(byte[] key, byte[] value) {
+        return submit(() -> jedisClient.set(key, value));
+    }
+
+    public CompletableFuture<String> set(byte[] bytes, byte[] bytes1, byte[] bytes2) {
+        return submit(() -> jedisClient.set(bytes, bytes1, bytes2));
+    }
+
+    public CompletableFuture<String> set(byte[] bytes, byte[] bytes1, byte[] bytes2, byte[] bytes3, long l) {
+        return submit(() -> jedisClient.set(bytes, bytes1, bytes2, bytes3, l));
+    }
+
+    public CompletableFuture<byte[]> get(byte[] key) {
+        return submit(() -> jedisClient.get(key));
+    }
+
+    public CompletableFuture<Boolean> exists(byte[] key) {
+        return submit(() -> jedisClient.exists(key));
+    }
+
+    public CompletableFuture<Long> persist(byte[] key) {
+        return submit(() -> jedisClient.persist(key));
+    }
+
+    public CompletableFuture<String> type(byte[] key) {
+        return submit(() -> jedisClient.type(key));
+    }
+
+    public CompletableFuture<Long> expire(byte[] key, int seconds) {
+        return submit(() -> jedisClient.expire(key, seconds));
+    }
+
+    public CompletableFuture<Long> pexpire(String key, long l) {
+        return submit(() -> jedisClient.pexpire(key, l));
+    }
+
+    public CompletableFuture<Long> pexpire(byte[] bytes, long l) {
+        return submit(() -> jedisClient.pexpire(bytes, l));
+    }
+
+    public CompletableFuture<Long> expireAt(byte[] key, long unixTime) {
+        return submit(() -> jedisClient.expireAt(key, unixTime));
+    }
+
+    public CompletableFuture<Long> pexpireAt(byte[] bytes, long l) {
+        return submit(() -> jedisClient.pexpireAt(bytes, l));
+    }
+
+    public CompletableFuture<Long> ttl(byte[] key) {
+        return submit(() -> jedisClient.ttl(key));
+    }
+
+    public CompletableFuture<Boolean> setbit(byte[] key, long offset, boolean value) {
+        return submit(() -> jedisClient.setbit(key, offset, value));
+    }
+
+    public CompletableFuture<Boolean> setbit(byte[] key, long offset, byte[] value) {
+        return submit(() -> jedisClient.setbit(key, offset, value));
+    }
+
+    public CompletableFuture<Boolean> getbit(byte[] key, long offset) {
+        return submit(() -> jedisClient.getbit(key, offset));
+    }
+
+    public CompletableFuture<Long> setrange(byte[] key, long offset, byte[] value) {
+        return submit(() -> jedisClient.setrange(key, offset, value));
+    }
+
+    public CompletableFuture<byte[]> getrange(byte[] key, long startOffset, long endOffset) {
+        return submit(() -> jedisClient.getrange(key, startOffset, endOffset));
+    }
+
+    public CompletableFuture<byte[]> getSet(byte[] key, byte[] value) {
+        return submit(() -> jedisClient.getSet(key, value));
+    }
+
+    public CompletableFuture<Long> setnx(byte[] key, byte[] value) {
+        return submit(() -> jedisClient.setnx(key, value));
+    }
+
+    public CompletableFuture<String> setex(byte[] key, int seconds, byte[] value) {
+        return submit(() -> jedisClient.setex(key, seconds, value));
+    }
+
+    public CompletableFuture<Long> decrBy(byte[] key, long integer) {
+        return submit(() -> jedisClient.decrBy(key, integer));
+    }
+
+    public CompletableFuture<Long> decr(byte[] key) {
+        return submit(() -> jedisClient.decr(key));
+    }
+
+    public CompletableFuture<Long> incrBy(byte[] key, long integer) {
+        return submit(() -> jedisClient.incrBy(key, integer));
+    }
+
+    public CompletableFuture<Double> incrByFloat(byte[] key, double value) {
+        return submit(() -> jedisClient.incrByFloat(key, value));
+    }
+
+    public CompletableFuture<Long> incr(byte[] key) {
+        return submit(() -> jedisClient.incr(key));
+    }
+
+    public CompletableFuture<Long> append(byte[] key, byte[] value) {
+        return submit(() -> jedisClient.append(key, value));
+    }
+
+    public CompletableFuture<byte[]> substr(byte[] key, int start, int end) {
+        return submit(() -> jedisClient.substr(key, start, end));
+    }
+
+    public CompletableFuture<Long> hset(byte[] key, byte[] field, byte[] value) {
+        return submit(() -> jedisClient.hset(key, field, value));
+    }
+
+    public CompletableFuture<byte[]> hget(byte[] key, byte[] field) {
+        return submit(() -> jedisClient.hget(key, field));
+    }
+
+    public CompletableFuture<Long> hsetnx(byte[] key, byte[] field, byte[] value) {
+        return submit(() -> jedisClient.hsetnx(key, field, value));
+    }
+
+    public CompletableFuture<String> hmset(byte[] key, Map<byte[], byte[]> hash) {
+        return submit(() -> jedisClient.hmset(key, hash));
+    }
+
+    public CompletableFuture<List<byte[]>> hmget(byte[] key, byte[]... fields) {
+        return submit(() -> jedisClient.hmget(key, fields));
+    }
+
+    public CompletableFuture<Long> hincrBy(byte[] key, byte[] field, long value) {
+        return submit(() -> jedisClient.hincrBy(key, field, value));
+    }
+
+    public CompletableFuture<Double> hincrByFloat(byte[] key, byte[] field, double value) {
+        return submit(() -> jedisClient.hincrByFloat(key, field, value));
+    }
+
+    public CompletableFuture<Boolean> hexists(byte[] key, byte[] field) {
+        return submit(() -> jedisClient.hexists(key, field));
+    }
+
+    public CompletableFuture<Long> hdel(byte[] key, byte[]... fields) {
+        return submit(() -> jedisClient.hdel(key, fields));
+    }
+
+    public CompletableFuture<Long> hlen(byte[] key) {
+        return submit(() -> jedisClient.hlen(key));
+    }
+
+    public CompletableFuture<Set<byte[]>> hkeys(byte[] key) {
+        return submit(() -> jedisClient.hkeys(key));
+    }
+
+    public CompletableFuture<Collection<byte[]>> hvals(byte[] key) {
+        return submit(() -> jedisClient.hvals(key));
+    }
+
+    public CompletableFuture<Map<byte[], byte[]>> hgetAll(byte[] key) {
+        return submit(() -> jedisClient.hgetAll(key));
+    }
+
+    public CompletableFuture<Long> rpush(byte[] key, byte[]... args) {
+        return submit(() -> jedisClient.rpush(key, args));
+    }
+
+    public CompletableFuture<Long> lpush(byte[] key, byte[]... args) {
+        return submit(() -> jedisClient.lpush(key, args));
+    }
+
+    public CompletableFuture<Long> llen(byte[] key) {
+        return submit(() -> jedisClient.llen(key));
+    }
+
+    public CompletableFuture<List<byte[]>> lrange(byte[] key, long start, long end) {
+        return submit(() -> jedisClient.lrange(key, start, end));
+    }
+
+    public CompletableFuture<String> ltrim(byte[] key, long start, long end) {
+        return submit(() -> jedisClient.ltrim(key, start, end));
+    }
+
+    public CompletableFuture<byte[]> lindex(byte[] key, long index) {
+        return submit(() -> jedisClient.lindex(key, index));
+    }
+
+    public CompletableFuture<String> lset(byte[] key, long index, byte[] value) {
+        return submit(() -> jedisClient.lset(key, index, value));
+    }
+
+    public CompletableFuture<Long> lrem(byte[] key, long count, byte[] value) {
+        return submit(() -> jedisClient.lrem(key, count, value));
+    }
+
+    public CompletableFuture<byte[]> lpop(byte[] key) {
+        return submit(() -> jedisClient.lpop(key));
+    }
+
+    public CompletableFuture<byte[]> rpop(byte[] key) {
+        return submit(() -> jedisClient.rpop(key));
+    }
+
+    public CompletableFuture<Long> sadd(byte[] key, byte[]... members) {
+        return submit(() -> jedisClient.sadd(key, members));
+    }
+
+    public CompletableFuture<Set<byte[]>> smembers(byte[] key) {
+        return submit(() -> jedisClient.smembers(key));
+    }
+
+    public CompletableFuture<Long> srem(byte[] key, byte[]... member) {
+        return submit(() -> jedisClient.srem(key, member));
+    }
+
+    public CompletableFuture<byte[]> spop(byte[] key) {
+        return submit(() -> jedisClient.spop(key));
+    }
+
+    public CompletableFuture<Set<byte[]>> spop(byte[] bytes, long l) {
+        return submit(() -> jedisClient.spop(bytes, l));
+    }
+
+    public CompletableFuture<Long> scard(byte[] key) {
+        return submit(() -> jedisClient.scard(key));
+    }
+
+    public CompletableFuture<Boolean> sismember(byte[] key, byte[] member) {
+        return submit(() -> jedisClient.sismember(key, member));
+    }
+
+    public CompletableFuture<byte[]> srandmember(byte[] key) {
+        return submit(() -> jedisClient.srandmember(key));
+    }
+
+    public CompletableFuture<List<byte[]>> srandmember(byte[] key, int count) {
+        return submit(() -> jedisClient.srandmember(key, count));
+    }
+
+    public CompletableFuture<Long> strlen(byte[] key) {
+        return submit(() -> jedisClient.strlen(key));
+    }
+
+    public CompletableFuture<Long> zadd(byte[] key, double score, byte[] member) {
+        return submit(() -> jedisClient.zadd(key, score, member));
+    }
+
+    public CompletableFuture<Long> zadd(byte[] key, Map<byte[], Double> scoreMembers) {
+        return submit(() -> jedisClient.zadd(key, scoreMembers));
+    }
+
+    public CompletableFuture<Set<byte[]>> zrange(byte[] key, long start, long end) {
+        return submit(() -> jedisClient.zrange(key, start, end));
+    }
+
+    public CompletableFuture<Long> zrem(byte[] key, byte[]... members) {
+        return submit(() -> jedisClient.zrem(key, members));
+    }
+
+    public CompletableFuture<Double> zincrby(byte[] key, double score, byte[] member) {
+        return submit(() -> jedisClient.zincrby(key, score, member));
+    }
+
+    public CompletableFuture<Long> zrank(byte[] key, byte[] member) {
+        return submit(() -> jedisClient.zrank(key, member));
+    }
+
+    public CompletableFuture<Long> zrevrank(byte[] key, byte[] member) {
+        return submit(() -> jedisClient.zrevrank(key, member));
+    }
+
+    public CompletableFuture<Set<byte[]>> zrevrange(byte[] key, long start, long end) {
+        return submit(() -> jedisClient.zrevrange(key, start, end));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrangeWithScores(byte[] key, long start, long end) {
+        return submit(() -> jedisClient.zrangeWithScores(key, start, end));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrevrangeWithScores(byte[] key, long start, long end) {
+        return submit(() -> jedisClient.zrevrangeWithScores(key, start, end));
+    }
+
+    public CompletableFuture<Long> zcard(byte[] key) {
+        return submit(() -> jedisClient.zcard(key));
+    }
+
+    public CompletableFuture<Double> zscore(byte[] key, byte[] member) {
+        return submit(() -> jedisClient.zscore(key, member));
+    }
+
+    public CompletableFuture<List<byte[]>> sort(byte[] key) {
+        return submit(() -> jedisClient.sort(key));
+    }
+
+    public CompletableFuture<List<byte[]>> sort(byte[] key, SortingParams sortingParameters) {
+        return submit(() -> jedisClient.sort(key, sortingParameters));
+    }
+
+    public CompletableFuture<Long> zcount(byte[] key, double min, double max) {
+        return submit(() -> jedisClient.zcount(key, min, max));
+    }
+
+    public CompletableFuture<Long> zcount(byte[] key, byte[] min, byte[] max) {
+        return submit(() -> jedisClient.zcount(key, min, max));
+    }
+
+    public CompletableFuture<Set<byte[]>> zrangeByScore(byte[] key, double min, double max) {
+        return submit(() -> jedisClient.zrangeByScore(key, min, max));
+    }
+
+    public CompletableFuture<Set<byte[]>> zrangeByScore(byte[] key, byte[] min, byte[] max) {
+        return submit(() -> jedisClient.zrangeByScore(key, min, max));
+    }
+
+    public CompletableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, double max, double min) {
+        return submit(() -> jedisClient.zrevrangeByScore(key, max, min));
+    }
+
+    public CompletableFuture<Set<byte[]>> zrevrangeByScore(byte[] key, byte[] max, byte[] min) {
+        return submit(() -> jedisClient.zrevrangeByScore(key, max, min));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, double min, double max) {
+        return submit(() -> jedisClient.zrangeByScoreWithScores(key, min, max));
+    }
+
+    public CompletableFuture<Set<Tuple>> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max) {
+        return submit(() -> jedisClient.zrangeByScoreWithScores(key, min, max));
+    }
+
+    public CompletableFuture<Long> zremrangeByRank(byte[] key, long start, long end) {
+        return submit(() -> jedisClient.zremrangeByRank(key, start, end));
+    }
+
+    public CompletableFuture<Long> zremrangeByScore(byte[] key, double start, double end) {
+        return submit(() -> jedisClient.zremrangeByScore(key, start, end));
+    }
+
+    public CompletableFuture<Long> zremrangeByScore(byte[] key, byte[] start, byte[] end) {
+        return submit(() -> jedisClient.zremrangeByScore(key, start, end));
+    }
+
+    public CompletableFuture<Long> zlexcount(byte[] key, byte[] min, byte[] max) {
+        return submit(() -> jedisClient.zlexcount(key, min, max));
+    }
+
+    public CompletableFuture<Set<byte[]>> zrangeByLex(byte[] key, byte[] min, byte[] max) {
+        return submit(() -> jedisClient.zrangeByLex(key, min, max));
+    }
+
+    public CompletableFuture<Set<byte[]>> zrevrangeByLex(byte[] bytes, byte[] bytes1, byte[] bytes2) {
+        return submit(() -> jedisClient.zrevrangeByLex(bytes, bytes1, bytes2));
+    }
+
+    public CompletableFuture<Set<byte[]>> zrevrangeByLex(byte[] bytes, byte[] bytes1, byte[] bytes2, int i, int i1) {
+        return submit(() -> jedisClient.zrevrangeByLex(bytes, bytes1, bytes2, i, i1));
+    }
+
+    public CompletableFuture<Long> zremrangeByLex(byte[] key, byte[] min, byte[] max) {
+        return submit(() -> jedisClient.zremrangeByLex(key, min, max));
+    }
+
+    public CompletableFuture<Long> lpushx(byte[] key, byte[]... arg) {
+        return submit(() -> jedisClient.lpushx(key, arg));
+    }
+
+    public CompletableFuture<Long> rpushx(byte[] key, byte[]... arg) {
+        return submit(() -> jedisClient.rpushx(key, arg));
+    }
+
+    public CompletableFuture<List<byte[]>> blpop(byte[] arg) {
+        return submit(() -> jedisClient.blpop(arg));
+    }
+
+    public CompletableFuture<List<byte[]>> brpop(byte[] arg) {
+        return submit(() -> jedisClient.brpop(arg));
+    }
+
+    public CompletableFuture<Long> del(byte[] key) {
+        return submit(() -> jedisClient.del(key));
+    }
+
+    public CompletableFuture<byte[]> echo(byte[] arg) {
+        return submit(() -> jedisClient.echo(arg));
+    }
+
+    public CompletableFuture<Long> move(byte[] key, int dbIndex) {
+        return submit(() -> jedisClient.move(key, dbIndex));
+    }
+
+    public CompletableFuture<Long> bitcount(byte[] key) {
+        return submit(() -> jedisClient.bitcount(key));
+    }
+
+    public CompletableFuture<Long> bitcount(byte[] key, long start, long end) {
+        return submit(() -> jedisClient.bitcount(key, start, end));
+    }
+
+    public CompletableFuture<Long> pfadd(byte[] key, byte[]... elements) {
+        return submit(() -> jedisClient.pfadd(key, elements));
+    }
+
+    public CompletableFuture<Long> pfcount(byte[] key) {
+        return submit(() -> jedisClient.pfcount(key));
+    }
+
+    public CompletableFuture<Long> geoadd(byte[] bytes, double v, double v1, byte[] bytes1) {
+        return submit(() -> jedisClient.geoadd(bytes, v, v1, bytes1));
+    }
+
+    public CompletableFuture<Long> geoadd(byte[] bytes, Map<byte[], GeoCoordinate> map) {
+        return submit(() -> jedisClient.geoadd(bytes, map));
+    }
+
+    public CompletableFuture<Double> geodist(byte[] bytes, byte[] bytes1, byte[] bytes2) {
+        return submit(() -> jedisClient.geodist(bytes, bytes1, bytes2));
+    }
+
+    public CompletableFuture<Double> geodist(byte[] bytes, byte[] bytes1, byte[] bytes2, GeoUnit geoUnit) {
+        return submit(() -> jedisClient.geodist(bytes, bytes1, bytes2, geoUnit));
+    }
+
+    public CompletableFuture<List<byte[]>> geohash(byte[] bytes, byte[]... bytes1) {
+        return submit(() -> jedisClient.geohash(bytes, bytes1));
+    }
+
+    public CompletableFuture<List<GeoCoordinate>> geopos(byte[] bytes, byte[]... bytes1) {
+        return submit(() -> jedisClient.geopos(bytes, bytes1));
+    }
+
+    public CompletableFuture<List<GeoRadiusResponse>> georadius(byte[] bytes, double v, double v1, double v2,
+            GeoUnit geoUnit) {
+        return submit(() -> jedisClient.georadius(bytes, v, v1, v2, geoUnit));
+    }
+
+    public CompletableFuture<List<GeoRadiusResponse>> georadiusByMember(byte[] bytes, byte[] bytes1, double v,
+            GeoUnit geoUnit) {
+        return submit(() -> jedisClient.georadiusByMember(bytes, bytes1, v, geoUnit));
+    }
+
+    public CompletableFuture<String> ping() {
+        return submit(() -> jedisClient.ping());
+    }
+
+    public CompletableFuture<String> quit() {
+        return submit(() -> jedisClient.quit());
+    }
+
+    public CompletableFuture<Long> dbSize() {
+        return submit(() -> jedisClient.dbSize());
+    }
+
+    public CompletableFuture<String> select(int index) {
+        return submit(() -> jedisClient.select(index));
+    }
+
+    public CompletableFuture<String> auth(String password) {
+        return submit(() -> jedisClient.auth(password));
+    }
+
+    public CompletableFuture<String> save() {
+        return submit(() -> jedisClient.save());
+    }
+
+    public CompletableFuture<String> bgsave() {
+        return submit(() -> jedisClient.bgsave());
+    }
+
+    public CompletableFuture<String> bgrewriteaof() {
+        return submit(() -> jedisClient.bgrewriteaof());
+    }
+
+    public CompletableFuture<Long> lastsave() {
+        return submit(() -> jedisClient.lastsave());
+    }
+
+    public CompletableFuture<String> shutdown() {
+        return submit(() -> jedisClient.shutdown());
+    }
+
+    public CompletableFuture<String> info() {
+        return submit(() -> jedisClient.info());
+    }
+
+    public CompletableFuture<String> info(String section) {
+        return submit(() -> jedisClient.info(section));
+    }
+
+    public CompletableFuture<String> slaveof(String host, int port) {
+        return submit(() -> jedisClient.slaveof(host, port));
+    }
+
+    public CompletableFuture<String> slaveofNoOne() {
+        return submit(() -> jedisClient.slaveofNoOne());
+    }
+
+    public CompletableFuture<Long> getDB() {
+        return submit(() -> jedisClient.getDB());
+    }
+
+    public CompletableFuture<String> debug(DebugParams params) {
+        return submit(() -> jedisClient.debug(params));
+    }
+
+    public CompletableFuture<String> configResetStat() {
+        return submit(() -> jedisClient.configResetStat());
+    }
+
+    public CompletableFuture<Long> waitReplicas(int replicas, long timeout) {
+        return submit(() -> jedisClient.waitReplicas(replicas, timeout));
+    }
+
+    public CompletableFuture<Long> linsert(String key, BinaryClient.LIST_POSITION where, String pivot, String value) {
+        return submit(() -> jedisClient.linsert(key, where, pivot, value));
+    }
+
+    public CompletableFuture<Long> zadd(String key, Map<String, Double> scoreMembers, ZAddParams zAddParams) {
+        return submit(() -> jedisClient.zadd(key, scoreMembers, zAddParams));
+    }
+}
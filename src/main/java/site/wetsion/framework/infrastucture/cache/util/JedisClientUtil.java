@@ -1,19 +1,55 @@
 package site.wetsion.framework.infrastucture.cache.util;
 
+import com.google.common.primitives.UnsignedBytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.*;
 import redis.clients.jedis.params.sortedset.ZAddParams;
+import redis.clients.util.Pool;
+import redis.clients.util.SafeEncoder;
 import redis.clients.util.Slowlog;
+import site.wetsion.framework.infrastucture.cache.RedisConf;
 import site.wetsion.framework.infrastucture.cache.RedisJedisPool;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreaker;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreakerRegistry;
 import site.wetsion.framework.infrastucture.cache.callback.PiplineCallback;
+import site.wetsion.framework.infrastucture.cache.callback.BatchCallback;
+import site.wetsion.framework.infrastucture.cache.callback.JedisCallback;
 import site.wetsion.framework.infrastucture.cache.callback.TransactionCallback;
-
+import site.wetsion.framework.infrastucture.cache.callback.TransactionWriteCallback;
+import site.wetsion.framework.infrastucture.cache.executor.AbstractPooledCommandExecutor;
+import site.wetsion.framework.infrastucture.cache.executor.ClusterCommandExecutor;
+import site.wetsion.framework.infrastucture.cache.executor.ClusterMultiKeyCommands;
+import site.wetsion.framework.infrastucture.cache.executor.JedisCommandExecutor;
+import site.wetsion.framework.infrastucture.cache.executor.SentinelCommandExecutor;
+import site.wetsion.framework.infrastucture.cache.executor.ShardedCommandExecutor;
+import site.wetsion.framework.infrastucture.cache.executor.ShardedMultiKeyCommands;
+import site.wetsion.framework.infrastucture.cache.executor.StandaloneCommandExecutor;
+import site.wetsion.framework.infrastucture.cache.executor.TransactionRunner;
+import site.wetsion.framework.infrastucture.cache.executor.TypedBatch;
+import site.wetsion.framework.infrastucture.cache.local.NearCache;
+import site.wetsion.framework.infrastucture.cache.local.NearCacheInvalidator;
+import site.wetsion.framework.infrastucture.cache.monitor.CommandLatencyMetrics;
+import site.wetsion.framework.infrastucture.cache.monitor.HotKeyDetector;
+import site.wetsion.framework.infrastucture.cache.monitor.JmxSupport;
+import site.wetsion.framework.infrastucture.cache.monitor.ValueSizeMonitor;
+import site.wetsion.framework.infrastucture.cache.pubsub.SubscriptionManager;
+import site.wetsion.framework.infrastucture.cache.queue.BlockingQueueConsumer;
+import site.wetsion.framework.infrastucture.cache.script.ScriptRegistry;
+
+import javax.annotation.PreDestroy;
 import java.io.UnsupportedEncodingException;
+import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author <a href="mailto:weixin@cai-inc.com">霜华</a>
@@ -25,82 +61,392 @@ public class JedisClientUtil {
 
     private static final String MASTER = "master";
     private static final String CLUSTER = "cluster";
+    private static final String SHARED = "shared";
+
+    private static final int DEFAULT_SCAN_COUNT = 1000;
 
     private String scriptKey = "scriptKey";
 
     private RedisJedisPool redisJedisPool;
 
+    private final JedisCommandExecutor executor;
+
+    /**
+     * 集群模式下跨槽位的多 key 命令，非集群模式为 null
+     */
+    private final ClusterMultiKeyCommands clusterMultiKeyCommands;
+
+    /**
+     * 分片模式下跨分片的多 key 命令，非分片模式为 null
+     */
+    private final ShardedMultiKeyCommands shardedMultiKeyCommands;
+
+    /**
+     * 阻塞命令执行器，未配置阻塞连接池或集群模式下与 executor 相同
+     */
+    private final JedisCommandExecutor blockingExecutor;
+
+    private final ScriptRegistry scriptRegistry;
+
+    private final TransactionRunner transactionRunner;
+
+    /**
+     * 按节点的熔断器，未开启时为 null
+     */
+    private final CircuitBreakerRegistry circuitBreakers;
+
+    /**
+     * 近端缓存，未开启时为 null
+     */
+    private final NearCache nearCache;
+
+    /**
+     * 热 key 探测，未开启时为 null
+     */
+    private final HotKeyDetector hotKeyDetector;
+
+    /**
+     * value 大小监控，未开启时为 null
+     */
+    private final ValueSizeMonitor valueSizeMonitor;
+
+    /**
+     * 近端缓存跨节点失效，未配置失效频道时为 null
+     */
+    private final NearCacheInvalidator nearCacheInvalidator;
+
+    private volatile AsyncJedisClient asyncClient;
+
+    private volatile SubscriptionManager subscriptionManager;
 
+
+    /**
+     * 集群模式下使用 {@link RedisJedisPool} 按配置构建的集群客户端
+     */
     JedisClientUtil(RedisJedisPool jedisPool) {
-        this.redisJedisPool = jedisPool;
+        this(jedisPool.getJedisCluster(), jedisPool);
     }
 
     JedisClientUtil(JedisCluster jedisCluster, RedisJedisPool jedisPool) {
         this.jedisCluster = jedisCluster;
         this.redisJedisPool = jedisPool;
+        this.circuitBreakers = createCircuitBreakers(jedisPool);
+        this.executor = createExecutor(jedisPool, jedisCluster, circuitBreakers);
+        this.blockingExecutor = createBlockingExecutor(jedisPool, executor);
+        this.scriptRegistry = new ScriptRegistry(executor);
+        this.transactionRunner = createTransactionRunner(jedisPool, executor);
+        this.nearCache = createNearCache(jedisPool);
+        this.hotKeyDetector = createHotKeyDetector(jedisPool);
+        this.valueSizeMonitor = createValueSizeMonitor(jedisPool);
+        this.clusterMultiKeyCommands = executor instanceof ClusterCommandExecutor
+                ? ((ClusterCommandExecutor) executor).getMultiKeyCommands() : null;
+        this.shardedMultiKeyCommands = executor instanceof ShardedCommandExecutor
+                ? ((ShardedCommandExecutor) executor).getMultiKeyCommands() : null;
+        this.nearCacheInvalidator = createNearCacheInvalidator();
     }
 
     private JedisCluster jedisCluster;
 
+    /**
+     * 按部署模式确定命令执行器，仅在构造时判断一次
+     */
+    @SuppressWarnings("unchecked")
+    private static JedisCommandExecutor createExecutor(RedisJedisPool jedisPool, JedisCluster jedisCluster,
+                                                       CircuitBreakerRegistry circuitBreakers) {
+        RedisConf conf = jedisPool.getConf();
+        if (CLUSTER.equals(jedisPool.getPoolType())) {
+            ClusterCommandExecutor cluster = new ClusterCommandExecutor(jedisCluster);
+            if (circuitBreakers != null) {
+                cluster.enableCircuitBreaker(circuitBreakers, "cluster");
+            }
+            return enableLatencyMetrics(jedisPool, cluster, "cluster");
+        }
+        if (SHARED.equals(jedisPool.getPoolType())) {
+            ShardedCommandExecutor sharded = new ShardedCommandExecutor(jedisPool.getShardPools(),
+                    conf.getShardVirtualNodes());
+            if (Boolean.TRUE.equals(conf.getAutoBatch())) {
+                sharded.enableAutoBatch(conf.getAutoBatchMaxSize(), conf.getAutoBatchWindowMicros(),
+                        conf.getAutoBatchTimeoutMillis());
+            }
+            if (circuitBreakers != null) {
+                sharded.enableCircuitBreaker(circuitBreakers, "sharded");
+            }
+            return enableLatencyMetrics(jedisPool, sharded, "sharded");
+        }
+        Pool<Jedis> pool = jedisPool.getPool();
+        AbstractPooledCommandExecutor executor;
+        String mode;
+        if (MASTER.equals(jedisPool.getPoolType())) {
+            executor = new SentinelCommandExecutor((JedisSentinelPool) pool, jedisPool.getReplicaRouter());
+            mode = "sentinel";
+        } else {
+            executor = new StandaloneCommandExecutor(pool);
+            mode = "standalone";
+        }
+        if (Boolean.TRUE.equals(conf.getAutoBatch())) {
+            executor.enableAutoBatch(conf.getAutoBatchMaxSize(), conf.getAutoBatchWindowMicros(),
+                    conf.getAutoBatchTimeoutMillis());
+        }
+        if (circuitBreakers != null) {
+            executor.enableCircuitBreaker(circuitBreakers, mode);
+        }
+        return enableLatencyMetrics(jedisPool, executor, mode);
+    }
+
+    /**
+     * 阻塞命令本身会长时间占用连接，不参与熔断
+     */
+    private static CircuitBreakerRegistry createCircuitBreakers(RedisJedisPool jedisPool) {
+        RedisConf conf = jedisPool.getConf();
+        if (!Boolean.TRUE.equals(conf.getCircuitBreakerEnabled())) {
+            return null;
+        }
+        return new CircuitBreakerRegistry(jedisPool.getClientName(), endpoint -> new CircuitBreaker(endpoint,
+                conf.getCircuitBreakerFailureRateThreshold(), conf.getCircuitBreakerSlowCallMillis(),
+                conf.getCircuitBreakerSlowCallRateThreshold(), conf.getCircuitBreakerMinimumCalls(),
+                conf.getCircuitBreakerWindowSeconds(), conf.getCircuitBreakerOpenMillis(),
+                conf.getCircuitBreakerHalfOpenCalls()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JedisCommandExecutor createBlockingExecutor(RedisJedisPool jedisPool, JedisCommandExecutor executor) {
+        Pool<Jedis> blockingPool = jedisPool.getBlockingPool();
+        if (CLUSTER.equals(jedisPool.getPoolType()) || SHARED.equals(jedisPool.getPoolType())
+                || blockingPool == null) {
+            return executor;
+        }
+        JedisCommandExecutor blockingExecutor = MASTER.equals(jedisPool.getPoolType())
+                ? new SentinelCommandExecutor((JedisSentinelPool) blockingPool)
+                : new StandaloneCommandExecutor(blockingPool);
+        return enableLatencyMetrics(jedisPool, blockingExecutor, "blocking");
+    }
+
+    /**
+     * 开启按命令的耗时统计并注册到 JMX，每种执行器一个 MBean
+     */
+    private static JedisCommandExecutor enableLatencyMetrics(RedisJedisPool jedisPool, JedisCommandExecutor executor,
+                                                             String mode) {
+        if (Boolean.TRUE.equals(jedisPool.getConf().getCommandLatencyEnabled())) {
+            CommandLatencyMetrics metrics = new CommandLatencyMetrics(mode);
+            executor.enableLatencyMetrics(metrics);
+            JmxSupport.register(metrics, "CommandLatency", jedisPool.getClientName() + "-" + mode);
+        }
+        return executor;
+    }
+
+    private static TransactionRunner createTransactionRunner(RedisJedisPool jedisPool, JedisCommandExecutor executor) {
+        RedisConf conf = jedisPool.getConf();
+        return new TransactionRunner(executor, conf.getTransactionMaxAttempts(), conf.getTransactionBackoffMillis(),
+                conf.getTransactionMaxBackoffMillis());
+    }
+
+    private static NearCache createNearCache(RedisJedisPool jedisPool) {
+        RedisConf conf = jedisPool.getConf();
+        if (!Boolean.TRUE.equals(conf.getNearCacheEnabled())) {
+            return null;
+        }
+        return new NearCache(conf.getNearCacheMaximumSize(), conf.getNearCacheTtlSeconds(),
+                conf.getNearCacheNamespaceTtlSeconds());
+    }
+
+    private NearCacheInvalidator createNearCacheInvalidator() {
+        RedisConf conf = redisJedisPool.getConf();
+        String channel = conf.getNearCacheInvalidationChannel();
+        if (channel == null || channel.isEmpty()) {
+            return null;
+        }
+        // 未开启近端缓存时只发布不订阅
+        return new NearCacheInvalidator(nearCache, nearCache != null ? subscriptions() : null, channel, this::publish,
+                conf.getNearCacheInvalidationBatchMillis(), conf.getNearCacheInvalidationBatchMaxKeys());
+    }
+
+    private static HotKeyDetector createHotKeyDetector(RedisJedisPool jedisPool) {
+        RedisConf conf = jedisPool.getConf();
+        if (conf.getHotKeySampleRate() <= 0) {
+            return null;
+        }
+        HotKeyDetector detector = new HotKeyDetector(conf.getHotKeySampleRate(), conf.getHotKeyTopK(),
+                conf.getHotKeyWindowSeconds(), Boolean.TRUE.equals(conf.getHotKeyByPrefix()));
+        JmxSupport.register(detector, "HotKeys", jedisPool.getClientName());
+        return detector;
+    }
+
+    private static ValueSizeMonitor createValueSizeMonitor(RedisJedisPool jedisPool) {
+        RedisConf conf = jedisPool.getConf();
+        if (!Boolean.TRUE.equals(conf.getValueSizeMonitorEnabled())) {
+            return null;
+        }
+        ValueSizeMonitor monitor = new ValueSizeMonitor(conf.getValueSizePrefixes(), conf.getBigValueThresholdBytes(),
+                conf.getBigValueStackSampleRate());
+        JmxSupport.register(monitor, "ValueSizes", jedisPool.getClientName());
+        return monitor;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (asyncClient != null) {
+            asyncClient.destroy();
+        }
+        if (nearCacheInvalidator != null) {
+            nearCacheInvalidator.close();
+        }
+        if (subscriptionManager != null) {
+            subscriptionManager.close();
+        }
+        if (hotKeyDetector != null) {
+            hotKeyDetector.close();
+            JmxSupport.unregister("HotKeys", redisJedisPool.getClientName());
+        }
+        if (valueSizeMonitor != null) {
+            JmxSupport.unregister("ValueSizes", redisJedisPool.getClientName());
+        }
+        if (Boolean.TRUE.equals(redisJedisPool.getConf().getCommandLatencyEnabled())) {
+            for (String mode : new String[]{"cluster", "sentinel", "standalone", "sharded", "blocking"}) {
+                JmxSupport.unregister("CommandLatency", redisJedisPool.getClientName() + "-" + mode);
+            }
+        }
+        scriptRegistry.close();
+        executor.close();
+        if (blockingExecutor != executor) {
+            blockingExecutor.close();
+        }
+        if (circuitBreakers != null) {
+            circuitBreakers.close();
+        }
+    }
+
+    /**
+     * 异步客户端，首次调用时按 {@link RedisConf#getAsyncPoolSize()} 创建
+     */
+    public AsyncJedisClient async() {
+        AsyncJedisClient client = asyncClient;
+        if (client == null) {
+            synchronized (this) {
+                client = asyncClient;
+                if (client == null) {
+                    RedisConf conf = redisJedisPool.getConf();
+                    client = new AsyncJedisClient(this, conf.getAsyncPoolSize(), conf.getAsyncQueueSize());
+                    asyncClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * 多路复用的订阅管理器，首次调用时创建，所有订阅共用一个不占用连接池的专用连接
+     */
+    public SubscriptionManager subscriptions() {
+        SubscriptionManager manager = subscriptionManager;
+        if (manager == null) {
+            synchronized (this) {
+                manager = subscriptionManager;
+                if (manager == null) {
+                    RedisConf conf = redisJedisPool.getConf();
+                    manager = new SubscriptionManager(this::subscribeNode, conf.getPassword(), conf.getTimeout(),
+                            conf.getPubSubQueueSize());
+                    subscriptionManager = manager;
+                }
+            }
+        }
+        return manager;
+    }
+
+    /**
+     * 订阅使用的节点，集群模式下消息会广播到所有节点，取任一主节点即可；哨兵模式下为当前主节点
+     */
+    private HostAndPort subscribeNode() {
+        Pool<Jedis> pool = executor.getMasterPools().get(0);
+        try (Jedis jedis = pool.getResource()) {
+            Client client = jedis.getClient();
+            return new HostAndPort(client.getHost(), client.getPort());
+        }
+    }
+
+
+    /**
+     * lua 脚本登记表，调用走 EVALSHA 并在 NOSCRIPT 时回退为 EVAL
+     */
+    public ScriptRegistry scripts() {
+        return scriptRegistry;
+    }
+
+    /**
+     * 创建一个多队列消费者，所有注册的队列共用一个阻塞连接，连接取自阻塞命令连接池。
+     * 集群模式不支持，分片模式请使用 {@link #queueConsumer(int, String)}
+     *
+     * @param timeoutSeconds 单次 BRPOP 阻塞时间
+     */
+    @SuppressWarnings("unchecked")
+    public BlockingQueueConsumer queueConsumer(int timeoutSeconds) {
+        if (executor instanceof ClusterCommandExecutor || executor instanceof ShardedCommandExecutor) {
+            throw new IllegalStateException("not support");
+        }
+        Pool<Jedis> pool = redisJedisPool.getBlockingPool();
+        return new BlockingQueueConsumer(pool != null ? pool : redisJedisPool.getPool(), timeoutSeconds);
+    }
+
+    /**
+     * 分片模式下一次 BRPOP 只能覆盖一个分片，按 hashKey 选出分片创建消费者，
+     * 注册的队列 key 须与 hashKey 落在同一分片，通常使用相同的 hash tag，如 {orders}:high、{orders}:low
+     *
+     * @param hashKey 用于选择分片的 key，非分片模式下忽略
+     */
+    public BlockingQueueConsumer queueConsumer(int timeoutSeconds, String hashKey) {
+        if (executor instanceof ShardedCommandExecutor) {
+            return new BlockingQueueConsumer(((ShardedCommandExecutor) executor).getShardPool(hashKey),
+                    timeoutSeconds);
+        }
+        return queueConsumer(timeoutSeconds);
+    }
+
 
     public JedisCluster getJedisCluster() {
         return jedisCluster;
     }
 
+    public JedisCommandExecutor getExecutor() {
+        return executor;
+    }
+
 
     public Object getResource() {
-        if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-            return jedisCluster;
-        }
-        return redisJedisPool.getPool().getResource();
+        Jedis jedis = executor.getJedis();
+        return jedis != null ? jedis : jedisCluster;
     }
 
     public void returnResource(Object resource) {
-        if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-            return;
-        }
-
-        //释放连接
+        //释放连接，集群模式下资源为 JedisCluster，无需归还
         try {
-            if (resource == null) {
-                return;
+            if (resource instanceof Jedis) {
+                ((Jedis) resource).close();
             }
-            ((Jedis) resource).close();
         } catch (Exception e) {
             log.error("[JedisClientUtil][returnResource]happened error!", e);
         }
     }
 
     public String getValue(String key) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).get(key);
-            } else {
-                rtn = ((Jedis) jedis).get(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("get", jedis -> jedis.get(key), cluster -> cluster.get(key),
+                pipeline -> pipeline.get(key));
     }
 
     public <T> String setObject(String key, T obj) {
         byte[] valueBytes = SerializeUtil.serialize(obj);
+        recordValueSize(key, valueBytes);
         return set(key.getBytes(), valueBytes);
     }
 
     public <T> String setObjectEx(String key, int seconds, T obj) {
         byte[] valueBytes = SerializeUtil.serialize(obj);
+        recordValueSize(key, valueBytes);
         return setex(key.getBytes(), seconds, valueBytes);
     }
 
     public <T> T getObject(String key, Class<T> targetClass) {
         byte[] bytes = get(key.getBytes());
+        recordValueSize(key, bytes);
         if (bytes != null && bytes.length > 0) {
             return SerializeUtil.deserialize(bytes, targetClass);
         } else {
@@ -110,11 +456,13 @@ public class JedisClientUtil {
 
     public <T> String setList(String key, List<T> objList) {
         byte[] valueBytes = SerializeUtil.serializeList(objList);
+        recordValueSize(key, valueBytes);
         return set(key.getBytes(), valueBytes);
     }
 
     public <T> List<T> getList(String key, Class<T> targetClass) {
         byte[] bytes = get(key.getBytes());
+        recordValueSize(key, bytes);
         if (bytes != null && bytes.length > 0) {
             return SerializeUtil.deserializeList(bytes, targetClass);
         } else {
@@ -123,44 +471,107 @@ public class JedisClientUtil {
     }
 
     public Transaction getTranscation() {
-        Object jedis = getResource();
-        if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-            //            return ((JedisCluster) jedis).multi();
+        Jedis jedis = executor.getJedis();
+        if (jedis == null) {
             throw new IllegalStateException("not support");
-        } else {
-            return ((Jedis) jedis).multi();
         }
+        return jedis.multi();
     }
 
+    /**
+     * 事务不声明 key，分片模式下无法选出分片，请使用 {@link #execTransaction(List, JedisCallback, TransactionWriteCallback)}
+     */
     public void execTransaction(TransactionCallback callback) {
-        Jedis jedis = getJedis();
-        try {
+        if (executor instanceof ShardedCommandExecutor) {
+            throw new IllegalStateException("not support");
+        }
+        executor.execute(jedis -> {
             callback.callback(jedis.multi());
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+            return null;
+        });
+    }
+
+    /**
+     * WATCH 后执行读阶段，再在 MULTI 中执行写阶段，被并发修改中止时退避重试
+     *
+     * @see TransactionRunner#run(List, JedisCallback, TransactionWriteCallback)
+     */
+    public <R> List<Object> execTransaction(List<String> watchKeys, JedisCallback<R> read,
+                                            TransactionWriteCallback<R> write) {
+        return transactionRunner.run(watchKeys, read, write);
+    }
+
+    /**
+     * 按节点的熔断器，未开启时返回 null
+     */
+    public CircuitBreakerRegistry getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    /**
+     * 近端缓存，未开启时返回 null
+     */
+    public NearCache getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * 近端缓存跨节点失效，未配置失效频道时返回 null；本节点未开启近端缓存时只发布
+     */
+    public NearCacheInvalidator getNearCacheInvalidator() {
+        return nearCacheInvalidator;
+    }
+
+    /**
+     * 热 key 探测，未开启时返回 null
+     */
+    public HotKeyDetector getHotKeyDetector() {
+        return hotKeyDetector;
+    }
+
+    /**
+     * value 大小监控，未开启时返回 null
+     */
+    public ValueSizeMonitor getValueSizeMonitor() {
+        return valueSizeMonitor;
+    }
+
+    /**
+     * 记录序列化后的 value 大小
+     */
+    public void recordValueSize(String key, byte[] value) {
+        if (valueSizeMonitor != null) {
+            valueSizeMonitor.record(key, value);
         }
     }
 
-    public Jedis getJedis() {
-        Object jedis = getResource();
-        if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-            return null;
-        } else {
-            return (Jedis) jedis;
+    private void recordKey(String key) {
+        if (hotKeyDetector != null) {
+            hotKeyDetector.record(key);
+        }
+    }
+
+    private void recordKey(byte[] key) {
+        if (hotKeyDetector != null) {
+            hotKeyDetector.record(key);
         }
     }
 
+    public TransactionRunner getTransactionRunner() {
+        return transactionRunner;
+    }
+
+    public Jedis getJedis() {
+        return executor.getJedis();
+    }
+
     /**
      * 该方法禁用，会导致连接池泄露
      * @return
      */
     @Deprecated
     public Pipeline pipelined() {
-        //        Object jedis = getResource();
-
-        if (CLUSTER.equals(redisJedisPool.getPoolType())) {
+        if (executor instanceof ClusterCommandExecutor) {
             throw new UnsupportedOperationException("集群不支持该操作");
         } else {
             throw new UnsupportedOperationException("该方法会导致连接池泄露，具体请参考");
@@ -171,198 +582,72 @@ public class JedisClientUtil {
 
 
     public void execPipeline(PiplineCallback callback) {
-        if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-            throw new IllegalStateException("集群版redis不支持pipelined");
-        }
+        executor.executePipeline(callback);
+    }
 
-        Jedis jedis = getJedis();
-        try {
-            callback.callback(jedis.pipelined());
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+    /**
+     * 带类型的批量命令，key 按 UTF-8 编码
+     *
+     * @see #batch(Class, Function, BatchCallback)
+     */
+    public <T> List<T> batch(Class<T> type, BatchCallback<T> callback) {
+        return batch(type, SafeEncoder::encode, callback);
+    }
+
+    /**
+     * 带类型的批量命令，按 {@link RedisConf#getBatchMaxCommands()} 等配置自动分块发送
+     *
+     * @param keyEncoder key 的编码方式
+     * @return 读命令解码后的结果
+     */
+    public <T> List<T> batch(Class<T> type, Function<String, byte[]> keyEncoder, BatchCallback<T> callback) {
+        RedisConf conf = redisJedisPool.getConf();
+        TypedBatch<T> batch = new TypedBatch<>(executor, type, keyEncoder, conf.getBatchMaxCommands(),
+                conf.getBatchMaxBytes(), conf.getBatchTargetFlushMillis());
+        callback.callback(batch);
+        return batch.execute();
     }
 
     public Object eval(String script, int keyCount, String... params) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).eval(script, keyCount, params);
-            } else {
-                rtn = ((Jedis) jedis).eval(script, keyCount, params);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(Arrays.copyOf(params, keyCount)).execute("eval", jedis -> jedis.eval(script, keyCount, params),
+                cluster -> cluster.eval(script, keyCount, params));
     }
 
     public Object eval(String script, List<String> keys, List<String> args) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).eval(script, keys, args);
-            } else {
-                rtn = ((Jedis) jedis).eval(script, keys, args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys.toArray(new String[0])).execute("eval", jedis -> jedis.eval(script, keys, args), cluster -> cluster.eval(script, keys, args));
     }
 
     public Object eval(String script) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).eval(script, scriptKey);
-            } else {
-                rtn = ((Jedis) jedis).eval(script);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("eval", jedis -> jedis.eval(script), cluster -> cluster.eval(script, scriptKey));
     }
 
     public Object evalsha(String script) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).evalsha(script, scriptKey);
-            } else {
-                rtn = ((Jedis) jedis).evalsha(script);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("evalsha", jedis -> jedis.evalsha(script), cluster -> cluster.evalsha(script, scriptKey));
     }
 
     public Object evalsha(String sha1, List<String> keys, List<String> args) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).evalsha(sha1, keys, args);
-            } else {
-                rtn = ((Jedis) jedis).evalsha(sha1, keys, args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys.toArray(new String[0])).execute("evalsha", jedis -> jedis.evalsha(sha1, keys, args), cluster -> cluster.evalsha(sha1, keys, args));
     }
 
     public Object evalsha(String sha1, int keyCount, String... params) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).evalsha(sha1, keyCount, params);
-            } else {
-                rtn = ((Jedis) jedis).evalsha(sha1, keyCount, params);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(Arrays.copyOf(params, keyCount)).execute("evalsha", jedis -> jedis.evalsha(sha1, keyCount, params),
+                cluster -> cluster.evalsha(sha1, keyCount, params));
     }
 
     public Boolean scriptExists(String sha1) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scriptExists(scriptKey, sha1);
-            } else {
-                rtn = ((Jedis) jedis).scriptExists(sha1);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("scriptExists", jedis -> jedis.scriptExists(sha1), cluster -> cluster.scriptExists(scriptKey, sha1));
     }
 
     public List<Boolean> scriptExists(String... sha1) {
-        List<Boolean> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scriptExists(scriptKey, sha1);
-            } else {
-                rtn = ((Jedis) jedis).scriptExists(sha1);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("scriptExists", jedis -> jedis.scriptExists(sha1), cluster -> cluster.scriptExists(scriptKey, sha1));
     }
 
     public String scriptLoad(String script) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scriptLoad(script, scriptKey);
-            } else {
-                rtn = ((Jedis) jedis).scriptLoad(script);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("scriptLoad", jedis -> jedis.scriptLoad(script), cluster -> cluster.scriptLoad(script, scriptKey));
     }
 
     public String scriptLoad(String script, String key) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scriptLoad(script, key);
-            } else {
-                rtn = ((Jedis) jedis).scriptLoad(script);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("scriptLoad", jedis -> jedis.scriptLoad(script), cluster -> cluster.scriptLoad(script, key));
     }
 
     public List<String> configGet(String pattern) {
@@ -382,3079 +667,1043 @@ public class JedisClientUtil {
     }
 
     public Long objectRefcount(String string) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).objectRefcount(string);'
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).objectRefcount(string);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(string).execute("objectRefcount", jedis -> jedis.objectRefcount(string));
     }
 
     public String objectEncoding(String string) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).objectEncoding(string);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).objectEncoding(string);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(string).execute("objectEncoding", jedis -> jedis.objectEncoding(string));
     }
 
     public Long objectIdletime(String string) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).objectIdletime(string);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).objectIdletime(string);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(string).execute("objectIdletime", jedis -> jedis.objectIdletime(string));
     }
 
     public Long del(String... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).del(keys);
-            } else {
-                rtn = ((Jedis) jedis).del(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+        if (shardedMultiKeyCommands != null) {
+            return shardedMultiKeyCommands.del(keys);
         }
+        return executor.execute("del", jedis -> jedis.del(keys), cluster -> clusterMultiKeyCommands.del(keys));
     }
 
     public Long exists(String... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).exists(keys);
-            } else {
-                rtn = ((Jedis) jedis).exists(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+        if (shardedMultiKeyCommands != null) {
+            return shardedMultiKeyCommands.exists(keys);
         }
+        return executor.executeRead("exists", jedis -> jedis.exists(keys), cluster -> clusterMultiKeyCommands.exists(keys));
     }
 
     public List<String> blpop(int timeout, String... keys) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).blpop(timeout, keys);
-            } else {
-                rtn = ((Jedis) jedis).blpop(timeout, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(keys).execute("blpop", jedis -> jedis.blpop(timeout, keys), cluster -> cluster.blpop(timeout, keys));
     }
 
     public List<String> brpop(int timeout, String... keys) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).brpop(timeout, keys);
-            } else {
-                rtn = ((Jedis) jedis).brpop(timeout, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(keys).execute("brpop", jedis -> jedis.brpop(timeout, keys), cluster -> cluster.brpop(timeout, keys));
     }
 
     public List<String> blpop(String... args) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).blpop(Integer.MAX_VALUE, args);
-            } else {
-                rtn = ((Jedis) jedis).blpop(args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(blockingKeys(args)).execute("blpop", jedis -> jedis.blpop(args), cluster -> cluster.blpop(Integer.MAX_VALUE, args));
     }
 
     public List<String> brpop(String... args) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).brpop(Integer.MAX_VALUE, args);
-            } else {
-                rtn = ((Jedis) jedis).brpop(args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(blockingKeys(args)).execute("brpop", jedis -> jedis.brpop(args), cluster -> cluster.brpop(Integer.MAX_VALUE, args));
     }
 
+    /**
+     * 基于 SCAN 遍历所有主节点收集匹配的 key，不会调用阻塞的 KEYS 命令；key 数量很大时请使用 {@link #scanKeys(String, int)}
+     */
     public Set<String> keys(String pattern) {
-        return null;
+        return scanKeys(pattern, DEFAULT_SCAN_COUNT).collect(Collectors.toSet());
+    }
+
+    /**
+     * 惰性遍历所有主节点上匹配 {@code pattern} 的 key，每次以 COUNT {@code count} 拉取一页，只在拉取时占用连接
+     */
+    public Stream<String> scanKeys(String pattern, int count) {
+        ScanParams params = new ScanParams().match(pattern).count(count);
+        Iterator<Function<String, ScanResult<String>>> sources = executor.getReadPools().stream()
+                .map(pool -> (Function<String, ScanResult<String>>) cursor -> {
+                    try (Jedis jedis = pool.getResource()) {
+                        return jedis.scan(cursor, params);
+                    }
+                }).iterator();
+        return new ScanIterator<>(sources).stream();
     }
 
     public List<String> mget(String... keys) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).mget(keys);
-            } else {
-                rtn = ((Jedis) jedis).mget(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+        if (shardedMultiKeyCommands != null) {
+            return shardedMultiKeyCommands.mget(keys);
         }
+        return executor.executeRead("mget", jedis -> jedis.mget(keys), cluster -> clusterMultiKeyCommands.mget(keys));
     }
 
     public String mset(String... keysvalues) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).mset(keysvalues);
-            } else {
-                rtn = ((Jedis) jedis).mset(keysvalues);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+        if (shardedMultiKeyCommands != null) {
+            return shardedMultiKeyCommands.mset(keysvalues);
         }
+        return executor.execute("mset", jedis -> jedis.mset(keysvalues), cluster -> clusterMultiKeyCommands.mset(keysvalues));
     }
 
     public Long msetnx(String... keysvalues) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).msetnx(keysvalues);
-            } else {
-                rtn = ((Jedis) jedis).msetnx(keysvalues);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keysOf(keysvalues)).execute("msetnx", jedis -> jedis.msetnx(keysvalues), cluster -> cluster.msetnx(keysvalues));
     }
 
     public String rename(String oldkey, String newkey) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rename(oldkey, newkey);
-            } else {
-                rtn = ((Jedis) jedis).rename(oldkey, newkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(oldkey, newkey).execute("rename", jedis -> jedis.rename(oldkey, newkey), cluster -> cluster.rename(oldkey, newkey));
     }
 
     public Long renamenx(String oldkey, String newkey) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).renamenx(oldkey, newkey);
-            } else {
-                rtn = ((Jedis) jedis).renamenx(oldkey, newkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(oldkey, newkey).execute("renamenx", jedis -> jedis.renamenx(oldkey, newkey), cluster -> cluster.renamenx(oldkey, newkey));
     }
 
     public String rpoplpush(String srckey, String dstkey) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rpoplpush(srckey, dstkey);
-            } else {
-                rtn = ((Jedis) jedis).rpoplpush(srckey, dstkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(srckey, dstkey).execute("rpoplpush", jedis -> jedis.rpoplpush(srckey, dstkey), cluster -> cluster.rpoplpush(srckey, dstkey));
     }
 
     public Set<String> sdiff(String... keys) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sdiff(keys);
-            } else {
-                rtn = ((Jedis) jedis).sdiff(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).executeRead("sdiff", jedis -> jedis.sdiff(keys), cluster -> cluster.sdiff(keys));
     }
 
     public Long sdiffstore(String dstkey, String... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sdiffstore(dstkey, keys);
-            } else {
-                rtn = ((Jedis) jedis).sdiffstore(dstkey, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, keys)).execute("sdiffstore", jedis -> jedis.sdiffstore(dstkey, keys), cluster -> cluster.sdiffstore(dstkey, keys));
     }
 
     public Set<String> sinter(String... keys) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sinter(keys);
-            } else {
-                rtn = ((Jedis) jedis).sinter(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).executeRead("sinter", jedis -> jedis.sinter(keys), cluster -> cluster.sinter(keys));
     }
 
     public Long sinterstore(String dstkey, String... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sinterstore(dstkey, keys);
-            } else {
-                rtn = ((Jedis) jedis).sinterstore(dstkey, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, keys)).execute("sinterstore", jedis -> jedis.sinterstore(dstkey, keys), cluster -> cluster.sinterstore(dstkey, keys));
     }
 
     public Long smove(String srckey, String dstkey, String member) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).smove(srckey, dstkey, member);
-            } else {
-                rtn = ((Jedis) jedis).smove(srckey, dstkey, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(srckey, dstkey).execute("smove", jedis -> jedis.smove(srckey, dstkey, member),
+                cluster -> cluster.smove(srckey, dstkey, member));
     }
 
     public Long sort(String key, SortingParams sortingParameters, String dstkey) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sort(key, sortingParameters, dstkey);
-            } else {
-                rtn = ((Jedis) jedis).sort(key, sortingParameters, dstkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKeys(key, dstkey).execute("sort", jedis -> jedis.sort(key, sortingParameters, dstkey),
+                cluster -> cluster.sort(key, sortingParameters, dstkey));
     }
 
     public Long sort(String key, String dstkey) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sort(key, dstkey);
-            } else {
-                rtn = ((Jedis) jedis).sort(key, dstkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKeys(key, dstkey).execute("sort", jedis -> jedis.sort(key, dstkey), cluster -> cluster.sort(key, dstkey));
     }
 
     public Set<String> sunion(String... keys) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sunion(keys);
-            } else {
-                rtn = ((Jedis) jedis).sunion(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).executeRead("sunion", jedis -> jedis.sunion(keys), cluster -> cluster.sunion(keys));
     }
 
     public Long sunionstore(String dstkey, String... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sunionstore(dstkey, keys);
-            } else {
-                rtn = ((Jedis) jedis).sunionstore(dstkey, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, keys)).execute("sunionstore", jedis -> jedis.sunionstore(dstkey, keys), cluster -> cluster.sunionstore(dstkey, keys));
     }
 
     public String watch(String... keys) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).watch(keys);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).watch(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).execute("watch", jedis -> jedis.watch(keys));
     }
 
     public Long zinterstore(String dstkey, String... sets) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zinterstore(dstkey, sets);
-            } else {
-                rtn = ((Jedis) jedis).zinterstore(dstkey, sets);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, sets)).execute("zinterstore", jedis -> jedis.zinterstore(dstkey, sets), cluster -> cluster.zinterstore(dstkey, sets));
     }
 
     public Long zinterstore(String dstkey, ZParams params, String... sets) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zinterstore(dstkey, params, sets);
-            } else {
-                rtn = ((Jedis) jedis).zinterstore(dstkey, params, sets);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, sets)).execute("zinterstore", jedis -> jedis.zinterstore(dstkey, params, sets),
+                cluster -> cluster.zinterstore(dstkey, params, sets));
     }
 
     public Long zunionstore(String dstkey, String... sets) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zunionstore(dstkey, sets);
-            } else {
-                rtn = ((Jedis) jedis).zunionstore(dstkey, sets);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, sets)).execute("zunionstore", jedis -> jedis.zunionstore(dstkey, sets), cluster -> cluster.zunionstore(dstkey, sets));
     }
 
     public Long zunionstore(String dstkey, ZParams params, String... sets) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zunionstore(dstkey, params, sets);
-            } else {
-                rtn = ((Jedis) jedis).zunionstore(dstkey, params, sets);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, sets)).execute("zunionstore", jedis -> jedis.zunionstore(dstkey, params, sets),
+                cluster -> cluster.zunionstore(dstkey, params, sets));
     }
 
     public String brpoplpush(String source, String destination, int timeout) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).brpoplpush(source, destination, timeout);
-            } else {
-                rtn = ((Jedis) jedis).brpoplpush(source, destination, timeout);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(source, destination).execute("brpoplpush", jedis -> jedis.brpoplpush(source, destination, timeout),
+                cluster -> cluster.brpoplpush(source, destination, timeout));
     }
 
     public Long publish(String channel, String message) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).publish(channel, message);
-            } else {
-                rtn = ((Jedis) jedis).publish(channel, message);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("publish", jedis -> jedis.publish(channel, message), cluster -> cluster.publish(channel, message));
     }
 
+    /**
+     * 阻塞并长期占用一个池连接，长期订阅请使用 {@link #subscriptions()}
+     */
     public void subscribe(JedisPubSub jedisPubSub, String... channels) {
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                ((JedisCluster) jedis).subscribe(jedisPubSub, channels);
-            } else {
-                ((Jedis) jedis).subscribe(jedisPubSub, channels);
-            }
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        executor.execute(jedis -> {
+            jedis.subscribe(jedisPubSub, channels);
+            return null;
+        }, cluster -> {
+            cluster.subscribe(jedisPubSub, channels);
+            return null;
+        });
     }
 
+    /**
+     * 阻塞并长期占用一个池连接，长期订阅请使用 {@link #subscriptions()}
+     */
     public void psubscribe(JedisPubSub jedisPubSub, String... patterns) {
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                ((JedisCluster) jedis).psubscribe(jedisPubSub, patterns);
-            } else {
-                ((Jedis) jedis).psubscribe(jedisPubSub, patterns);
-            }
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        executor.execute(jedis -> {
+            jedis.psubscribe(jedisPubSub, patterns);
+            return null;
+        }, cluster -> {
+            cluster.psubscribe(jedisPubSub, patterns);
+            return null;
+        });
     }
 
     public String randomKey() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).randomKey();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).randomKey();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("randomKey", jedis -> jedis.randomKey());
     }
 
     public Long bitop(BitOP op, String destKey, String... srcKeys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).bitop(op, destKey, srcKeys);
-            } else {
-                rtn = ((Jedis) jedis).bitop(op, destKey, srcKeys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(destKey, srcKeys)).execute("bitop", jedis -> jedis.bitop(op, destKey, srcKeys),
+                cluster -> cluster.bitop(op, destKey, srcKeys));
     }
 
     public ScanResult<String> scan(int cursor) {
         return null;
     }
 
+    /**
+     * 游标只对单个节点有效，分片模式下请使用 {@link #scanKeys(String, int)} 遍历所有分片
+     */
     public ScanResult<String> scan(String cursor) {
-        ScanResult<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                ScanParams scanParams = new ScanParams();
-                rtn = ((JedisCluster) jedis).scan(cursor, scanParams);
-
-            } else {
-                rtn = ((Jedis) jedis).scan(cursor);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+        if (executor instanceof ShardedCommandExecutor) {
+            throw new IllegalStateException("not support");
         }
+        return executor.execute("scan", jedis -> jedis.scan(cursor), cluster -> cluster.scan(cursor, new ScanParams()));
     }
 
+    /**
+     * @see #scan(String)
+     */
     public ScanResult<String> scan(String key, ScanParams scanParams) {
-        ScanResult<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scan(key, scanParams);
-            } else {
-                rtn = ((Jedis) jedis).scan(key, scanParams);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+        if (executor instanceof ShardedCommandExecutor) {
+            throw new IllegalStateException("not support");
         }
+        return executor.execute("scan", jedis -> jedis.scan(key, scanParams), cluster -> cluster.scan(key, scanParams));
     }
 
     public String pfmerge(String destkey, String... sourcekeys) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pfmerge(destkey, sourcekeys);
-            } else {
-                rtn = ((Jedis) jedis).pfmerge(destkey, sourcekeys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(destkey, sourcekeys)).execute("pfmerge", jedis -> jedis.pfmerge(destkey, sourcekeys),
+                cluster -> cluster.pfmerge(destkey, sourcekeys));
     }
 
     public long pfcount(String... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pfcount(keys);
-            } else {
-                rtn = ((Jedis) jedis).pfcount(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).execute("pfcount", jedis -> jedis.pfcount(keys), cluster -> cluster.pfcount(keys));
     }
 
     public String set(String key, String value) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).set(key, value);
-            } else {
-                rtn = ((Jedis) jedis).set(key, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("set", jedis -> jedis.set(key, value), cluster -> cluster.set(key, value),
+                pipeline -> pipeline.set(key, value));
     }
 
     public String set(String key, String value, SetPremise nxxx) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).set(key, value, nxxx.value);
-            } else {
-                rtn = ((Jedis) jedis).set(key, value, nxxx.value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("set", jedis -> jedis.set(key, value, nxxx.value),
+                cluster -> cluster.set(key, value, nxxx.value));
     }
 
     public String set(String key, String value, SetPremise nxxx, ExpireType expx, long time) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).set(key, value, nxxx.value, expx.value, time);
-            } else {
-                rtn = ((Jedis) jedis).set(key, value, nxxx.value, expx.value, time);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("set", jedis -> jedis.set(key, value, nxxx.value, expx.value, time),
+                cluster -> cluster.set(key, value, nxxx.value, expx.value, time));
     }
 
     public String get(String key) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).get(key);
-            } else {
-                rtn = ((Jedis) jedis).get(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("get", jedis -> jedis.get(key), cluster -> cluster.get(key),
+                pipeline -> pipeline.get(key));
     }
 
     public Boolean exists(String key) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).exists(key);
-            } else {
-                rtn = ((Jedis) jedis).exists(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("exists", jedis -> jedis.exists(key), cluster -> cluster.exists(key),
+                pipeline -> pipeline.exists(key));
     }
 
     public Long persist(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).persist(key);
-            } else {
-                rtn = ((Jedis) jedis).persist(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("persist", jedis -> jedis.persist(key), cluster -> cluster.persist(key));
     }
 
     public String type(String key) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).type(key);
-            } else {
-                rtn = ((Jedis) jedis).type(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("type", jedis -> jedis.type(key), cluster -> cluster.type(key));
     }
 
     public Long expire(String key, int seconds) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).expire(key, seconds);
-            } else {
-                rtn = ((Jedis) jedis).expire(key, seconds);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("expire", jedis -> jedis.expire(key, seconds), cluster -> cluster.expire(key, seconds),
+                pipeline -> pipeline.expire(key, seconds));
     }
 
     public Long expireAt(String key, long unixTime) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).expireAt(key, unixTime);
-            } else {
-                rtn = ((Jedis) jedis).expireAt(key, unixTime);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("expireAt", jedis -> jedis.expireAt(key, unixTime), cluster -> cluster.expireAt(key, unixTime));
     }
 
     public Long pexpireAt(String key, long l) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pexpireAt(key, l);
-            } else {
-                rtn = ((Jedis) jedis).pexpireAt(key, l);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("pexpireAt", jedis -> jedis.pexpireAt(key, l), cluster -> cluster.pexpireAt(key, l));
     }
 
     public Long ttl(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).ttl(key);
-            } else {
-                rtn = ((Jedis) jedis).ttl(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("ttl", jedis -> jedis.ttl(key), cluster -> cluster.ttl(key),
+                pipeline -> pipeline.ttl(key));
     }
 
     public Long pttl(String s) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pttl(s);
-            } else {
-                rtn = ((Jedis) jedis).pttl(s);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(s).executeRead("pttl", jedis -> jedis.pttl(s), cluster -> cluster.pttl(s));
     }
 
     public Boolean setbit(String key, long offset, boolean value) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setbit(key, offset, value);
-            } else {
-                rtn = ((Jedis) jedis).setbit(key, offset, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("setbit", jedis -> jedis.setbit(key, offset, value),
+                cluster -> cluster.setbit(key, offset, value));
     }
 
     public Boolean setbit(String key, long offset, String value) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setbit(key, offset, value);
-            } else {
-                rtn = ((Jedis) jedis).setbit(key, offset, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("setbit", jedis -> jedis.setbit(key, offset, value),
+                cluster -> cluster.setbit(key, offset, value));
     }
 
     public Boolean getbit(String key, long offset) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).getbit(key, offset);
-            } else {
-                rtn = ((Jedis) jedis).getbit(key, offset);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("getbit", jedis -> jedis.getbit(key, offset), cluster -> cluster.getbit(key, offset));
     }
 
     public Long setrange(String key, long offset, String value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setrange(key, offset, value);
-            } else {
-                rtn = ((Jedis) jedis).setrange(key, offset, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("setrange", jedis -> jedis.setrange(key, offset, value),
+                cluster -> cluster.setrange(key, offset, value));
     }
 
     public String getrange(String key, long startOffset, long endOffset) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).getrange(key, startOffset, endOffset);
-            } else {
-                rtn = ((Jedis) jedis).getrange(key, startOffset, endOffset);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("getrange", jedis -> jedis.getrange(key, startOffset, endOffset),
+                cluster -> cluster.getrange(key, startOffset, endOffset));
     }
 
     public String getSet(String key, String value) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).getSet(key, value);
-            } else {
-                rtn = ((Jedis) jedis).getSet(key, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("getSet", jedis -> jedis.getSet(key, value), cluster -> cluster.getSet(key, value));
     }
 
     public Long setnx(String key, String value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setnx(key, value);
-            } else {
-                rtn = ((Jedis) jedis).setnx(key, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("setnx", jedis -> jedis.setnx(key, value), cluster -> cluster.setnx(key, value));
     }
 
     public String setex(String key, int seconds, String value) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setex(key, seconds, value);
-            } else {
-                rtn = ((Jedis) jedis).setex(key, seconds, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("setex", jedis -> jedis.setex(key, seconds, value), cluster -> cluster.setex(key, seconds, value),
+                pipeline -> pipeline.setex(key, seconds, value));
     }
 
     public String psetex(String key, long milliseconds, String value) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).psetex(key, milliseconds, value);
-            } else {
-                rtn = ((Jedis) jedis).psetex(key, milliseconds, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("psetex", jedis -> jedis.psetex(key, milliseconds, value),
+                cluster -> cluster.psetex(key, milliseconds, value));
     }
 
     public Long decrBy(String key, long integer) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).decrBy(key, integer);
-            } else {
-                rtn = ((Jedis) jedis).decrBy(key, integer);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("decrBy", jedis -> jedis.decrBy(key, integer), cluster -> cluster.decrBy(key, integer));
     }
 
     public Long decr(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).decr(key);
-            } else {
-                rtn = ((Jedis) jedis).decr(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("decr", jedis -> jedis.decr(key), cluster -> cluster.decr(key));
     }
 
     public Long incrBy(String key, long integer) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).incrBy(key, integer);
-            } else {
-                rtn = ((Jedis) jedis).incrBy(key, integer);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("incrBy", jedis -> jedis.incrBy(key, integer), cluster -> cluster.incrBy(key, integer));
     }
 
     public Double incrByFloat(String key, double integer) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).incrByFloat(key, integer);
-            } else {
-                rtn = ((Jedis) jedis).incrByFloat(key, integer);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("incrByFloat", jedis -> jedis.incrByFloat(key, integer), cluster -> cluster.incrByFloat(key, integer));
     }
 
     public Long incr(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).incr(key);
-            } else {
-                rtn = ((Jedis) jedis).incr(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("incr", jedis -> jedis.incr(key), cluster -> cluster.incr(key),
+                pipeline -> pipeline.incr(key));
     }
 
     public Long append(String key, String value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).append(key, value);
-            } else {
-                rtn = ((Jedis) jedis).append(key, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("append", jedis -> jedis.append(key, value), cluster -> cluster.append(key, value));
     }
 
     public String substr(String key, int start, int end) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).substr(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).substr(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("substr", jedis -> jedis.substr(key, start, end), cluster -> cluster.substr(key, start, end));
     }
 
     public Long hset(String key, String field, String value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hset(key, field, value);
-            } else {
-                rtn = ((Jedis) jedis).hset(key, field, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("hset", jedis -> jedis.hset(key, field, value), cluster -> cluster.hset(key, field, value),
+                pipeline -> pipeline.hset(key, field, value));
     }
 
     public String hget(String key, String field) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hget(key, field);
-            } else {
-                rtn = ((Jedis) jedis).hget(key, field);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("hget", jedis -> jedis.hget(key, field), cluster -> cluster.hget(key, field),
+                pipeline -> pipeline.hget(key, field));
     }
 
     public Long hsetnx(String key, String field, String value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hsetnx(key, field, value);
-            } else {
-                rtn = ((Jedis) jedis).hsetnx(key, field, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hsetnx", jedis -> jedis.hsetnx(key, field, value), cluster -> cluster.hsetnx(key, field, value));
     }
 
     public String hmset(String key, Map<String, String> hash) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hmset(key, hash);
-            } else {
-                rtn = ((Jedis) jedis).hmset(key, hash);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hmset", jedis -> jedis.hmset(key, hash), cluster -> cluster.hmset(key, hash));
     }
 
     public List<String> hmget(String key, String... fields) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hmget(key, fields);
-            } else {
-                rtn = ((Jedis) jedis).hmget(key, fields);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hmget", jedis -> jedis.hmget(key, fields), cluster -> cluster.hmget(key, fields));
     }
 
     public Long hincrBy(String key, String field, long value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hincrBy(key, field, value);
-            } else {
-                rtn = ((Jedis) jedis).hincrBy(key, field, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hincrBy", jedis -> jedis.hincrBy(key, field, value),
+                cluster -> cluster.hincrBy(key, field, value));
     }
 
     public Double hincrByFloat(String key, String field, double value) throws UnsupportedEncodingException {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hincrByFloat(key.getBytes("utf-8"), field.getBytes("utf-8"), value);
-            } else {
-                rtn = ((Jedis) jedis).hincrByFloat(key, field, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hincrByFloat", jedis -> jedis.hincrByFloat(key, field, value),
+                cluster -> cluster.hincrByFloat(SafeEncoder.encode(key), SafeEncoder.encode(field), value));
     }
 
     public Boolean hexists(String key, String field) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hexists(key, field);
-            } else {
-                rtn = ((Jedis) jedis).hexists(key, field);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hexists", jedis -> jedis.hexists(key, field), cluster -> cluster.hexists(key, field));
     }
 
     public Long hdel(String key, String... fields) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hdel(key, fields);
-            } else {
-                rtn = ((Jedis) jedis).hdel(key, fields);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hdel", jedis -> jedis.hdel(key, fields), cluster -> cluster.hdel(key, fields));
     }
 
     public Long hlen(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hlen(key);
-            } else {
-                rtn = ((Jedis) jedis).hlen(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hlen", jedis -> jedis.hlen(key), cluster -> cluster.hlen(key));
     }
 
     public Set<String> hkeys(String key) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hkeys(key);
-            } else {
-                rtn = ((Jedis) jedis).hkeys(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hkeys", jedis -> jedis.hkeys(key), cluster -> cluster.hkeys(key));
     }
 
     public List<String> hvals(String key) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hvals(key);
-            } else {
-                rtn = ((Jedis) jedis).hvals(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hvals", jedis -> jedis.hvals(key), cluster -> cluster.hvals(key));
     }
 
     public Map<String, String> hgetAll(String key) {
-        Map<String, String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hgetAll(key);
-            } else {
-                rtn = ((Jedis) jedis).hgetAll(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("hgetAll", jedis -> jedis.hgetAll(key), cluster -> cluster.hgetAll(key),
+                pipeline -> pipeline.hgetAll(key));
     }
 
     public Long rpush(String key, String... strings) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rpush(key, strings);
-            } else {
-                rtn = ((Jedis) jedis).rpush(key, strings);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("rpush", jedis -> jedis.rpush(key, strings), cluster -> cluster.rpush(key, strings));
     }
 
     public Long lpush(String key, String... strings) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lpush(key, strings);
-            } else {
-                rtn = ((Jedis) jedis).lpush(key, strings);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lpush", jedis -> jedis.lpush(key, strings), cluster -> cluster.lpush(key, strings));
     }
 
     public Long llen(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).llen(key);
-            } else {
-                rtn = ((Jedis) jedis).llen(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("llen", jedis -> jedis.llen(key), cluster -> cluster.llen(key));
     }
 
     public List<String> lrange(String key, long start, long end) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lrange(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).lrange(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("lrange", jedis -> jedis.lrange(key, start, end), cluster -> cluster.lrange(key, start, end));
     }
 
     public String ltrim(String key, long start, long end) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).ltrim(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).ltrim(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("ltrim", jedis -> jedis.ltrim(key, start, end), cluster -> cluster.ltrim(key, start, end));
     }
 
     public String lindex(String key, long index) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lindex(key, index);
-            } else {
-                rtn = ((Jedis) jedis).lindex(key, index);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("lindex", jedis -> jedis.lindex(key, index), cluster -> cluster.lindex(key, index));
     }
 
     public String lset(String key, long index, String value) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lset(key, index, value);
-            } else {
-                rtn = ((Jedis) jedis).lset(key, index, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lset", jedis -> jedis.lset(key, index, value), cluster -> cluster.lset(key, index, value));
     }
 
     public Long lrem(String key, long count, String value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lrem(key, count, value);
-            } else {
-                rtn = ((Jedis) jedis).lrem(key, count, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lrem", jedis -> jedis.lrem(key, count, value), cluster -> cluster.lrem(key, count, value));
     }
 
     public String lpop(String key) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lpop(key);
-            } else {
-                rtn = ((Jedis) jedis).lpop(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lpop", jedis -> jedis.lpop(key), cluster -> cluster.lpop(key));
     }
 
     public String rpop(String key) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rpop(key);
-            } else {
-                rtn = ((Jedis) jedis).rpop(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("rpop", jedis -> jedis.rpop(key), cluster -> cluster.rpop(key));
     }
 
     public Long sadd(String key, String... members) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sadd(key, members);
-            } else {
-                rtn = ((Jedis) jedis).sadd(key, members);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("sadd", jedis -> jedis.sadd(key, members), cluster -> cluster.sadd(key, members));
     }
 
     public Set<String> smembers(String key) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).smembers(key);
-            } else {
-                rtn = ((Jedis) jedis).smembers(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("smembers", jedis -> jedis.smembers(key), cluster -> cluster.smembers(key));
     }
 
     public Long srem(String key, String... members) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).srem(key, members);
-            } else {
-                rtn = ((Jedis) jedis).srem(key, members);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("srem", jedis -> jedis.srem(key, members), cluster -> cluster.srem(key, members));
     }
 
     public String spop(String key) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).spop(key);
-            } else {
-                rtn = ((Jedis) jedis).spop(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("spop", jedis -> jedis.spop(key), cluster -> cluster.spop(key));
     }
 
     public Set<String> spop(String key, long l) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).spop(key, l);
-            } else {
-                rtn = ((Jedis) jedis).spop(key, l);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("spop", jedis -> jedis.spop(key, l), cluster -> cluster.spop(key, l));
     }
 
     public Long scard(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scard(key);
-            } else {
-                rtn = ((Jedis) jedis).scard(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("scard", jedis -> jedis.scard(key), cluster -> cluster.scard(key));
     }
 
     public Boolean sismember(String key, String member) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sismember(key, member);
-            } else {
-                rtn = ((Jedis) jedis).sismember(key, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("sismember", jedis -> jedis.sismember(key, member), cluster -> cluster.sismember(key, member));
     }
 
     public String srandmember(String key) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).srandmember(key);
-            } else {
-                rtn = ((Jedis) jedis).srandmember(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("srandmember", jedis -> jedis.srandmember(key), cluster -> cluster.srandmember(key));
     }
 
     public List<String> srandmember(String key, int count) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).srandmember(key, count);
-            } else {
-                rtn = ((Jedis) jedis).srandmember(key, count);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("srandmember", jedis -> jedis.srandmember(key, count), cluster -> cluster.srandmember(key, count));
     }
 
     public Long strlen(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).strlen(key);
-            } else {
-                rtn = ((Jedis) jedis).strlen(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("strlen", jedis -> jedis.strlen(key), cluster -> cluster.strlen(key));
     }
 
     public Long zadd(String key, double score, String member) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zadd(key, score, member);
-            } else {
-                rtn = ((Jedis) jedis).zadd(key, score, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zadd", jedis -> jedis.zadd(key, score, member), cluster -> cluster.zadd(key, score, member));
     }
 
     public Long zadd(String key, Map<String, Double> scoreMembers) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zadd(key, scoreMembers);
-            } else {
-                rtn = ((Jedis) jedis).zadd(key, scoreMembers);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zadd", jedis -> jedis.zadd(key, scoreMembers), cluster -> cluster.zadd(key, scoreMembers));
     }
 
     public Set<String> zrange(String key, long start, long end) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrange(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zrange(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrange", jedis -> jedis.zrange(key, start, end), cluster -> cluster.zrange(key, start, end));
     }
 
     public Long zrem(String key, String... members) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrem(key, members);
-            } else {
-                rtn = ((Jedis) jedis).zrem(key, members);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zrem", jedis -> jedis.zrem(key, members), cluster -> cluster.zrem(key, members));
     }
 
     public Double zincrby(String key, double score, String member) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zincrby(key, score, member);
-            } else {
-                rtn = ((Jedis) jedis).zincrby(key, score, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zincrby", jedis -> jedis.zincrby(key, score, member),
+                cluster -> cluster.zincrby(key, score, member));
     }
 
     public Long zrank(String key, String member) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrank(key, member);
-            } else {
-                rtn = ((Jedis) jedis).zrank(key, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrank", jedis -> jedis.zrank(key, member), cluster -> cluster.zrank(key, member));
     }
 
     public Long zrevrank(String key, String member) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrank(key, member);
-            } else {
-                rtn = ((Jedis) jedis).zrevrank(key, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrank", jedis -> jedis.zrevrank(key, member), cluster -> cluster.zrevrank(key, member));
     }
 
     public Set<String> zrevrange(String key, long start, long end) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrange(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zrevrange(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrange", jedis -> jedis.zrevrange(key, start, end),
+                cluster -> cluster.zrevrange(key, start, end));
     }
 
     public Set<Tuple> zrangeWithScores(String key, long start, long end) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeWithScores(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zrangeWithScores(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeWithScores", jedis -> jedis.zrangeWithScores(key, start, end),
+                cluster -> cluster.zrangeWithScores(key, start, end));
     }
 
     public Set<Tuple> zrevrangeWithScores(String key, long start, long end) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeWithScores(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeWithScores(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeWithScores", jedis -> jedis.zrevrangeWithScores(key, start, end),
+                cluster -> cluster.zrevrangeWithScores(key, start, end));
     }
 
     public Long zcard(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zcard(key);
-            } else {
-                rtn = ((Jedis) jedis).zcard(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zcard", jedis -> jedis.zcard(key), cluster -> cluster.zcard(key));
     }
 
     public Double zscore(String key, String member) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zscore(key, member);
-            } else {
-                rtn = ((Jedis) jedis).zscore(key, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zscore", jedis -> jedis.zscore(key, member), cluster -> cluster.zscore(key, member));
     }
 
     public List<String> sort(String key) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sort(key);
-            } else {
-                rtn = ((Jedis) jedis).sort(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("sort", jedis -> jedis.sort(key), cluster -> cluster.sort(key));
     }
 
     public List<String> sort(String key, SortingParams sortingParameters) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sort(key, sortingParameters);
-            } else {
-                rtn = ((Jedis) jedis).sort(key, sortingParameters);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("sort", jedis -> jedis.sort(key, sortingParameters),
+                cluster -> cluster.sort(key, sortingParameters));
     }
 
     public Long zcount(String key, double min, double max) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zcount(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zcount(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zcount", jedis -> jedis.zcount(key, min, max), cluster -> cluster.zcount(key, min, max));
     }
 
     public Long zcount(String key, String min, String max) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zcount(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zcount(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zcount", jedis -> jedis.zcount(key, min, max), cluster -> cluster.zcount(key, min, max));
     }
 
     public Set<String> zrangeByScore(String key, double min, double max) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScore(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScore(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScore", jedis -> jedis.zrangeByScore(key, min, max),
+                cluster -> cluster.zrangeByScore(key, min, max));
     }
 
     public Set<String> zrangeByScore(String key, String min, String max, int offset, int count) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScore(key, min, max, offset, count);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScore(key, min, max, offset, count);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScore", jedis -> jedis.zrangeByScore(key, min, max, offset, count),
+                cluster -> cluster.zrangeByScore(key, min, max, offset, count));
     }
 
     public Set<String> zrangeByScore(String key, String min, String max) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScore(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScore(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScore", jedis -> jedis.zrangeByScore(key, min, max),
+                cluster -> cluster.zrangeByScore(key, min, max));
     }
 
     public Set<String> zrevrangeByScore(String key, double max, double min) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScore(key, max, min);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScore(key, max, min);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScore", jedis -> jedis.zrevrangeByScore(key, max, min),
+                cluster -> cluster.zrevrangeByScore(key, max, min));
     }
 
     public Set<String> zrevrangeByScore(String key, String max, String min) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScore(key, max, min);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScore(key, max, min);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScore", jedis -> jedis.zrevrangeByScore(key, max, min),
+                cluster -> cluster.zrevrangeByScore(key, max, min));
     }
 
     public Set<String> zrevrangeByScore(String key, String max, String min, int offset, int count) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScore(key, max, min, offset, count);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScore(key, max, min, offset, count);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScore", jedis -> jedis.zrevrangeByScore(key, max, min, offset, count),
+                cluster -> cluster.zrevrangeByScore(key, max, min, offset, count));
     }
 
     public Set<String> zrevrangeByScore(String key, double max, double min, int offset, int count) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScore(key, max, min, offset, count);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScore(key, max, min, offset, count);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScore", jedis -> jedis.zrevrangeByScore(key, max, min, offset, count),
+                cluster -> cluster.zrevrangeByScore(key, max, min, offset, count));
     }
 
 
     public Set<Tuple> zrevrangeByScoreWithScores(String key, double min, double max) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScoreWithScores(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScoreWithScores(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScoreWithScores", jedis -> jedis.zrevrangeByScoreWithScores(key, min, max),
+                cluster -> cluster.zrevrangeByScoreWithScores(key, min, max));
     }
 
     public Set<Tuple> zrevrangeByScoreWithScores(String key, String min, String max) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScoreWithScores(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScoreWithScores(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScoreWithScores", jedis -> jedis.zrevrangeByScoreWithScores(key, min, max),
+                cluster -> cluster.zrevrangeByScoreWithScores(key, min, max));
     }
 
     public Set<Tuple> zrevrangeByScoreWithScores(String key, double min, double max, int offset, int count) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScoreWithScores(key, min, max, offset, count);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScoreWithScores(key, min, max, offset, count);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScoreWithScores", jedis -> jedis.zrevrangeByScoreWithScores(key, min, max, offset, count),
+                cluster -> cluster.zrevrangeByScoreWithScores(key, min, max, offset, count));
     }
 
     public Set<Tuple> zrevrangeByScoreWithScores(String key, String min, String max, int offset, int count) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScoreWithScores(key, min, max, offset, count);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScoreWithScores(key, min, max, offset, count);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScoreWithScores", jedis -> jedis.zrevrangeByScoreWithScores(key, min, max, offset, count),
+                cluster -> cluster.zrevrangeByScoreWithScores(key, min, max, offset, count));
     }
 
     public Set<Tuple> zrangeByScoreWithScores(String key, double min, double max) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScoreWithScores(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScoreWithScores(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScoreWithScores", jedis -> jedis.zrangeByScoreWithScores(key, min, max),
+                cluster -> cluster.zrangeByScoreWithScores(key, min, max));
     }
 
     public Set<Tuple> zrangeByScoreWithScores(String key, String min, String max, int offset, int count) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScoreWithScores(key, min, max, offset, count);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScoreWithScores(key, min, max, offset, count);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScoreWithScores", jedis -> jedis.zrangeByScoreWithScores(key, min, max, offset, count),
+                cluster -> cluster.zrangeByScoreWithScores(key, min, max, offset, count));
     }
 
     public Set<Tuple> zrangeByScoreWithScores(String key, String min, String max) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScoreWithScores(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScoreWithScores(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScoreWithScores", jedis -> jedis.zrangeByScoreWithScores(key, min, max),
+                cluster -> cluster.zrangeByScoreWithScores(key, min, max));
     }
 
     public Long zremrangeByRank(String key, long start, long end) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zremrangeByRank(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zremrangeByRank(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zremrangeByRank", jedis -> jedis.zremrangeByRank(key, start, end),
+                cluster -> cluster.zremrangeByRank(key, start, end));
     }
 
     public Long zremrangeByScore(String key, double start, double end) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zremrangeByScore(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zremrangeByScore(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zremrangeByScore", jedis -> jedis.zremrangeByScore(key, start, end),
+                cluster -> cluster.zremrangeByScore(key, start, end));
     }
 
     public Long zremrangeByScore(String key, String start, String end) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zremrangeByScore(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zremrangeByScore(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zremrangeByScore", jedis -> jedis.zremrangeByScore(key, start, end),
+                cluster -> cluster.zremrangeByScore(key, start, end));
     }
 
     public Long zlexcount(String key, String min, String max) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zlexcount(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zlexcount(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zlexcount", jedis -> jedis.zlexcount(key, min, max), cluster -> cluster.zlexcount(key, min, max));
     }
 
     public Set<String> zrangeByLex(String key, String min, String max) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByLex(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByLex(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByLex", jedis -> jedis.zrangeByLex(key, min, max),
+                cluster -> cluster.zrangeByLex(key, min, max));
     }
 
     public Set<String> zrangeByLex(String key, String min, String max, int offset, int count) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByLex(key, min, max, offset, count);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByLex(key, min, max, offset, count);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByLex", jedis -> jedis.zrangeByLex(key, min, max, offset, count),
+                cluster -> cluster.zrangeByLex(key, min, max, offset, count));
     }
 
     public Set<String> zrevrangeByLex(String key, String s1, String s2) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByLex(key, s1, s2);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByLex(key, s1, s2);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByLex", jedis -> jedis.zrevrangeByLex(key, s1, s2),
+                cluster -> cluster.zrevrangeByLex(key, s1, s2));
     }
 
     public Set<String> zrevrangeByLex(String key, String s1, String s2, int i, int i1) {
-        Set<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByLex(key, s1, s2, i, i1);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByLex(key, s1, s2, i, i1);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByLex", jedis -> jedis.zrevrangeByLex(key, s1, s2, i, i1),
+                cluster -> cluster.zrevrangeByLex(key, s1, s2, i, i1));
     }
 
     public Long zremrangeByLex(String key, String min, String max) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zremrangeByLex(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zremrangeByLex(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zremrangeByLex", jedis -> jedis.zremrangeByLex(key, min, max),
+                cluster -> cluster.zremrangeByLex(key, min, max));
     }
 
     public Long lpushx(String key, String... string) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lpushx(key, string);
-            } else {
-                rtn = ((Jedis) jedis).lpushx(key, string);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lpushx", jedis -> jedis.lpushx(key, string), cluster -> cluster.lpushx(key, string));
     }
 
     public Long rpushx(String key, String... string) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rpushx(key, string);
-            } else {
-                rtn = ((Jedis) jedis).rpushx(key, string);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("rpushx", jedis -> jedis.rpushx(key, string), cluster -> cluster.rpushx(key, string));
     }
 
     public List<String> blpop(String arg) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).blpop(Integer.MAX_VALUE, arg);
-            } else {
-                rtn = ((Jedis) jedis).blpop(arg);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKey(arg).execute("blpop", jedis -> jedis.blpop(0, arg), cluster -> cluster.blpop(Integer.MAX_VALUE, arg));
     }
 
     public List<String> blpop(int timeout, String key) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).blpop(timeout, key);
-            } else {
-                rtn = ((Jedis) jedis).blpop(timeout, key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKey(key).execute("blpop", jedis -> jedis.blpop(timeout, key), cluster -> cluster.blpop(timeout, key));
     }
 
     public List<String> brpop(String arg) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).brpop(Integer.MAX_VALUE, arg);
-            } else {
-                rtn = ((Jedis) jedis).brpop(arg);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKey(arg).execute("brpop", jedis -> jedis.brpop(0, arg), cluster -> cluster.brpop(Integer.MAX_VALUE, arg));
     }
 
     public List<String> brpop(int timeout, String key) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).brpop(timeout, key);
-            } else {
-                rtn = ((Jedis) jedis).brpop(timeout, key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKey(key).execute("brpop", jedis -> jedis.brpop(timeout, key), cluster -> cluster.brpop(timeout, key));
     }
 
     public Long del(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).del(key);
-            } else {
-                rtn = ((Jedis) jedis).del(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("del", jedis -> jedis.del(key), cluster -> cluster.del(key),
+                pipeline -> pipeline.del(key));
     }
 
     public String echo(String string) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).echo(string);
-            } else {
-                rtn = ((Jedis) jedis).echo(string);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("echo", jedis -> jedis.echo(string), cluster -> cluster.echo(string));
     }
 
     public Long move(String key, int dbIndex) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).move(key, dbIndex);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).move(key, dbIndex);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("move", jedis -> jedis.move(key, dbIndex));
     }
 
     public Long bitcount(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).bitcount(key);
-            } else {
-                rtn = ((Jedis) jedis).bitcount(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("bitcount", jedis -> jedis.bitcount(key), cluster -> cluster.bitcount(key));
     }
 
     public Long bitcount(String key, long start, long end) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).bitcount(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).bitcount(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("bitcount", jedis -> jedis.bitcount(key, start, end), cluster -> cluster.bitcount(key, start, end));
     }
 
     public Long bitpos(String key, boolean b) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).bitpos(key,b);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).bitpos(key, b);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("bitpos", jedis -> jedis.bitpos(key, b));
     }
 
     public Long bitpos(String key, boolean b, BitPosParams bitPosParams) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).bitpos(key,b,bitPosParams);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).bitpos(key, b, bitPosParams);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("bitpos", jedis -> jedis.bitpos(key, b, bitPosParams));
     }
 
     public ScanResult<Map.Entry<String, String>> hscan(String key, int cursor) {
-        ScanResult<Map.Entry<String, String>> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hscan(key, "" + cursor);
-            } else {
-                rtn = ((Jedis) jedis).hscan(key, "" + cursor);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hscan", jedis -> jedis.hscan(key, "" + cursor), cluster -> cluster.hscan(key, "" + cursor));
     }
 
     public ScanResult<String> sscan(String key, int cursor) {
-        ScanResult<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sscan(key, "" + cursor);
-            } else {
-                rtn = ((Jedis) jedis).sscan(key, "" + cursor);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("sscan", jedis -> jedis.sscan(key, "" + cursor), cluster -> cluster.sscan(key, "" + cursor));
     }
 
     public ScanResult<Tuple> zscan(String key, int cursor) {
-        ScanResult<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zscan(key, "" + cursor);
-            } else {
-                rtn = ((Jedis) jedis).zscan(key, "" + cursor);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zscan", jedis -> jedis.zscan(key, "" + cursor), cluster -> cluster.zscan(key, "" + cursor));
     }
 
     public ScanResult<Map.Entry<String, String>> hscan(String key, String cursor) {
-        ScanResult<Map.Entry<String, String>> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hscan(key, cursor);
-            } else {
-                rtn = ((Jedis) jedis).hscan(key, cursor);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hscan", jedis -> jedis.hscan(key, cursor), cluster -> cluster.hscan(key, cursor));
     }
 
-    public ScanResult<Map.Entry<String, String>> hscan(String key, String s1, ScanParams scanParams)
-            throws UnsupportedEncodingException {
-        ScanResult<Map.Entry<String, String>> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hscan(key, s1, scanParams);
-            } else {
-                rtn = ((Jedis) jedis).hscan(key, s1, scanParams);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+    public ScanResult<Map.Entry<String, String>> hscan(String key, String s1, ScanParams scanParams) {
+        recordKey(key);
+        return executor.forKey(key).execute("hscan", jedis -> jedis.hscan(key, s1, scanParams),
+                cluster -> cluster.hscan(key, s1, scanParams));
     }
 
     public ScanResult<String> sscan(String key, String cursor) {
-        ScanResult<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sscan(key, cursor);
-            } else {
-                rtn = ((Jedis) jedis).sscan(key, cursor);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("sscan", jedis -> jedis.sscan(key, cursor), cluster -> cluster.sscan(key, cursor));
     }
 
-    public ScanResult<String> sscan(String key, String s1, ScanParams scanParams) throws UnsupportedEncodingException {
-        ScanResult<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sscan(key, s1, scanParams);
-            } else {
-                rtn = ((Jedis) jedis).sscan(key, s1, scanParams);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+    public ScanResult<String> sscan(String key, String s1, ScanParams scanParams) {
+        recordKey(key);
+        return executor.forKey(key).execute("sscan", jedis -> jedis.sscan(key, s1, scanParams),
+                cluster -> cluster.sscan(key, s1, scanParams));
     }
 
     public ScanResult<Tuple> zscan(String key, String cursor) {
-        ScanResult<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zscan(key, cursor);
-            } else {
-                rtn = ((Jedis) jedis).zscan(key, cursor);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zscan", jedis -> jedis.zscan(key, cursor), cluster -> cluster.zscan(key, cursor));
     }
 
-    public ScanResult<Tuple> zscan(String key, String s1, ScanParams scanParams) throws UnsupportedEncodingException {
-        ScanResult<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zscan(key, s1, scanParams);
-            } else {
-                rtn = ((Jedis) jedis).zscan(key, s1, scanParams);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+    public ScanResult<Tuple> zscan(String key, String s1, ScanParams scanParams) {
+        recordKey(key);
+        return executor.forKey(key).execute("zscan", jedis -> jedis.zscan(key, s1, scanParams),
+                cluster -> cluster.zscan(key, s1, scanParams));
     }
 
-    public Long pfadd(String key, String... elements) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pfadd(key, elements);
-            } else {
-                rtn = ((Jedis) jedis).pfadd(key, elements);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+    /**
+     * 惰性遍历 hash，字段和值按类型解码：String 按 UTF-8，byte[] 原样返回，其他类型经 {@link SerializeUtil} 反序列化
+     *
+     * @param count    每页 COUNT
+     * @param prefetch 是否在消费当前页时通过 {@link #async()} 线程池预取下一页
+     */
+    public <K, V> Stream<Map.Entry<K, V>> hscanStream(String key, Class<K> fieldType, Class<V> valueType,
+                                                     int count, boolean prefetch) {
+        recordKey(key);
+        byte[] rawKey = key.getBytes();
+        ScanParams params = new ScanParams().count(count);
+        ScanIterator<Map.Entry<byte[], byte[]>> iterator = new ScanIterator<>(cursor -> executor.forKey(key).execute("hscan",
+                jedis -> jedis.hscan(rawKey, SafeEncoder.encode(cursor), params),
+                cluster -> cluster.hscan(rawKey, SafeEncoder.encode(cursor), params)));
+        return scanStream(iterator, prefetch).map(entry -> new AbstractMap.SimpleImmutableEntry<>(
+                decode(entry.getKey(), fieldType), decode(entry.getValue(), valueType)));
     }
 
-    public long pfcount(String key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pfcount(key);
-            } else {
-                rtn = ((Jedis) jedis).pfcount(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+    /**
+     * 惰性遍历 set，成员解码规则同 {@link #hscanStream}
+     */
+    public <T> Stream<T> sscanStream(String key, Class<T> memberType, int count, boolean prefetch) {
+        recordKey(key);
+        byte[] rawKey = key.getBytes();
+        ScanParams params = new ScanParams().count(count);
+        ScanIterator<byte[]> iterator = new ScanIterator<>(cursor -> executor.forKey(key).execute("sscan",
+                jedis -> jedis.sscan(rawKey, SafeEncoder.encode(cursor), params),
+                cluster -> cluster.sscan(rawKey, SafeEncoder.encode(cursor), params)));
+        return scanStream(iterator, prefetch).map(member -> decode(member, memberType));
+    }
+
+    /**
+     * 惰性遍历 sorted set，成员可通过 {@link Tuple#getBinaryElement()} 自行解码
+     */
+    public Stream<Tuple> zscanStream(String key, int count, boolean prefetch) {
+        recordKey(key);
+        byte[] rawKey = key.getBytes();
+        ScanParams params = new ScanParams().count(count);
+        ScanIterator<Tuple> iterator = new ScanIterator<>(cursor -> executor.forKey(key).execute("zscan",
+                jedis -> jedis.zscan(rawKey, SafeEncoder.encode(cursor), params),
+                cluster -> cluster.zscan(rawKey, SafeEncoder.encode(cursor), params)));
+        return scanStream(iterator, prefetch);
+    }
+
+    /**
+     * 取出 key/value 交替参数中的 key
+     */
+    private static String[] keysOf(String... keysvalues) {
+        String[] keys = new String[keysvalues.length / 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keysvalues[i * 2];
         }
+        return keys;
     }
 
-    public Long geoadd(String key, double v, double v1, String s1) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geoadd(key, v, v1, s1);
-            } else {
-                rtn = ((Jedis) jedis).geoadd(key, v, v1, s1);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+    private static byte[][] keysOf(byte[]... keysvalues) {
+        byte[][] keys = new byte[keysvalues.length / 2][];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keysvalues[i * 2];
         }
+        return keys;
     }
 
-    public Long geoadd(String key, Map<String, GeoCoordinate> map) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geoadd(key, map);
-            } else {
-                rtn = ((Jedis) jedis).geoadd(key, map);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+    /**
+     * BLPOP/BRPOP 的参数形式为 key... timeout，取出其中的 key 用于选择分片
+     */
+    private static String[] blockingKeys(String... args) {
+        return Arrays.copyOf(args, Math.max(0, args.length - 1));
+    }
+
+    private static byte[][] blockingKeys(byte[]... args) {
+        return Arrays.copyOf(args, Math.max(0, args.length - 1));
+    }
+
+    private static String[] withKey(String key, String... keys) {
+        String[] all = new String[keys.length + 1];
+        all[0] = key;
+        System.arraycopy(keys, 0, all, 1, keys.length);
+        return all;
+    }
+
+    private static byte[][] withKey(byte[] key, byte[]... keys) {
+        byte[][] all = new byte[keys.length + 1][];
+        all[0] = key;
+        System.arraycopy(keys, 0, all, 1, keys.length);
+        return all;
+    }
+
+    private <T> Stream<T> scanStream(ScanIterator<T> iterator, boolean prefetch) {
+        if (prefetch) {
+            iterator.prefetch(async().getExecutor());
         }
+        return iterator.stream();
     }
 
-    public Double geodist(String key, String s1, String s2) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geodist(key, s1, s2);
-            } else {
-                rtn = ((Jedis) jedis).geodist(key, s1, s2);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+    @SuppressWarnings("unchecked")
+    private static <T> T decode(byte[] bytes, Class<T> type) {
+        if (type == String.class) {
+            return (T) SafeEncoder.encode(bytes);
         }
+        if (type == byte[].class) {
+            return (T) bytes;
+        }
+        return bytes != null && bytes.length > 0 ? SerializeUtil.deserialize(bytes, type) : null;
+    }
+
+    public Long pfadd(String key, String... elements) {
+        recordKey(key);
+        return executor.forKey(key).execute("pfadd", jedis -> jedis.pfadd(key, elements), cluster -> cluster.pfadd(key, elements));
+    }
+
+    public long pfcount(String key) {
+        recordKey(key);
+        return executor.forKey(key).execute("pfcount", jedis -> jedis.pfcount(key), cluster -> cluster.pfcount(key));
+    }
+
+    public Long geoadd(String key, double v, double v1, String s1) {
+        recordKey(key);
+        return executor.forKey(key).execute("geoadd", jedis -> jedis.geoadd(key, v, v1, s1), cluster -> cluster.geoadd(key, v, v1, s1));
+    }
+
+    public Long geoadd(String key, Map<String, GeoCoordinate> map) {
+        recordKey(key);
+        return executor.forKey(key).execute("geoadd", jedis -> jedis.geoadd(key, map), cluster -> cluster.geoadd(key, map));
+    }
+
+    public Double geodist(String key, String s1, String s2) {
+        recordKey(key);
+        return executor.forKey(key).executeRead("geodist", jedis -> jedis.geodist(key, s1, s2), cluster -> cluster.geodist(key, s1, s2));
     }
 
     public Double geodist(String key, String s1, String s2, GeoUnit geoUnit) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geodist(key, s1, s2, geoUnit);
-            } else {
-                rtn = ((Jedis) jedis).geodist(key, s1, s2, geoUnit);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("geodist", jedis -> jedis.geodist(key, s1, s2, geoUnit),
+                cluster -> cluster.geodist(key, s1, s2, geoUnit));
     }
 
     public List<String> geohash(String key, String... strings) {
-        List<String> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geohash(key, strings);
-            } else {
-                rtn = ((Jedis) jedis).geohash(key, strings);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("geohash", jedis -> jedis.geohash(key, strings), cluster -> cluster.geohash(key, strings));
     }
 
     public List<GeoCoordinate> geopos(String key, String... strings) {
-        List<GeoCoordinate> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geopos(key, strings);
-            } else {
-                rtn = ((Jedis) jedis).geopos(key, strings);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("geopos", jedis -> jedis.geopos(key, strings), cluster -> cluster.geopos(key, strings));
     }
 
     public List<GeoRadiusResponse> georadius(String key, double v, double v1, double v2, GeoUnit geoUnit) {
-        List<GeoRadiusResponse> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).georadius(key, v, v1, v2, geoUnit);
-            } else {
-                rtn = ((Jedis) jedis).georadius(key, v, v1, v2, geoUnit);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("georadius", jedis -> jedis.georadius(key, v, v1, v2, geoUnit),
+                cluster -> cluster.georadius(key, v, v1, v2, geoUnit));
     }
 
     /*public List<GeoRadiusResponse> georadius(String key, double v, double v1, double v2, GeoUnit geoUnit, GeoRadiusParam geoRadiusParam) {
@@ -3477,21 +1726,9 @@ public class JedisClientUtil {
         }
     }*/
     public List<GeoRadiusResponse> georadiusByMember(String key, String s1, double v, GeoUnit geoUnit) {
-        List<GeoRadiusResponse> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).georadiusByMember(key, s1, v, geoUnit);
-            } else {
-                rtn = ((Jedis) jedis).georadiusByMember(key, s1, v, geoUnit);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("georadiusByMember", jedis -> jedis.georadiusByMember(key, s1, v, geoUnit),
+                cluster -> cluster.georadiusByMember(key, s1, v, geoUnit));
     }
 
     /*public List<GeoRadiusResponse> georadiusByMember(String key, String s1, double v, GeoUnit geoUnit, GeoRadiusParam geoRadiusParam) {
@@ -3514,2942 +1751,853 @@ public class JedisClientUtil {
         }
     }*/
     public Object eval(byte[] script, byte[] keyCount, byte[]... params) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).eval(script, keyCount, params);
-            } else {
-                rtn = ((Jedis) jedis).eval(script, keyCount, params);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(Arrays.copyOf(params, Integer.parseInt(SafeEncoder.encode(keyCount)))).execute("eval", jedis -> jedis.eval(script, keyCount, params),
+                cluster -> cluster.eval(script, keyCount, params));
     }
 
     public Object eval(byte[] script, int keyCount, byte[]... params) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).eval(script, keyCount, params);
-            } else {
-                rtn = ((Jedis) jedis).eval(script, keyCount, params);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(Arrays.copyOf(params, keyCount)).execute("eval", jedis -> jedis.eval(script, keyCount, params),
+                cluster -> cluster.eval(script, keyCount, params));
     }
 
     public Object eval(byte[] script, List<byte[]> keys, List<byte[]> args) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).eval(script, keys, args);
-            } else {
-                rtn = ((Jedis) jedis).eval(script, keys, args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys.toArray(new byte[0][])).execute("eval", jedis -> jedis.eval(script, keys, args), cluster -> cluster.eval(script, keys, args));
     }
 
     public Object eval(byte[] script) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).eval(script, 0);
-            } else {
-                rtn = ((Jedis) jedis).eval(script);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("eval", jedis -> jedis.eval(script), cluster -> cluster.eval(script, 0));
     }
 
     public Object evalsha(byte[] script) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).evalsha(script, 1);
-            } else {
-                rtn = ((Jedis) jedis).evalsha(script);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("evalsha", jedis -> jedis.evalsha(script), cluster -> cluster.evalsha(script, 1));
     }
 
     public Object evalsha(byte[] sha1, List<byte[]> keys, List<byte[]> args) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).evalsha(sha1, keys, args);
-            } else {
-                rtn = ((Jedis) jedis).evalsha(sha1, keys, args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys.toArray(new byte[0][])).execute("evalsha", jedis -> jedis.evalsha(sha1, keys, args), cluster -> cluster.evalsha(sha1, keys, args));
     }
 
     public Object evalsha(byte[] sha1, int keyCount, byte[]... params) {
-        Object rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).evalsha(sha1, keyCount, params);
-            } else {
-                rtn = ((Jedis) jedis).evalsha(sha1, keyCount, params);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(Arrays.copyOf(params, keyCount)).execute("evalsha", jedis -> jedis.evalsha(sha1, keyCount, params),
+                cluster -> cluster.evalsha(sha1, keyCount, params));
     }
 
     public List<Long> scriptExists(byte[]... sha1) throws UnsupportedEncodingException {
-        List<Long> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scriptExists(scriptKey.getBytes("utf-8"), sha1);
-            } else {
-                rtn = ((Jedis) jedis).scriptExists(sha1);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("scriptExists", jedis -> jedis.scriptExists(sha1),
+                cluster -> cluster.scriptExists(SafeEncoder.encode(scriptKey), sha1));
     }
 
     public byte[] scriptLoad(byte[] script) throws UnsupportedEncodingException {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scriptLoad(script, scriptKey.getBytes("utf-8"));
-            } else {
-                rtn = ((Jedis) jedis).scriptLoad(script);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("scriptLoad", jedis -> jedis.scriptLoad(script),
+                cluster -> cluster.scriptLoad(script, SafeEncoder.encode(scriptKey)));
     }
 
     public String scriptFlush() throws UnsupportedEncodingException {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scriptFlush(scriptKey.getBytes("utf-8"));
-            } else {
-                rtn = ((Jedis) jedis).scriptFlush();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("scriptFlush", jedis -> jedis.scriptFlush(),
+                cluster -> cluster.scriptFlush(SafeEncoder.encode(scriptKey)));
     }
 
     public String scriptKill() throws UnsupportedEncodingException {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scriptKill(scriptKey.getBytes("utf-8"));
-            } else {
-                rtn = ((Jedis) jedis).scriptKill();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("scriptKill", jedis -> jedis.scriptKill(),
+                cluster -> cluster.scriptKill(SafeEncoder.encode(scriptKey)));
     }
 
     public List<byte[]> configGet(byte[] pattern) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).configGet(pattern);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).configGet(pattern);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("configGet", jedis -> jedis.configGet(pattern));
     }
 
     public byte[] configSet(byte[] parameter, byte[] value) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).configSet(parameter, value);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).configSet(parameter, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("configSet", jedis -> jedis.configSet(parameter, value));
     }
 
     public String slowlogReset() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).slowlogReset();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).slowlogReset();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("slowlogReset", jedis -> jedis.slowlogReset());
     }
 
     public Long slowlogLen() {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).slowlogLen();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).slowlogLen();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("slowlogLen", jedis -> jedis.slowlogLen());
     }
 
     public List<byte[]> slowlogGetBinary() {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).slowlogGetBinary();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).slowlogGetBinary();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("slowlogGetBinary", jedis -> jedis.slowlogGetBinary());
     }
 
     public List<byte[]> slowlogGetBinary(long entries) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).slowlogGetBinary(entries);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).slowlogGetBinary(entries);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("slowlogGetBinary", jedis -> jedis.slowlogGetBinary(entries));
     }
 
     public Long objectRefcount(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).objectRefcount(key);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).objectRefcount(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("objectRefcount", jedis -> jedis.objectRefcount(key));
     }
 
     public byte[] objectEncoding(byte[] key) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).objectEncoding(key);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).objectEncoding(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("objectEncoding", jedis -> jedis.objectEncoding(key));
     }
 
     public Long objectIdletime(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).objectIdletime(key);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).objectIdletime(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("objectIdletime", jedis -> jedis.objectIdletime(key));
     }
 
     public Long del(byte[]... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).del(keys);
-            } else {
-                rtn = ((Jedis) jedis).del(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+        if (shardedMultiKeyCommands != null) {
+            return shardedMultiKeyCommands.del(keys);
         }
+        return executor.execute("del", jedis -> jedis.del(keys), cluster -> clusterMultiKeyCommands.del(keys));
     }
 
     public Long exists(byte[]... bytes) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).exists(bytes);
-            } else {
-                rtn = ((Jedis) jedis).exists(bytes);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(bytes).executeRead("exists", jedis -> jedis.exists(bytes), cluster -> cluster.exists(bytes));
     }
 
     public List<byte[]> blpop(int timeout, byte[]... keys) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).blpop(timeout, keys);
-            } else {
-                rtn = ((Jedis) jedis).blpop(timeout, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(keys).execute("blpop", jedis -> jedis.blpop(timeout, keys), cluster -> cluster.blpop(timeout, keys));
     }
 
     public List<byte[]> brpop(int timeout, byte[]... keys) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).brpop(timeout, keys);
-            } else {
-                rtn = ((Jedis) jedis).brpop(timeout, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(keys).execute("brpop", jedis -> jedis.brpop(timeout, keys), cluster -> cluster.brpop(timeout, keys));
     }
 
     public List<byte[]> blpop(byte[]... args) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).blpop(Integer.MAX_VALUE, args);
-            } else {
-                rtn = ((Jedis) jedis).blpop(args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(blockingKeys(args)).execute("blpop", jedis -> jedis.blpop(args), cluster -> cluster.blpop(Integer.MAX_VALUE, args));
     }
 
     public List<byte[]> brpop(byte[]... args) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).brpop(Integer.MAX_VALUE, args);
-            } else {
-                rtn = ((Jedis) jedis).brpop(args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(blockingKeys(args)).execute("brpop", jedis -> jedis.brpop(args), cluster -> cluster.brpop(Integer.MAX_VALUE, args));
     }
 
+    /**
+     * 同 {@link #keys(String)}；byte[] 按引用比较，SCAN 重复返回的 key 按内容去重
+     */
     public Set<byte[]> keys(byte[] pattern) {
+        return scanKeys(pattern, DEFAULT_SCAN_COUNT)
+                .collect(Collectors.toCollection(() -> new TreeSet<>(UnsignedBytes.lexicographicalComparator())));
+    }
 
-        return null;
+    public Stream<byte[]> scanKeys(byte[] pattern, int count) {
+        ScanParams params = new ScanParams().match(pattern).count(count);
+        Iterator<Function<String, ScanResult<byte[]>>> sources = executor.getReadPools().stream()
+                .map(pool -> (Function<String, ScanResult<byte[]>>) cursor -> {
+                    try (Jedis jedis = pool.getResource()) {
+                        return jedis.scan(SafeEncoder.encode(cursor), params);
+                    }
+                }).iterator();
+        return new ScanIterator<>(sources).stream();
     }
 
     public List<byte[]> mget(byte[]... keys) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).mget(keys);
-            } else {
-                rtn = ((Jedis) jedis).mget(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+        if (shardedMultiKeyCommands != null) {
+            return shardedMultiKeyCommands.mget(keys);
         }
+        return executor.executeRead("mget", jedis -> jedis.mget(keys), cluster -> clusterMultiKeyCommands.mget(keys));
     }
 
     public String mset(byte[]... keysvalues) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).mset(keysvalues);
-            } else {
-                rtn = ((Jedis) jedis).mset(keysvalues);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
+        if (shardedMultiKeyCommands != null) {
+            return shardedMultiKeyCommands.mset(keysvalues);
         }
+        return executor.execute("mset", jedis -> jedis.mset(keysvalues), cluster -> clusterMultiKeyCommands.mset(keysvalues));
     }
 
     public Long msetnx(byte[]... keysvalues) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).msetnx(keysvalues);
-            } else {
-                rtn = ((Jedis) jedis).msetnx(keysvalues);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keysOf(keysvalues)).execute("msetnx", jedis -> jedis.msetnx(keysvalues), cluster -> cluster.msetnx(keysvalues));
     }
 
     public String rename(byte[] oldkey, byte[] newkey) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rename(oldkey, newkey);
-            } else {
-                rtn = ((Jedis) jedis).rename(oldkey, newkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(oldkey, newkey).execute("rename", jedis -> jedis.rename(oldkey, newkey), cluster -> cluster.rename(oldkey, newkey));
     }
 
     public Long renamenx(byte[] oldkey, byte[] newkey) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).renamenx(oldkey, newkey);
-            } else {
-                rtn = ((Jedis) jedis).renamenx(oldkey, newkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(oldkey, newkey).execute("renamenx", jedis -> jedis.renamenx(oldkey, newkey), cluster -> cluster.renamenx(oldkey, newkey));
     }
 
     public byte[] rpoplpush(byte[] srckey, byte[] dstkey) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rpoplpush(srckey, dstkey);
-            } else {
-                rtn = ((Jedis) jedis).rpoplpush(srckey, dstkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(srckey, dstkey).execute("rpoplpush", jedis -> jedis.rpoplpush(srckey, dstkey), cluster -> cluster.rpoplpush(srckey, dstkey));
     }
 
     public Set<byte[]> sdiff(byte[]... keys) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sdiff(keys);
-            } else {
-                rtn = ((Jedis) jedis).sdiff(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).executeRead("sdiff", jedis -> jedis.sdiff(keys), cluster -> cluster.sdiff(keys));
     }
 
     public Long sdiffstore(byte[] dstkey, byte[]... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sdiffstore(dstkey, keys);
-            } else {
-                rtn = ((Jedis) jedis).sdiffstore(dstkey, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, keys)).execute("sdiffstore", jedis -> jedis.sdiffstore(dstkey, keys), cluster -> cluster.sdiffstore(dstkey, keys));
     }
 
     public Set<byte[]> sinter(byte[]... keys) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sinter(keys);
-            } else {
-                rtn = ((Jedis) jedis).sinter(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).executeRead("sinter", jedis -> jedis.sinter(keys), cluster -> cluster.sinter(keys));
     }
 
     public Long sinterstore(byte[] dstkey, byte[]... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sinterstore(dstkey, keys);
-            } else {
-                rtn = ((Jedis) jedis).sinterstore(dstkey, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, keys)).execute("sinterstore", jedis -> jedis.sinterstore(dstkey, keys), cluster -> cluster.sinterstore(dstkey, keys));
     }
 
     public Long smove(byte[] srckey, byte[] dstkey, byte[] member) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).smove(srckey, dstkey, member);
-            } else {
-                rtn = ((Jedis) jedis).smove(srckey, dstkey, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(srckey, dstkey).execute("smove", jedis -> jedis.smove(srckey, dstkey, member),
+                cluster -> cluster.smove(srckey, dstkey, member));
     }
 
     public Long sort(byte[] key, SortingParams sortingParameters, byte[] dstkey) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sort(key, sortingParameters, dstkey);
-            } else {
-                rtn = ((Jedis) jedis).sort(key, sortingParameters, dstkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKeys(key, dstkey).execute("sort", jedis -> jedis.sort(key, sortingParameters, dstkey),
+                cluster -> cluster.sort(key, sortingParameters, dstkey));
     }
 
     public Long sort(byte[] key, byte[] dstkey) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sort(key, dstkey);
-            } else {
-                rtn = ((Jedis) jedis).sort(key, dstkey);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKeys(key, dstkey).execute("sort", jedis -> jedis.sort(key, dstkey), cluster -> cluster.sort(key, dstkey));
     }
 
     public Set<byte[]> sunion(byte[]... keys) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sunion(keys);
-            } else {
-                rtn = ((Jedis) jedis).sunion(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).executeRead("sunion", jedis -> jedis.sunion(keys), cluster -> cluster.sunion(keys));
     }
 
     public Long sunionstore(byte[] dstkey, byte[]... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sunionstore(dstkey, keys);
-            } else {
-                rtn = ((Jedis) jedis).sunionstore(dstkey, keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, keys)).execute("sunionstore", jedis -> jedis.sunionstore(dstkey, keys), cluster -> cluster.sunionstore(dstkey, keys));
     }
 
     public String watch(byte[]... keys) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).watch(keys);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).watch(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).execute("watch", jedis -> jedis.watch(keys));
     }
 
     public String unwatch() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).unwatch();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).unwatch();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("unwatch", jedis -> jedis.unwatch());
     }
 
     public Long zinterstore(byte[] dstkey, byte[]... sets) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zinterstore(dstkey, sets);
-            } else {
-                rtn = ((Jedis) jedis).zinterstore(dstkey, sets);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, sets)).execute("zinterstore", jedis -> jedis.zinterstore(dstkey, sets), cluster -> cluster.zinterstore(dstkey, sets));
     }
 
     public Long zinterstore(byte[] dstkey, ZParams params, byte[]... sets) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zinterstore(dstkey, params, sets);
-            } else {
-                rtn = ((Jedis) jedis).zinterstore(dstkey, params, sets);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, sets)).execute("zinterstore", jedis -> jedis.zinterstore(dstkey, params, sets),
+                cluster -> cluster.zinterstore(dstkey, params, sets));
     }
 
     public Long zunionstore(byte[] dstkey, byte[]... sets) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zunionstore(dstkey, sets);
-            } else {
-                rtn = ((Jedis) jedis).zunionstore(dstkey, sets);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, sets)).execute("zunionstore", jedis -> jedis.zunionstore(dstkey, sets), cluster -> cluster.zunionstore(dstkey, sets));
     }
 
     public Long zunionstore(byte[] dstkey, ZParams params, byte[]... sets) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zunionstore(dstkey, params, sets);
-            } else {
-                rtn = ((Jedis) jedis).zunionstore(dstkey, params, sets);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(dstkey, sets)).execute("zunionstore", jedis -> jedis.zunionstore(dstkey, params, sets),
+                cluster -> cluster.zunionstore(dstkey, params, sets));
     }
 
     public byte[] brpoplpush(byte[] source, byte[] destination, int timeout) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).brpoplpush(source, destination, timeout);
-            } else {
-                rtn = ((Jedis) jedis).brpoplpush(source, destination, timeout);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return blockingExecutor.forKeys(source, destination).execute("brpoplpush", jedis -> jedis.brpoplpush(source, destination, timeout),
+                cluster -> cluster.brpoplpush(source, destination, timeout));
     }
 
     public Long publish(byte[] channel, byte[] message) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).publish(channel, message);
-            } else {
-                rtn = ((Jedis) jedis).publish(channel, message);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("publish", jedis -> jedis.publish(channel, message), cluster -> cluster.publish(channel, message));
     }
 
     public void subscribe(BinaryJedisPubSub jedisPubSub, byte[]... channels) {
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                ((JedisCluster) jedis).subscribe(jedisPubSub, channels);
-            } else {
-                ((Jedis) jedis).subscribe(jedisPubSub, channels);
-            }
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        executor.execute(jedis -> {
+            jedis.subscribe(jedisPubSub, channels);
+            return null;
+        }, cluster -> {
+            cluster.subscribe(jedisPubSub, channels);
+            return null;
+        });
     }
 
     public void psubscribe(BinaryJedisPubSub jedisPubSub, byte[]... patterns) {
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                ((JedisCluster) jedis).psubscribe(jedisPubSub, patterns);
-            } else {
-                ((Jedis) jedis).psubscribe(jedisPubSub, patterns);
-            }
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        executor.execute(jedis -> {
+            jedis.psubscribe(jedisPubSub, patterns);
+            return null;
+        }, cluster -> {
+            cluster.psubscribe(jedisPubSub, patterns);
+            return null;
+        });
     }
 
     public byte[] randomBinaryKey() {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).randomBinaryKey();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).randomBinaryKey();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("randomBinaryKey", jedis -> jedis.randomBinaryKey());
     }
 
     public Long bitop(BitOP op, byte[] destKey, byte[]... srcKeys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).bitop(op, destKey, srcKeys);
-            } else {
-                rtn = ((Jedis) jedis).bitop(op, destKey, srcKeys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(destKey, srcKeys)).execute("bitop", jedis -> jedis.bitop(op, destKey, srcKeys),
+                cluster -> cluster.bitop(op, destKey, srcKeys));
     }
 
     public String pfmerge(byte[] destkey, byte[]... sourcekeys) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pfmerge(destkey, sourcekeys);
-            } else {
-                rtn = ((Jedis) jedis).pfmerge(destkey, sourcekeys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(withKey(destkey, sourcekeys)).execute("pfmerge", jedis -> jedis.pfmerge(destkey, sourcekeys),
+                cluster -> cluster.pfmerge(destkey, sourcekeys));
     }
 
     public Long pfcount(byte[]... keys) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pfcount(keys);
-            } else {
-                rtn = ((Jedis) jedis).pfcount(keys);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKeys(keys).execute("pfcount", jedis -> jedis.pfcount(keys), cluster -> cluster.pfcount(keys));
     }
 
     public String set(byte[] key, byte[] value) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).set(key, value);
-            } else {
-                rtn = ((Jedis) jedis).set(key, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("set", jedis -> jedis.set(key, value), cluster -> cluster.set(key, value),
+                pipeline -> pipeline.set(key, value));
     }
 
     public String set(byte[] bytes, byte[] bytes1, byte[] bytes2) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).set(new String(bytes), new String(bytes1), new String(bytes2));
-            } else {
-                rtn = ((Jedis) jedis).set(bytes, bytes1, bytes2);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).execute("set", jedis -> jedis.set(bytes, bytes1, bytes2),
+                cluster -> cluster.set(new String(bytes), new String(bytes1), new String(bytes2)));
     }
 
     public String set(byte[] bytes, byte[] bytes1, byte[] bytes2, byte[] bytes3, long l) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).set(bytes, bytes1, bytes2, bytes3, l);
-            } else {
-                rtn = ((Jedis) jedis).set(bytes, bytes1, bytes2, bytes3, l);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).execute("set", jedis -> jedis.set(bytes, bytes1, bytes2, bytes3, l),
+                cluster -> cluster.set(bytes, bytes1, bytes2, bytes3, l));
     }
 
     public byte[] get(byte[] key) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).get(key);
-            } else {
-                rtn = ((Jedis) jedis).get(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("get", jedis -> jedis.get(key), cluster -> cluster.get(key),
+                pipeline -> pipeline.get(key));
     }
 
     public Boolean exists(byte[] key) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).exists(key);
-            } else {
-                rtn = ((Jedis) jedis).exists(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("exists", jedis -> jedis.exists(key), cluster -> cluster.exists(key),
+                pipeline -> pipeline.exists(key));
     }
 
     public Long persist(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).persist(key);
-            } else {
-                rtn = ((Jedis) jedis).persist(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("persist", jedis -> jedis.persist(key), cluster -> cluster.persist(key));
     }
 
     public String type(byte[] key) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).type(key);
-            } else {
-                rtn = ((Jedis) jedis).type(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("type", jedis -> jedis.type(key), cluster -> cluster.type(key));
     }
 
     public Long expire(byte[] key, int seconds) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).expire(key, seconds);
-            } else {
-                rtn = ((Jedis) jedis).expire(key, seconds);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("expire", jedis -> jedis.expire(key, seconds), cluster -> cluster.expire(key, seconds),
+                pipeline -> pipeline.expire(key, seconds));
     }
 
     public Long pexpire(String key, long l) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pexpire(key, l);
-            } else {
-                rtn = ((Jedis) jedis).pexpire(key, l);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("pexpire", jedis -> jedis.pexpire(key, l), cluster -> cluster.pexpire(key, l),
+                pipeline -> pipeline.pexpire(key, l));
     }
 
     public Long pexpire(byte[] bytes, long l) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pexpire(bytes, l);
-            } else {
-                rtn = ((Jedis) jedis).pexpire(bytes, l);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).executeBatchable("pexpire", jedis -> jedis.pexpire(bytes, l), cluster -> cluster.pexpire(bytes, l),
+                pipeline -> pipeline.pexpire(bytes, l));
     }
 
     public Long expireAt(byte[] key, long unixTime) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).expireAt(key, unixTime);
-            } else {
-                rtn = ((Jedis) jedis).expireAt(key, unixTime);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("expireAt", jedis -> jedis.expireAt(key, unixTime), cluster -> cluster.expireAt(key, unixTime));
     }
 
     public Long pexpireAt(byte[] bytes, long l) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pexpire(bytes, l);
-            } else {
-                rtn = ((Jedis) jedis).pexpire(bytes, l);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).execute("pexpire", jedis -> jedis.pexpire(bytes, l), cluster -> cluster.pexpire(bytes, l));
     }
 
     public Long ttl(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).ttl(key);
-            } else {
-                rtn = ((Jedis) jedis).ttl(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("ttl", jedis -> jedis.ttl(key), cluster -> cluster.ttl(key),
+                pipeline -> pipeline.ttl(key));
     }
 
     public Boolean setbit(byte[] key, long offset, boolean value) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setbit(key, offset, value);
-            } else {
-                rtn = ((Jedis) jedis).setbit(key, offset, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("setbit", jedis -> jedis.setbit(key, offset, value),
+                cluster -> cluster.setbit(key, offset, value));
     }
 
     public Boolean setbit(byte[] key, long offset, byte[] value) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setbit(key, offset, value);
-            } else {
-                rtn = ((Jedis) jedis).setbit(key, offset, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("setbit", jedis -> jedis.setbit(key, offset, value),
+                cluster -> cluster.setbit(key, offset, value));
     }
 
     public Boolean getbit(byte[] key, long offset) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).getbit(key, offset);
-            } else {
-                rtn = ((Jedis) jedis).getbit(key, offset);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("getbit", jedis -> jedis.getbit(key, offset), cluster -> cluster.getbit(key, offset));
     }
 
     public Long setrange(byte[] key, long offset, byte[] value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setrange(key, offset, value);
-            } else {
-                rtn = ((Jedis) jedis).setrange(key, offset, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("setrange", jedis -> jedis.setrange(key, offset, value),
+                cluster -> cluster.setrange(key, offset, value));
     }
 
     public byte[] getrange(byte[] key, long startOffset, long endOffset) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).getrange(key, startOffset, endOffset);
-            } else {
-                rtn = ((Jedis) jedis).getrange(key, startOffset, endOffset);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("getrange", jedis -> jedis.getrange(key, startOffset, endOffset),
+                cluster -> cluster.getrange(key, startOffset, endOffset));
     }
 
     public byte[] getSet(byte[] key, byte[] value) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).getSet(key, value);
-            } else {
-                rtn = ((Jedis) jedis).getSet(key, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("getSet", jedis -> jedis.getSet(key, value), cluster -> cluster.getSet(key, value));
     }
 
     public Long setnx(byte[] key, byte[] value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setnx(key, value);
-            } else {
-                rtn = ((Jedis) jedis).setnx(key, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("setnx", jedis -> jedis.setnx(key, value), cluster -> cluster.setnx(key, value));
     }
 
     public String setex(byte[] key, int seconds, byte[] value) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).setex(key, seconds, value);
-            } else {
-                rtn = ((Jedis) jedis).setex(key, seconds, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("setex", jedis -> jedis.setex(key, seconds, value), cluster -> cluster.setex(key, seconds, value),
+                pipeline -> pipeline.setex(key, seconds, value));
     }
 
     public Long decrBy(byte[] key, long integer) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).decrBy(key, integer);
-            } else {
-                rtn = ((Jedis) jedis).decrBy(key, integer);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("decrBy", jedis -> jedis.decrBy(key, integer), cluster -> cluster.decrBy(key, integer));
     }
 
     public Long decr(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).decr(key);
-            } else {
-                rtn = ((Jedis) jedis).decr(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("decr", jedis -> jedis.decr(key), cluster -> cluster.decr(key));
     }
 
     public Long incrBy(byte[] key, long integer) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).incrBy(key, integer);
-            } else {
-                rtn = ((Jedis) jedis).incrBy(key, integer);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("incrBy", jedis -> jedis.incrBy(key, integer), cluster -> cluster.incrBy(key, integer));
     }
 
     public Double incrByFloat(byte[] key, double value) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).incrByFloat(key, value);
-            } else {
-                rtn = ((Jedis) jedis).incrByFloat(key, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("incrByFloat", jedis -> jedis.incrByFloat(key, value), cluster -> cluster.incrByFloat(key, value));
     }
 
     public Long incr(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).incr(key);
-            } else {
-                rtn = ((Jedis) jedis).incr(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("incr", jedis -> jedis.incr(key), cluster -> cluster.incr(key),
+                pipeline -> pipeline.incr(key));
     }
 
     public Long append(byte[] key, byte[] value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).append(key, value);
-            } else {
-                rtn = ((Jedis) jedis).append(key, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("append", jedis -> jedis.append(key, value), cluster -> cluster.append(key, value));
     }
 
     public byte[] substr(byte[] key, int start, int end) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).substr(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).substr(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("substr", jedis -> jedis.substr(key, start, end), cluster -> cluster.substr(key, start, end));
     }
 
     public Long hset(byte[] key, byte[] field, byte[] value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hset(key, field, value);
-            } else {
-                rtn = ((Jedis) jedis).hset(key, field, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("hset", jedis -> jedis.hset(key, field, value), cluster -> cluster.hset(key, field, value),
+                pipeline -> pipeline.hset(key, field, value));
     }
 
     public byte[] hget(byte[] key, byte[] field) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hget(key, field);
-            } else {
-                rtn = ((Jedis) jedis).hget(key, field);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("hget", jedis -> jedis.hget(key, field), cluster -> cluster.hget(key, field),
+                pipeline -> pipeline.hget(key, field));
     }
 
     public Long hsetnx(byte[] key, byte[] field, byte[] value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hsetnx(key, field, value);
-            } else {
-                rtn = ((Jedis) jedis).hsetnx(key, field, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hsetnx", jedis -> jedis.hsetnx(key, field, value), cluster -> cluster.hsetnx(key, field, value));
     }
 
     public String hmset(byte[] key, Map<byte[], byte[]> hash) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hmset(key, hash);
-            } else {
-                rtn = ((Jedis) jedis).hmset(key, hash);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hmset", jedis -> jedis.hmset(key, hash), cluster -> cluster.hmset(key, hash));
     }
 
     public List<byte[]> hmget(byte[] key, byte[]... fields) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hmget(key, fields);
-            } else {
-                rtn = ((Jedis) jedis).hmget(key, fields);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hmget", jedis -> jedis.hmget(key, fields), cluster -> cluster.hmget(key, fields));
     }
 
     public Long hincrBy(byte[] key, byte[] field, long value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hincrBy(key, field, value);
-            } else {
-                rtn = ((Jedis) jedis).hincrBy(key, field, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hincrBy", jedis -> jedis.hincrBy(key, field, value),
+                cluster -> cluster.hincrBy(key, field, value));
     }
 
     public Double hincrByFloat(byte[] key, byte[] field, double value) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hincrByFloat(key, field, value);
-            } else {
-                rtn = ((Jedis) jedis).hincrByFloat(key, field, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hincrByFloat", jedis -> jedis.hincrByFloat(key, field, value),
+                cluster -> cluster.hincrByFloat(key, field, value));
     }
 
     public Boolean hexists(byte[] key, byte[] field) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hexists(key, field);
-            } else {
-                rtn = ((Jedis) jedis).hexists(key, field);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hexists", jedis -> jedis.hexists(key, field), cluster -> cluster.hexists(key, field));
     }
 
     public Long hdel(byte[] key, byte[]... fields) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hdel(key, fields);
-            } else {
-                rtn = ((Jedis) jedis).hdel(key, fields);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("hdel", jedis -> jedis.hdel(key, fields), cluster -> cluster.hdel(key, fields));
     }
 
     public Long hlen(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hlen(key);
-            } else {
-                rtn = ((Jedis) jedis).hlen(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hlen", jedis -> jedis.hlen(key), cluster -> cluster.hlen(key));
     }
 
     public Set<byte[]> hkeys(byte[] key) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hkeys(key);
-            } else {
-                rtn = ((Jedis) jedis).hkeys(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hkeys", jedis -> jedis.hkeys(key), cluster -> cluster.hkeys(key));
     }
 
     public Collection<byte[]> hvals(byte[] key) {
-        Collection<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hvals(key);
-            } else {
-                rtn = ((Jedis) jedis).hvals(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("hvals", jedis -> jedis.hvals(key), cluster -> cluster.hvals(key));
     }
 
     public Map<byte[], byte[]> hgetAll(byte[] key) {
-        Map<byte[], byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).hgetAll(key);
-            } else {
-                rtn = ((Jedis) jedis).hgetAll(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchableRead("hgetAll", jedis -> jedis.hgetAll(key), cluster -> cluster.hgetAll(key),
+                pipeline -> pipeline.hgetAll(key));
     }
 
     public Long rpush(byte[] key, byte[]... args) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rpush(key, args);
-            } else {
-                rtn = ((Jedis) jedis).rpush(key, args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("rpush", jedis -> jedis.rpush(key, args), cluster -> cluster.rpush(key, args));
     }
 
     public Long lpush(byte[] key, byte[]... args) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lpush(key, args);
-            } else {
-                rtn = ((Jedis) jedis).lpush(key, args);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lpush", jedis -> jedis.lpush(key, args), cluster -> cluster.lpush(key, args));
     }
 
     public Long llen(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).llen(key);
-            } else {
-                rtn = ((Jedis) jedis).llen(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("llen", jedis -> jedis.llen(key), cluster -> cluster.llen(key));
     }
 
     public List<byte[]> lrange(byte[] key, long start, long end) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lrange(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).lrange(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("lrange", jedis -> jedis.lrange(key, start, end), cluster -> cluster.lrange(key, start, end));
     }
 
     public String ltrim(byte[] key, long start, long end) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).ltrim(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).ltrim(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("ltrim", jedis -> jedis.ltrim(key, start, end), cluster -> cluster.ltrim(key, start, end));
     }
 
     public byte[] lindex(byte[] key, long index) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lindex(key, index);
-            } else {
-                rtn = ((Jedis) jedis).lindex(key, index);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("lindex", jedis -> jedis.lindex(key, index), cluster -> cluster.lindex(key, index));
     }
 
     public String lset(byte[] key, long index, byte[] value) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lset(key, index, value);
-            } else {
-                rtn = ((Jedis) jedis).lset(key, index, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lset", jedis -> jedis.lset(key, index, value), cluster -> cluster.lset(key, index, value));
     }
 
     public Long lrem(byte[] key, long count, byte[] value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lrem(key, count, value);
-            } else {
-                rtn = ((Jedis) jedis).lrem(key, count, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lrem", jedis -> jedis.lrem(key, count, value), cluster -> cluster.lrem(key, count, value));
     }
 
     public byte[] lpop(byte[] key) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lpop(key);
-            } else {
-                rtn = ((Jedis) jedis).lpop(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lpop", jedis -> jedis.lpop(key), cluster -> cluster.lpop(key));
     }
 
     public byte[] rpop(byte[] key) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rpop(key);
-            } else {
-                rtn = ((Jedis) jedis).rpop(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("rpop", jedis -> jedis.rpop(key), cluster -> cluster.rpop(key));
     }
 
     public Long sadd(byte[] key, byte[]... members) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sadd(key, members);
-            } else {
-                rtn = ((Jedis) jedis).sadd(key, members);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("sadd", jedis -> jedis.sadd(key, members), cluster -> cluster.sadd(key, members));
     }
 
     public Set<byte[]> smembers(byte[] key) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).smembers(key);
-            } else {
-                rtn = ((Jedis) jedis).smembers(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("smembers", jedis -> jedis.smembers(key), cluster -> cluster.smembers(key));
     }
 
     public Long srem(byte[] key, byte[]... member) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).srem(key, member);
-            } else {
-                rtn = ((Jedis) jedis).srem(key, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("srem", jedis -> jedis.srem(key, member), cluster -> cluster.srem(key, member));
     }
 
     public byte[] spop(byte[] key) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).spop(key);
-            } else {
-                rtn = ((Jedis) jedis).spop(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("spop", jedis -> jedis.spop(key), cluster -> cluster.spop(key));
     }
 
     public Set<byte[]> spop(byte[] bytes, long l) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).spop(bytes, l);
-            } else {
-                rtn = ((Jedis) jedis).spop(bytes, l);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).execute("spop", jedis -> jedis.spop(bytes, l), cluster -> cluster.spop(bytes, l));
     }
 
     public Long scard(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).scard(key);
-            } else {
-                rtn = ((Jedis) jedis).scard(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("scard", jedis -> jedis.scard(key), cluster -> cluster.scard(key));
     }
 
     public Boolean sismember(byte[] key, byte[] member) {
-        Boolean rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sismember(key, member);
-            } else {
-                rtn = ((Jedis) jedis).sismember(key, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("sismember", jedis -> jedis.sismember(key, member), cluster -> cluster.sismember(key, member));
     }
 
     public byte[] srandmember(byte[] key) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).srandmember(key);
-            } else {
-                rtn = ((Jedis) jedis).srandmember(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("srandmember", jedis -> jedis.srandmember(key), cluster -> cluster.srandmember(key));
     }
 
     public List<byte[]> srandmember(byte[] key, int count) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).srandmember(key, count);
-            } else {
-                rtn = ((Jedis) jedis).srandmember(key, count);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("srandmember", jedis -> jedis.srandmember(key, count), cluster -> cluster.srandmember(key, count));
     }
 
     public Long strlen(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).strlen(key);
-            } else {
-                rtn = ((Jedis) jedis).strlen(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("strlen", jedis -> jedis.strlen(key), cluster -> cluster.strlen(key));
     }
 
     public Long zadd(byte[] key, double score, byte[] member) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zadd(key, score, member);
-            } else {
-                rtn = ((Jedis) jedis).zadd(key, score, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zadd", jedis -> jedis.zadd(key, score, member), cluster -> cluster.zadd(key, score, member));
     }
 
     public Long zadd(byte[] key, Map<byte[], Double> scoreMembers) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zadd(key, scoreMembers);
-            } else {
-                rtn = ((Jedis) jedis).zadd(key, scoreMembers);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zadd", jedis -> jedis.zadd(key, scoreMembers), cluster -> cluster.zadd(key, scoreMembers));
     }
 
     public Set<byte[]> zrange(byte[] key, long start, long end) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrange(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zrange(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrange", jedis -> jedis.zrange(key, start, end), cluster -> cluster.zrange(key, start, end));
     }
 
     public Long zrem(byte[] key, byte[]... members) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrem(key, members);
-            } else {
-                rtn = ((Jedis) jedis).zrem(key, members);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zrem", jedis -> jedis.zrem(key, members), cluster -> cluster.zrem(key, members));
     }
 
     public Double zincrby(byte[] key, double score, byte[] member) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zincrby(key, score, member);
-            } else {
-                rtn = ((Jedis) jedis).zincrby(key, score, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zincrby", jedis -> jedis.zincrby(key, score, member),
+                cluster -> cluster.zincrby(key, score, member));
     }
 
     public Long zrank(byte[] key, byte[] member) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrank(key, member);
-            } else {
-                rtn = ((Jedis) jedis).zrank(key, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrank", jedis -> jedis.zrank(key, member), cluster -> cluster.zrank(key, member));
     }
 
     public Long zrevrank(byte[] key, byte[] member) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrank(key, member);
-            } else {
-                rtn = ((Jedis) jedis).zrevrank(key, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrank", jedis -> jedis.zrevrank(key, member), cluster -> cluster.zrevrank(key, member));
     }
 
     public Set<byte[]> zrevrange(byte[] key, long start, long end) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrange(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zrevrange(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrange", jedis -> jedis.zrevrange(key, start, end),
+                cluster -> cluster.zrevrange(key, start, end));
     }
 
     public Set<Tuple> zrangeWithScores(byte[] key, long start, long end) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeWithScores(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zrangeWithScores(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
-    }
-
-    public Set<Tuple> zrevrangeWithScores(byte[] key, long start, long end) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeWithScores(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeWithScores(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
-    }
-
-    public Long zcard(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zcard(key);
-            } else {
-                rtn = ((Jedis) jedis).zcard(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeWithScores", jedis -> jedis.zrangeWithScores(key, start, end),
+                cluster -> cluster.zrangeWithScores(key, start, end));
+    }
+
+    public Set<Tuple> zrevrangeWithScores(byte[] key, long start, long end) {
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeWithScores", jedis -> jedis.zrevrangeWithScores(key, start, end),
+                cluster -> cluster.zrevrangeWithScores(key, start, end));
+    }
+
+    public Long zcard(byte[] key) {
+        recordKey(key);
+        return executor.forKey(key).executeRead("zcard", jedis -> jedis.zcard(key), cluster -> cluster.zcard(key));
     }
 
     public Double zscore(byte[] key, byte[] member) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zscore(key, member);
-            } else {
-                rtn = ((Jedis) jedis).zscore(key, member);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zscore", jedis -> jedis.zscore(key, member), cluster -> cluster.zscore(key, member));
     }
 
     public List<byte[]> sort(byte[] key) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sort(key);
-            } else {
-                rtn = ((Jedis) jedis).sort(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("sort", jedis -> jedis.sort(key), cluster -> cluster.sort(key));
     }
 
     public List<byte[]> sort(byte[] key, SortingParams sortingParameters) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).sort(key, sortingParameters);
-            } else {
-                rtn = ((Jedis) jedis).sort(key, sortingParameters);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("sort", jedis -> jedis.sort(key, sortingParameters),
+                cluster -> cluster.sort(key, sortingParameters));
     }
 
     public Long zcount(byte[] key, double min, double max) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zcount(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zcount(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zcount", jedis -> jedis.zcount(key, min, max), cluster -> cluster.zcount(key, min, max));
     }
 
     public Long zcount(byte[] key, byte[] min, byte[] max) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zcount(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zcount(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zcount", jedis -> jedis.zcount(key, min, max), cluster -> cluster.zcount(key, min, max));
     }
 
     public Set<byte[]> zrangeByScore(byte[] key, double min, double max) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScore(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScore(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScore", jedis -> jedis.zrangeByScore(key, min, max),
+                cluster -> cluster.zrangeByScore(key, min, max));
     }
 
     public Set<byte[]> zrangeByScore(byte[] key, byte[] min, byte[] max) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScore(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScore(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScore", jedis -> jedis.zrangeByScore(key, min, max),
+                cluster -> cluster.zrangeByScore(key, min, max));
     }
 
     public Set<byte[]> zrevrangeByScore(byte[] key, double max, double min) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScore(key, max, min);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScore(key, max, min);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScore", jedis -> jedis.zrevrangeByScore(key, max, min),
+                cluster -> cluster.zrevrangeByScore(key, max, min));
     }
 
     public Set<byte[]> zrevrangeByScore(byte[] key, byte[] max, byte[] min) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByScore(key, max, min);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByScore(key, max, min);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrevrangeByScore", jedis -> jedis.zrevrangeByScore(key, max, min),
+                cluster -> cluster.zrevrangeByScore(key, max, min));
     }
 
     public Set<Tuple> zrangeByScoreWithScores(byte[] key, double min, double max) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScoreWithScores(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScoreWithScores(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScoreWithScores", jedis -> jedis.zrangeByScoreWithScores(key, min, max),
+                cluster -> cluster.zrangeByScoreWithScores(key, min, max));
     }
 
     public Set<Tuple> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max) {
-        Set<Tuple> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByScoreWithScores(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByScoreWithScores(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByScoreWithScores", jedis -> jedis.zrangeByScoreWithScores(key, min, max),
+                cluster -> cluster.zrangeByScoreWithScores(key, min, max));
     }
 
     public Long zremrangeByRank(byte[] key, long start, long end) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zremrangeByRank(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zremrangeByRank(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zremrangeByRank", jedis -> jedis.zremrangeByRank(key, start, end),
+                cluster -> cluster.zremrangeByRank(key, start, end));
     }
 
     public Long zremrangeByScore(byte[] key, double start, double end) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zremrangeByScore(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zremrangeByScore(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zremrangeByScore", jedis -> jedis.zremrangeByScore(key, start, end),
+                cluster -> cluster.zremrangeByScore(key, start, end));
     }
 
     public Long zremrangeByScore(byte[] key, byte[] start, byte[] end) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zremrangeByScore(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).zremrangeByScore(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zremrangeByScore", jedis -> jedis.zremrangeByScore(key, start, end),
+                cluster -> cluster.zremrangeByScore(key, start, end));
     }
 
     public Long zlexcount(byte[] key, byte[] min, byte[] max) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zlexcount(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zlexcount(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zlexcount", jedis -> jedis.zlexcount(key, min, max), cluster -> cluster.zlexcount(key, min, max));
     }
 
     public Set<byte[]> zrangeByLex(byte[] key, byte[] min, byte[] max) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrangeByLex(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zrangeByLex(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("zrangeByLex", jedis -> jedis.zrangeByLex(key, min, max),
+                cluster -> cluster.zrangeByLex(key, min, max));
     }
 
     public Set<byte[]> zrevrangeByLex(byte[] bytes, byte[] bytes1, byte[] bytes2) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByLex(bytes, bytes1, bytes2);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByLex(bytes, bytes1, bytes2);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).executeRead("zrevrangeByLex", jedis -> jedis.zrevrangeByLex(bytes, bytes1, bytes2),
+                cluster -> cluster.zrevrangeByLex(bytes, bytes1, bytes2));
     }
 
     public Set<byte[]> zrevrangeByLex(byte[] bytes, byte[] bytes1, byte[] bytes2, int i, int i1) {
-        Set<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zrevrangeByLex(bytes, bytes1, bytes2, i, i1);
-            } else {
-                rtn = ((Jedis) jedis).zrevrangeByLex(bytes, bytes1, bytes2, i, i1);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).executeRead("zrevrangeByLex", jedis -> jedis.zrevrangeByLex(bytes, bytes1, bytes2, i, i1),
+                cluster -> cluster.zrevrangeByLex(bytes, bytes1, bytes2, i, i1));
     }
 
     public Long zremrangeByLex(byte[] key, byte[] min, byte[] max) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zremrangeByLex(key, min, max);
-            } else {
-                rtn = ((Jedis) jedis).zremrangeByLex(key, min, max);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zremrangeByLex", jedis -> jedis.zremrangeByLex(key, min, max),
+                cluster -> cluster.zremrangeByLex(key, min, max));
     }
 
     public Long lpushx(byte[] key, byte[]... arg) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).lpushx(key, arg);
-            } else {
-                rtn = ((Jedis) jedis).lpushx(key, arg);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("lpushx", jedis -> jedis.lpushx(key, arg), cluster -> cluster.lpushx(key, arg));
     }
 
     public Long rpushx(byte[] key, byte[]... arg) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).rpushx(key, arg);
-            } else {
-                rtn = ((Jedis) jedis).rpushx(key, arg);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("rpushx", jedis -> jedis.rpushx(key, arg), cluster -> cluster.rpushx(key, arg));
     }
 
     public List<byte[]> blpop(byte[] arg) {
-
-        return null;
+        return blockingExecutor.forKey(arg).execute("blpop", jedis -> jedis.blpop(0, arg), cluster -> cluster.blpop(Integer.MAX_VALUE, arg));
     }
 
     public List<byte[]> brpop(byte[] arg) {
-
-        return null;
+        return blockingExecutor.forKey(arg).execute("brpop", jedis -> jedis.brpop(0, arg), cluster -> cluster.brpop(Integer.MAX_VALUE, arg));
     }
 
     public Long del(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).del(key);
-            } else {
-                rtn = ((Jedis) jedis).del(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeBatchable("del", jedis -> jedis.del(key), cluster -> cluster.del(key),
+                pipeline -> pipeline.del(key));
     }
 
     public byte[] echo(byte[] arg) {
-        byte[] rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).echo(arg);
-            } else {
-                rtn = ((Jedis) jedis).echo(arg);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("echo", jedis -> jedis.echo(arg), cluster -> cluster.echo(arg));
     }
 
     public Long move(byte[] key, int dbIndex) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).move(new String(key), dbIndex);
-            } else {
-                rtn = ((Jedis) jedis).move(key, dbIndex);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("move", jedis -> jedis.move(key, dbIndex), cluster -> cluster.move(new String(key), dbIndex));
     }
 
     public Long bitcount(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).bitcount(key);
-            } else {
-                rtn = ((Jedis) jedis).bitcount(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("bitcount", jedis -> jedis.bitcount(key), cluster -> cluster.bitcount(key));
     }
 
     public Long bitcount(byte[] key, long start, long end) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).bitcount(key, start, end);
-            } else {
-                rtn = ((Jedis) jedis).bitcount(key, start, end);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
-    }
-
-    public Long pfadd(byte[] key, byte[]... elements) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pfadd(key, elements);
-            } else {
-                rtn = ((Jedis) jedis).pfadd(key, elements);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).executeRead("bitcount", jedis -> jedis.bitcount(key, start, end), cluster -> cluster.bitcount(key, start, end));
+    }
+
+    public Long pfadd(byte[] key, byte[]... elements) {
+        recordKey(key);
+        return executor.forKey(key).execute("pfadd", jedis -> jedis.pfadd(key, elements), cluster -> cluster.pfadd(key, elements));
     }
 
     public long pfcount(byte[] key) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).pfcount(key);
-            } else {
-                rtn = ((Jedis) jedis).pfcount(key);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("pfcount", jedis -> jedis.pfcount(key), cluster -> cluster.pfcount(key));
     }
 
     public Long geoadd(byte[] bytes, double v, double v1, byte[] bytes1) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geoadd(bytes, v, v1, bytes1);
-            } else {
-                rtn = ((Jedis) jedis).geoadd(bytes, v, v1, bytes1);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).execute("geoadd", jedis -> jedis.geoadd(bytes, v, v1, bytes1),
+                cluster -> cluster.geoadd(bytes, v, v1, bytes1));
     }
 
     public Long geoadd(byte[] bytes, Map<byte[], GeoCoordinate> map) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geoadd(bytes, map);
-            } else {
-                rtn = ((Jedis) jedis).geoadd(bytes, map);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).execute("geoadd", jedis -> jedis.geoadd(bytes, map), cluster -> cluster.geoadd(bytes, map));
     }
 
     public Double geodist(byte[] bytes, byte[] bytes1, byte[] bytes2) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geodist(bytes, bytes1, bytes2);
-            } else {
-                rtn = ((Jedis) jedis).geodist(bytes, bytes1, bytes2);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).executeRead("geodist", jedis -> jedis.geodist(bytes, bytes1, bytes2),
+                cluster -> cluster.geodist(bytes, bytes1, bytes2));
     }
 
     public Double geodist(byte[] bytes, byte[] bytes1, byte[] bytes2, GeoUnit geoUnit) {
-        Double rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geodist(bytes, bytes1, bytes2, geoUnit);
-            } else {
-                rtn = ((Jedis) jedis).geodist(bytes, bytes1, bytes2, geoUnit);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).executeRead("geodist", jedis -> jedis.geodist(bytes, bytes1, bytes2, geoUnit),
+                cluster -> cluster.geodist(bytes, bytes1, bytes2, geoUnit));
     }
 
     public List<byte[]> geohash(byte[] bytes, byte[]... bytes1) {
-        List<byte[]> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geohash(bytes, bytes1);
-            } else {
-                rtn = ((Jedis) jedis).geohash(bytes, bytes1);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).executeRead("geohash", jedis -> jedis.geohash(bytes, bytes1), cluster -> cluster.geohash(bytes, bytes1));
     }
 
     public List<GeoCoordinate> geopos(byte[] bytes, byte[]... bytes1) {
-        List<GeoCoordinate> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).geopos(bytes, bytes1);
-            } else {
-                rtn = ((Jedis) jedis).geopos(bytes, bytes1);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).executeRead("geopos", jedis -> jedis.geopos(bytes, bytes1), cluster -> cluster.geopos(bytes, bytes1));
     }
 
     public List<GeoRadiusResponse> georadius(byte[] bytes, double v, double v1, double v2, GeoUnit geoUnit) {
-        List<GeoRadiusResponse> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).georadius(bytes, v, v1, v2, geoUnit);
-            } else {
-                rtn = ((Jedis) jedis).georadius(bytes, v, v1, v2, geoUnit);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).execute("georadius", jedis -> jedis.georadius(bytes, v, v1, v2, geoUnit),
+                cluster -> cluster.georadius(bytes, v, v1, v2, geoUnit));
     }
 
     /*public List<GeoRadiusResponse> georadius(byte[] bytes, double v, double v1, double v2, GeoUnit geoUnit, GeoRadiusParam geoRadiusParam) {
@@ -6472,21 +2620,8 @@ public class JedisClientUtil {
         }
     }*/
     public List<GeoRadiusResponse> georadiusByMember(byte[] bytes, byte[] bytes1, double v, GeoUnit geoUnit) {
-        List<GeoRadiusResponse> rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).georadiusByMember(bytes, bytes1, v, geoUnit);
-            } else {
-                rtn = ((Jedis) jedis).georadiusByMember(bytes, bytes1, v, geoUnit);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.forKey(bytes).execute("georadiusByMember", jedis -> jedis.georadiusByMember(bytes, bytes1, v, geoUnit),
+                cluster -> cluster.georadiusByMember(bytes, bytes1, v, geoUnit));
     }
 
     /*public List<GeoRadiusResponse> georadiusByMember(byte[] bytes, byte[] bytes1, double v, GeoUnit geoUnit, GeoRadiusParam geoRadiusParam) {
@@ -6509,173 +2644,39 @@ public class JedisClientUtil {
         }
     }*/
     public String ping() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).ping();
-            } else {
-                rtn = ((Jedis) jedis).ping();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("ping", jedis -> jedis.ping(), cluster -> cluster.ping());
     }
 
     public String quit() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).quit();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).quit();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("quit", jedis -> jedis.quit());
     }
 
     public Long dbSize() {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).dbSize();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).dbSize();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("dbSize", jedis -> jedis.dbSize());
     }
 
     public String select(int index) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).select(index);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).select(index);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("select", jedis -> jedis.select(index));
     }
 
     public String auth(String password) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).auth(password);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).auth(password);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("auth", jedis -> jedis.auth(password));
     }
 
     public String save() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).save();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).save();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("save", jedis -> jedis.save());
     }
 
     public String bgsave() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).bgsave();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).bgsave();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("bgsave", jedis -> jedis.bgsave());
     }
 
     public String bgrewriteaof() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).bgrewriteaof();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).bgrewriteaof();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("bgrewriteaof", jedis -> jedis.bgrewriteaof());
     }
 
     public Long lastsave() {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).lastsave();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).lastsave();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("lastsave", jedis -> jedis.lastsave());
     }
 
     public String shutdown() {
@@ -6684,155 +2685,35 @@ public class JedisClientUtil {
     }
 
     public String info() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).info();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).info();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("info", jedis -> jedis.info());
     }
 
     public String info(String section) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).info(section);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).info(section);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("info", jedis -> jedis.info(section));
     }
 
     public String slaveof(String host, int port) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).slaveof(host, port);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).slaveof(host, port);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("slaveof", jedis -> jedis.slaveof(host, port));
     }
 
     public String slaveofNoOne() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).slaveofNoOne();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).slaveofNoOne();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("slaveofNoOne", jedis -> jedis.slaveofNoOne());
     }
 
     public Long getDB() {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).getDB();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).getDB();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("getDB", jedis -> jedis.getDB());
     }
 
     public String debug(DebugParams params) {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).debug(params);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).debug(params);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("debug", jedis -> jedis.debug(params));
     }
 
     public String configResetStat() {
-        String rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).configResetStat();
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).configResetStat();
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("configResetStat", jedis -> jedis.configResetStat());
     }
 
     public Long waitReplicas(int replicas, long timeout) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                //                rtn = ((JedisCluster)jedis).waitReplicas(replicas, timeout);
-                throw new IllegalStateException("not support");
-            } else {
-                rtn = ((Jedis) jedis).waitReplicas(replicas, timeout);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        return executor.execute("waitReplicas", jedis -> jedis.waitReplicas(replicas, timeout));
     }
 
     public enum ExpireType {
@@ -6877,39 +2758,14 @@ public class JedisClientUtil {
 
 
     public Long linsert(String key, BinaryClient.LIST_POSITION where, String pivot, String value) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equalsIgnoreCase(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).linsert(key, where, pivot, value);
-            } else {
-
-                rtn = ((Jedis) jedis).linsert(key, where, pivot, value);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("linsert", jedis -> jedis.linsert(key, where, pivot, value),
+                cluster -> cluster.linsert(key, where, pivot, value));
     }
 
     public Long zadd(String key, Map<String, Double> scoreMembers, ZAddParams zAddParams) {
-        Long rtn;
-        Object jedis = null;
-        try {
-            jedis = getResource();
-            if (CLUSTER.equals(redisJedisPool.getPoolType())) {
-                rtn = ((JedisCluster) jedis).zadd(key, scoreMembers, zAddParams);
-            } else {
-                rtn = ((Jedis) jedis).zadd(key, scoreMembers, zAddParams);
-            }
-            return rtn;
-        } catch (Exception e) {
-            throw e;
-        } finally {
-            returnResource(jedis);
-        }
+        recordKey(key);
+        return executor.forKey(key).execute("zadd", jedis -> jedis.zadd(key, scoreMembers, zAddParams),
+                cluster -> cluster.zadd(key, scoreMembers, zAddParams));
     }
 }
@@ -1,18 +1,22 @@
 package site.wetsion.framework.infrastucture.cache.util;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.data.redis.connection.jedis.JedisConverters;
 import org.springframework.data.redis.core.TimeoutUtils;
 import org.springframework.data.redis.core.script.RedisScript;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreakerOpenException;
+import site.wetsion.framework.infrastucture.cache.callback.BatchCallback;
+import site.wetsion.framework.infrastucture.cache.local.NearCache;
+import site.wetsion.framework.infrastucture.cache.local.NearCacheInvalidator;
 
 /**
  * @author 霜华
@@ -22,39 +26,68 @@ public final class RedisUtil {
     private static JedisClientUtil jedisClient;
 
     public static <T> T get(String key, Class<T> clazz) {
-        byte[] rawKey = rawKey(key);
-        byte[] rawValue = jedisClient.get(rawKey);
-        return rawValue(rawValue, clazz);
+        NearCache nearCache = jedisClient.getNearCache();
+        if (nearCache == null) {
+            return rawValue(key, jedisClient.get(rawKey(key)), clazz);
+        }
+        Object cached = nearCache.get(key);
+        if (clazz.isInstance(cached)) {
+            return clazz.cast(cached);
+        }
+        long stamp = nearCache.stamp(key);
+        byte[] raw;
+        try {
+            raw = jedisClient.get(rawKey(key));
+        } catch (CircuitBreakerOpenException e) {
+            // 熔断期间返回已过期但未失效的本地值
+            Object stale = nearCache.getStale(key);
+            if (clazz.isInstance(stale)) {
+                return clazz.cast(stale);
+            }
+            throw e;
+        }
+        T value = rawValue(key, raw, clazz);
+        nearCache.put(key, value, stamp);
+        return value;
     }
 
     public static <T> void set(String key, T value) {
         byte[] rawKey = rawKey(key);
         byte[] rawValue = rawValue(value);
+        jedisClient.recordValueSize(key, rawValue);
         jedisClient.set(rawKey, rawValue);
+        invalidate(key);
     }
 
     public static <T> void set(String key, T value, long expireTime, TimeUnit unit) {
         byte[] rawKey = rawKey(key);
         byte[] rawValue = rawValue(value);
+        jedisClient.recordValueSize(key, rawValue);
         long rawTimeout = TimeoutUtils.toSeconds(expireTime, unit);
         jedisClient.setex(rawKey, (int)rawTimeout, rawValue);
+        invalidate(key);
     }
 
     public static <T> boolean setIfAbsent(String key, T value) {
         byte[] rawKey = rawKey(key);
         byte[] rawValue = rawValue(value);
+        jedisClient.recordValueSize(key, rawValue);
         Boolean result = JedisConverters.toBoolean(jedisClient.setnx(rawKey, rawValue));
+        invalidate(key);
         return Boolean.TRUE.equals(result);
     }
 
     public static void delete(String key) {
         byte[] rawKey = rawKey(key);
         jedisClient.del(rawKey);
+        invalidate(key);
     }
 
     public static Long incr(String key) {
         byte[] rawKey = rawKey(key);
-        return jedisClient.incr(rawKey);
+        Long result = jedisClient.incr(rawKey);
+        invalidate(key);
+        return result;
     }
 
     public static void deleteFromQueue(String key, long count, Object value) {
@@ -99,6 +132,8 @@ public final class RedisUtil {
             long seconds = TimeoutUtils.toSeconds(expireTime, unit);
             Boolean result = JedisConverters.toBoolean(jedisClient.expire(rawKey, (int)seconds));
             return Boolean.TRUE.equals(result);
+        } finally {
+            invalidate(key);
         }
     }
 
@@ -106,6 +141,7 @@ public final class RedisUtil {
         if (Objects.nonNull(value)) {
             byte[] rawKey = rawKey(key);
             byte[] rawValue = rawValue(value);
+            jedisClient.recordValueSize(key, rawValue);
             jedisClient.lpush(rawKey, new byte[][]{rawValue});
         }
 
@@ -123,14 +159,14 @@ public final class RedisUtil {
     public static <T> T popQueue(String key, Class<T> clazz) {
         byte[] rawKey = rawKey(key);
         byte[] value = jedisClient.rpop(rawKey);
-        return rawValue(value, clazz);
+        return rawValue(key, value, clazz);
     }
 
     public static <T> T popQueueToBack(String sourceKey, String destinationKey, Class<T> clazz) {
         byte[] rawKey = rawKey(sourceKey);
         byte[] rawDesKey = rawKey(destinationKey);
         byte[] value = jedisClient.rpoplpush(rawKey, rawDesKey);
-        return rawValue(value, clazz);
+        return rawValue(sourceKey, value, clazz);
     }
 
     public static long sizeQueue(String key) {
@@ -165,8 +201,67 @@ public final class RedisUtil {
         return jedisClient.hdel(key, field);
     }
 
+    public static <T> CompletableFuture<T> getAsync(String key, Class<T> clazz) {
+        return jedisClient.async().submit(() -> get(key, clazz));
+    }
+
+    public static <T> CompletableFuture<Void> setAsync(String key, T value) {
+        return jedisClient.async().submit(() -> {
+            set(key, value);
+            return null;
+        });
+    }
+
+    public static <T> CompletableFuture<Void> setAsync(String key, T value, long expireTime, TimeUnit unit) {
+        return jedisClient.async().submit(() -> {
+            set(key, value, expireTime, unit);
+            return null;
+        });
+    }
+
+    public static CompletableFuture<Void> deleteAsync(String key) {
+        return jedisClient.async().submit(() -> {
+            delete(key);
+            return null;
+        });
+    }
+
+    public static CompletableFuture<Boolean> existsAsync(String key) {
+        return jedisClient.async().submit(() -> exists(key));
+    }
+
+    public static CompletableFuture<Long> incrAsync(String key) {
+        return jedisClient.async().submit(() -> incr(key));
+    }
+
+    public static CompletableFuture<String> getHashAsync(String key, String field) {
+        return jedisClient.async().submit(() -> getHash(key, field));
+    }
+
     public static <T> T execute(RedisScript<String> script, List<String> keys, String... args) {
-        return (T) jedisClient.eval(script.getScriptAsString(), keys, new ArrayList(Arrays.asList(args)));
+        return (T) jedisClient.scripts().eval(script.getScriptAsString(), keys, Arrays.asList(args));
+    }
+
+    /**
+     * 批量读写，key 与 value 的编码方式与本类其他方法一致；写入的 key 在所在块发送后失效近端缓存并通知其他节点
+     */
+    public static <T> List<T> batch(Class<T> clazz, BatchCallback<T> callback) {
+        return jedisClient.batch(clazz, RedisUtil::rawKey,
+                batch -> callback.callback(batch.onWritten(RedisUtil::invalidate)));
+    }
+
+    /**
+     * 写操作后使近端缓存中的 key 失效，并通知其他节点；本节点未开启近端缓存时也要通知
+     */
+    private static void invalidate(String key) {
+        NearCache nearCache = jedisClient.getNearCache();
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+        NearCacheInvalidator invalidator = jedisClient.getNearCacheInvalidator();
+        if (invalidator != null) {
+            invalidator.publish(key);
+        }
     }
 
     private static byte[] rawKey(String key) {
@@ -177,7 +272,8 @@ public final class RedisUtil {
         return SerializeUtil.serialize(value);
     }
 
-    private static <T> T rawValue(byte[] value, Class<T> clazz) {
+    private static <T> T rawValue(String key, byte[] value, Class<T> clazz) {
+        jedisClient.recordValueSize(key, value);
         return value != null && value.length > 0 ? SerializeUtil.deserialize(value, clazz) : null;
     }
 
@@ -196,7 +292,7 @@ public final class RedisUtil {
     }
 
     public static void setRedisClient(JedisClientUtil jedisClient) {
-        jedisClient = jedisClient;
+        RedisUtil.jedisClient = jedisClient;
     }
 
     private RedisUtil() {
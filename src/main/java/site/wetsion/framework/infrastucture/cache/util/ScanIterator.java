@@ -0,0 +1,121 @@
+package site.wetsion.framework.infrastucture.cache.util;
+
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 惰性的 SCAN 游标迭代器，按需逐页拉取，只在拉取一页时占用连接；
+ * 可依次遍历多个数据源（如集群的每个主节点），调用方可随时停止迭代。
+ * 设置预取线程池后，消费当前页的同时异步拉取下一页
+ *
+ * @author 霜华
+ * @date 2026/10/18 6:10 PM
+ **/
+public class ScanIterator<T> implements Iterator<T> {
+
+    private final Iterator<? extends Function<String, ScanResult<T>>> sources;
+
+    /**
+     * 当前数据源，游标回到 0 后置为 null
+     */
+    private Function<String, ScanResult<T>> current;
+
+    private String cursor;
+
+    private Iterator<T> page = Collections.emptyIterator();
+
+    private Executor prefetchExecutor;
+
+    /**
+     * 已提交的下一页预取，对应 current 与 cursor
+     */
+    private CompletableFuture<ScanResult<T>> prefetched;
+
+    public ScanIterator(Iterator<? extends Function<String, ScanResult<T>>> sources) {
+        this.sources = sources;
+    }
+
+    public ScanIterator(Function<String, ScanResult<T>> source) {
+        this(Collections.singletonList(source).iterator());
+    }
+
+    /**
+     * 使用指定线程池预取下一页，线程池拒绝时退化为按需同步拉取
+     */
+    public ScanIterator<T> prefetch(Executor executor) {
+        this.prefetchExecutor = executor;
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (!fetch()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    private boolean fetch() {
+        if (current == null) {
+            if (!sources.hasNext()) {
+                return false;
+            }
+            current = sources.next();
+            cursor = ScanParams.SCAN_POINTER_START;
+        }
+        ScanResult<T> result = prefetched != null ? join(prefetched) : current.apply(cursor);
+        prefetched = null;
+        cursor = result.getStringCursor();
+        page = result.getResult().iterator();
+        if (ScanParams.SCAN_POINTER_START.equals(cursor)) {
+            current = null;
+        } else if (prefetchExecutor != null) {
+            Function<String, ScanResult<T>> source = current;
+            String nextCursor = cursor;
+            try {
+                prefetched = CompletableFuture.supplyAsync(() -> source.apply(nextCursor), prefetchExecutor);
+            } catch (RejectedExecutionException e) {
+                prefetched = null;
+            }
+        }
+        return true;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false);
+    }
+}
@@ -0,0 +1,192 @@
+package site.wetsion.framework.infrastucture.cache.breaker;
+
+import org.junit.Test;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author 霜华
+ * @date 2026/10/19 11:10 AM
+ **/
+public class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 50;
+
+    /**
+     * 失败率 50%、窗口内至少 10 次调用、不统计慢调用、半开放行 2 次
+     */
+    private static CircuitBreaker breaker() {
+        return new CircuitBreaker("test", 50, 0, 100, 10, 10, OPEN_MILLIS, 2);
+    }
+
+    private static void callOk(CircuitBreaker breaker) {
+        breaker.call(() -> "OK");
+    }
+
+    private static void failConnect(CircuitBreaker breaker) {
+        try {
+            breaker.call(() -> {
+                throw new JedisConnectionException("connect timed out");
+            });
+            fail();
+        } catch (CircuitBreakerOpenException e) {
+            throw e;
+        } catch (JedisConnectionException expected) {
+            // 调用本身的失败
+        }
+    }
+
+    private static CircuitBreaker open() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 5; i++) {
+            callOk(breaker);
+        }
+        for (int i = 0; i < 5; i++) {
+            failConnect(breaker);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.currentState());
+        return breaker;
+    }
+
+    @Test
+    public void staysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 9; i++) {
+            failConnect(breaker);
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.currentState());
+        assertEquals(9, breaker.getWindowCalls());
+        assertEquals(100, breaker.getFailureRate(), 0.001);
+    }
+
+    @Test
+    public void opensAtFailureRateAndRejectsWithoutCalling() {
+        CircuitBreaker breaker = open();
+        AtomicInteger invoked = new AtomicInteger();
+
+        try {
+            breaker.call(invoked::incrementAndGet);
+            fail();
+        } catch (CircuitBreakerOpenException e) {
+            assertEquals("test", e.getEndpoint());
+        }
+        assertEquals(0, invoked.get());
+        assertEquals(1, breaker.getRejectedCalls());
+        assertEquals(1, breaker.getOpenedCount());
+    }
+
+    @Test
+    public void commandErrorsAreNotFailures() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 20; i++) {
+            try {
+                breaker.call(() -> {
+                    throw new JedisDataException("WRONGTYPE");
+                });
+                fail();
+            } catch (JedisDataException expected) {
+                // 命令错误原样抛出
+            }
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.currentState());
+        assertEquals(0, breaker.getFailureRate(), 0.001);
+    }
+
+    @Test
+    public void slowCallsOpenTheBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 100, 1, 50, 4, 10, OPEN_MILLIS, 1);
+        for (int i = 0; i < 4; i++) {
+            breaker.call(() -> {
+                sleep(5);
+                return null;
+            });
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.currentState());
+    }
+
+    @Test
+    public void successfulProbesCloseAndResetWindow() {
+        CircuitBreaker breaker = open();
+        sleep(OPEN_MILLIS + 10);
+
+        callOk(breaker);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.currentState());
+        callOk(breaker);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.currentState());
+        assertEquals(0, breaker.getWindowCalls());
+        assertEquals(1, breaker.getHalfOpenedCount());
+        assertEquals(1, breaker.getClosedCount());
+    }
+
+    @Test
+    public void failedProbeReopens() {
+        CircuitBreaker breaker = open();
+        sleep(OPEN_MILLIS + 10);
+
+        failConnect(breaker);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.currentState());
+        assertEquals(2, breaker.getOpenedCount());
+        try {
+            callOk(breaker);
+            fail();
+        } catch (CircuitBreakerOpenException expected) {
+            // 重新熔断后等待时间重新计算
+        }
+    }
+
+    @Test
+    public void halfOpenAdmitsOnlyConfiguredProbes() {
+        CircuitBreaker breaker = open();
+        sleep(OPEN_MILLIS + 10);
+
+        // 两个探测调用都未完成时，第三个调用被拒绝
+        breaker.call(() -> breaker.call(() -> {
+            try {
+                callOk(breaker);
+                fail();
+            } catch (CircuitBreakerOpenException expected) {
+                // 探测名额已用完
+            }
+            return null;
+        }));
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.currentState());
+        assertEquals(1, breaker.getRejectedCalls());
+    }
+
+    @Test
+    public void releasedProbePermitsCanBeReused() {
+        CircuitBreaker breaker = open();
+        sleep(OPEN_MILLIS + 10);
+
+        // 多节点 pipeline 中其他节点熔断，已取得的许可未发出调用即归还
+        for (int i = 0; i < 5; i++) {
+            breaker.release(breaker.acquirePermission());
+        }
+        boolean probe = breaker.acquirePermission();
+        breaker.record(probe, 0, null);
+        callOk(breaker);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.currentState());
+        assertEquals(0, breaker.getRejectedCalls());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
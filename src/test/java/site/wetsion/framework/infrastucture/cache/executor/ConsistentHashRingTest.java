@@ -0,0 +1,109 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import org.junit.Test;
+import redis.clients.util.SafeEncoder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author 霜华
+ * @date 2026/10/19 10:30 AM
+ **/
+public class ConsistentHashRingTest {
+
+    private static final int KEYS = 100_000;
+
+    private static ConsistentHashRing<String> ring(int shardCount) {
+        Map<String, String> shards = new LinkedHashMap<>();
+        for (int i = 0; i < shardCount; i++) {
+            String name = "10.0.0." + i + ":6379";
+            shards.put(name, name);
+        }
+        return new ConsistentHashRing<>(shards, 160);
+    }
+
+    @Test
+    public void addingShardRemapsAboutOneNthOfKeysToTheNewShard() {
+        ConsistentHashRing<String> before = ring(4);
+        ConsistentHashRing<String> after = ring(5);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "user:" + i;
+            String from = before.get(key);
+            String to = after.get(key);
+            if (!from.equals(to)) {
+                moved++;
+                // 只会迁移到新分片，原有分片之间不互相迁移
+                assertEquals("10.0.0.4:6379", to);
+            }
+        }
+        double ratio = (double) moved / KEYS;
+        assertTrue("moved " + ratio, ratio > 0.15 && ratio < 0.25);
+    }
+
+    @Test
+    public void keysAreSpreadEvenlyAcrossShards() {
+        ConsistentHashRing<String> ring = ring(5);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.get("order:" + i), 1, Integer::sum);
+        }
+
+        assertEquals(5, counts.size());
+        // 160 个虚拟节点时各分片弧长的相对标准差约 8%，允许偏离均值 30%
+        for (int count : counts.values()) {
+            assertTrue("count " + count, Math.abs(count - KEYS / 5) < KEYS / 5 * 0.3);
+        }
+    }
+
+    @Test
+    public void mappingDoesNotDependOnShardOrder() {
+        Map<String, String> reversed = new LinkedHashMap<>();
+        for (int i = 3; i >= 0; i--) {
+            String name = "10.0.0." + i + ":6379";
+            reversed.put(name, name);
+        }
+        ConsistentHashRing<String> ordered = ring(4);
+        ConsistentHashRing<String> reverse = new ConsistentHashRing<>(reversed, 160);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(ordered.get("key:" + i), reverse.get("key:" + i));
+        }
+    }
+
+    @Test
+    public void hashTagPinsKeysToTheSameShard() {
+        ConsistentHashRing<String> ring = ring(5);
+
+        for (int i = 0; i < 1000; i++) {
+            String shard = ring.get("{user:" + i + "}:profile");
+            assertEquals(shard, ring.get("{user:" + i + "}:orders"));
+            assertEquals(shard, ring.get("cart:{user:" + i + "}"));
+            assertEquals(shard, ring.get("user:" + i));
+        }
+    }
+
+    @Test
+    public void onlyFirstNonEmptyTagIsHashed() {
+        assertEquals(ConsistentHashRing.hash(SafeEncoder.encode("a")),
+                ConsistentHashRing.hash(SafeEncoder.encode("{a}{b}")));
+        // 空的 {} 不算 hash tag，对整个 key 哈希
+        assertNotEquals(ConsistentHashRing.hash(SafeEncoder.encode("{}a")),
+                ConsistentHashRing.hash(SafeEncoder.encode("{}b")));
+        assertNotEquals(ConsistentHashRing.hash(SafeEncoder.encode("{a")),
+                ConsistentHashRing.hash(SafeEncoder.encode("a")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyShardsAreRejected() {
+        new ConsistentHashRing<>(Collections.<String, String>emptyMap(), 160);
+    }
+}
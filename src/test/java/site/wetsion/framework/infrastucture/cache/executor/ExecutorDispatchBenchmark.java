@@ -0,0 +1,124 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.util.Pool;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比旧版按模式字符串分派与执行器分派的单次调用开销，连接池返回未连接的 Jedis，
+ * 回调只读取本地状态，因此只测量分派本身而不包含网络
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=site.wetsion.framework.infrastucture.cache.executor.ExecutorDispatchBenchmark
+ * </pre>
+ * 100k ops/s 下每次调用的预算为 10us，两种分派均在 10ns 量级
+ *
+ * @author 霜华
+ * @date 2026/10/19 9:20 AM
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutorDispatchBenchmark {
+
+    private static final String CLUSTER = "cluster";
+
+    private Pool<Jedis> pool;
+
+    private JedisCluster jedisCluster;
+
+    /**
+     * 非 final，避免 JIT 把模式比较常量折叠掉
+     */
+    private String poolType = "pool";
+
+    private JedisCommandExecutor executor;
+
+    @Setup
+    public void setUp() {
+        pool = new StubPool();
+        executor = new StandaloneCommandExecutor(pool);
+    }
+
+    /**
+     * 旧版 JedisClientUtil 的分派方式：每次调用两次比较模式字符串、Object 强转、重新抛出的 try/finally
+     */
+    @Benchmark
+    public Long legacyDispatch() {
+        Object jedis = null;
+        try {
+            jedis = getResource();
+            if (CLUSTER.equals(poolType)) {
+                return ((JedisCluster) jedis).getClusterNodes() == null ? null : 0L;
+            } else {
+                return ((Jedis) jedis).getDB();
+            }
+        } catch (Exception e) {
+            throw e;
+        } finally {
+            returnResource(jedis);
+        }
+    }
+
+    @Benchmark
+    public Long executorDispatch() {
+        return executor.execute(Jedis::getDB, cluster -> 0L);
+    }
+
+    private Object getResource() {
+        if (CLUSTER.equals(poolType)) {
+            return jedisCluster;
+        }
+        return pool.getResource();
+    }
+
+    private void returnResource(Object resource) {
+        if (CLUSTER.equals(poolType)) {
+            return;
+        }
+        try {
+            if (resource == null) {
+                return;
+            }
+            ((Jedis) resource).close();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 始终返回同一个未连接的 Jedis，close 时不会归还也不会建立连接
+     */
+    private static class StubPool extends Pool<Jedis> {
+
+        private final Jedis jedis = new Jedis("localhost");
+
+        @Override
+        public Jedis getResource() {
+            return jedis;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ExecutorDispatchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
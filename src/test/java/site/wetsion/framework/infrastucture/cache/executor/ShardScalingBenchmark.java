@@ -0,0 +1,133 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 分片数与吞吐的关系。每个分片模拟一个单线程 redis：命令在分片锁内停留固定的服务时间，
+ * 同一分片上的命令串行执行，不同分片之间并行。key 经 {@link ShardedCommandExecutor#forKey(String)}
+ * 按一致性哈希路由，因此结果同时包含路由开销与分片间的负载偏差。服务时间用 park 模拟，
+ * 不占用 CPU，单核机器上也能体现分片带来的并行度
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=site.wetsion.framework.infrastucture.cache.executor.ShardScalingBenchmark
+ * </pre>
+ * 吞吐上限约为 分片数 / 服务时间，客户端线程数需大于分片数
+ *
+ * @author 霜华
+ * @date 2026/10/19 10:50 AM
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class ShardScalingBenchmark {
+
+    private static final int KEYS = 4096;
+
+    @Param({"1", "2", "4", "8"})
+    private int shards;
+
+    @Param({"100"})
+    private long serviceMicros;
+
+    private ShardedCommandExecutor executor;
+
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        Map<String, Pool<Jedis>> pools = new LinkedHashMap<>();
+        for (int i = 0; i < shards; i++) {
+            pools.put("10.0.0." + i + ":6379", new StubShardPool(TimeUnit.MICROSECONDS.toNanos(serviceMicros)));
+        }
+        executor = new ShardedCommandExecutor(pools, 160);
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "user:" + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+    }
+
+    @Benchmark
+    public Long shardedGet(Cursor cursor) {
+        String key = keys[cursor.next++ & (KEYS - 1)];
+        return executor.forKey(key).execute("get", jedis -> ((StubShardJedis) jedis).serve());
+    }
+
+    /**
+     * 始终返回同一个未连接的 Jedis，close 时不会归还也不会建立连接
+     */
+    private static class StubShardPool extends Pool<Jedis> {
+
+        private final StubShardJedis jedis;
+
+        StubShardPool(long serviceNanos) {
+            this.jedis = new StubShardJedis(serviceNanos);
+        }
+
+        @Override
+        public Jedis getResource() {
+            return jedis;
+        }
+    }
+
+    private static class StubShardJedis extends Jedis {
+
+        private final ReentrantLock server = new ReentrantLock();
+
+        private final long serviceNanos;
+
+        StubShardJedis(long serviceNanos) {
+            super("localhost");
+            this.serviceNanos = serviceNanos;
+        }
+
+        Long serve() {
+            server.lock();
+            try {
+                long deadline = System.nanoTime() + serviceNanos;
+                while (deadline - System.nanoTime() > 0) {
+                    LockSupport.parkNanos(deadline - System.nanoTime());
+                }
+                return 1L;
+            } finally {
+                server.unlock();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ShardScalingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,172 @@
+package site.wetsion.framework.infrastucture.cache.executor;
+
+import org.junit.Test;
+import redis.clients.jedis.Builder;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.util.Pool;
+import redis.clients.util.SafeEncoder;
+import site.wetsion.framework.infrastucture.cache.breaker.CircuitBreakerRegistry;
+import site.wetsion.framework.infrastucture.cache.callback.JedisCallback;
+import site.wetsion.framework.infrastucture.cache.callback.JedisClusterCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PipelineResponseCallback;
+import site.wetsion.framework.infrastucture.cache.callback.PiplineCallback;
+import site.wetsion.framework.infrastucture.cache.monitor.CommandLatencyMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author 霜华
+ * @date 2026/10/19 11:40 AM
+ **/
+public class TypedBatchTest {
+
+    @Test
+    public void writtenKeysAreReportedAfterTheirChunkIsSent() {
+        StubExecutor executor = new StubExecutor();
+        List<String> written = new ArrayList<>();
+        TypedBatch<String> batch = new TypedBatch<>(executor, String.class, SafeEncoder::encode, 16, 1 << 20, 0)
+                .onWritten(written::add);
+
+        batch.set("user:1", "a").get("user:1").del("user:2").expire("user:3", 60);
+        assertTrue(written.isEmpty());
+
+        batch.execute();
+
+        assertEquals(Arrays.asList("user:1", "user:2", "user:3"), written);
+        assertEquals(1, executor.pipelines);
+    }
+
+    @Test
+    public void eachFullChunkReportsItsOwnWrites() {
+        StubExecutor executor = new StubExecutor();
+        List<String> written = new ArrayList<>();
+        TypedBatch<String> batch = new TypedBatch<>(executor, String.class, SafeEncoder::encode, 16, 1 << 20, 0)
+                .onWritten(written::add);
+
+        for (int i = 0; i < 20; i++) {
+            batch.set("key:" + i, "v");
+        }
+        assertEquals(16, written.size());
+
+        batch.execute();
+        assertEquals(20, written.size());
+        assertEquals(2, executor.pipelines);
+    }
+
+    @Test
+    public void writesAreReportedWhenTheChunkFails() {
+        StubExecutor executor = new StubExecutor();
+        executor.failure = new JedisConnectionException("Read timed out");
+        List<String> written = new ArrayList<>();
+        TypedBatch<String> batch = new TypedBatch<>(executor, String.class, SafeEncoder::encode, 16, 1 << 20, 0)
+                .onWritten(written::add);
+
+        batch.set("user:1", "a");
+        try {
+            batch.execute();
+            fail();
+        } catch (JedisConnectionException expected) {
+            // 连接失败原样抛出
+        }
+
+        assertEquals(Collections.singletonList("user:1"), written);
+    }
+
+    /**
+     * 把 pipeline 命令记录在内存中，不连接 redis
+     */
+    private static class StubPipeline extends Pipeline {
+
+        @Override
+        public Response<String> set(byte[] key, byte[] value) {
+            return done(BuilderFactory.STRING, SafeEncoder.encode("OK"));
+        }
+
+        @Override
+        public Response<byte[]> get(byte[] key) {
+            return done(BuilderFactory.BYTE_ARRAY, null);
+        }
+
+        @Override
+        public Response<Long> del(byte[] key) {
+            return done(BuilderFactory.LONG, 1L);
+        }
+
+        @Override
+        public Response<Long> expire(byte[] key, int seconds) {
+            return done(BuilderFactory.LONG, 1L);
+        }
+
+        @Override
+        public void sync() {
+        }
+
+        private static <T> Response<T> done(Builder<T> builder, Object data) {
+            Response<T> response = new Response<>(builder);
+            response.set(data);
+            return response;
+        }
+    }
+
+    private static class StubExecutor implements JedisCommandExecutor {
+
+        private int pipelines;
+
+        private RuntimeException failure;
+
+        @Override
+        public void executePipeline(PiplineCallback callback) {
+            pipelines++;
+            if (failure != null) {
+                throw failure;
+            }
+            callback.callback(new StubPipeline());
+        }
+
+        @Override
+        public <T> T execute(String command, JedisCallback<T> jedisCallback, JedisClusterCallback<T> clusterCallback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T execute(String command, JedisCallback<T> jedisCallback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T executeBatchable(String command, JedisCallback<T> jedisCallback,
+                                      JedisClusterCallback<T> clusterCallback,
+                                      PipelineResponseCallback<T> pipelineCallback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void enableLatencyMetrics(CommandLatencyMetrics latencyMetrics) {
+        }
+
+        @Override
+        public void enableCircuitBreaker(CircuitBreakerRegistry registry, String endpoint) {
+        }
+
+        @Override
+        public Jedis getJedis() {
+            return null;
+        }
+
+        @Override
+        public List<Pool<Jedis>> getMasterPools() {
+            return Collections.emptyList();
+        }
+    }
+}
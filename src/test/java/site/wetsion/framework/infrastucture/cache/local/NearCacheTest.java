@@ -0,0 +1,139 @@
+package site.wetsion.framework.infrastucture.cache.local;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author 霜华
+ * @date 2026/10/19 9:40 AM
+ **/
+public class NearCacheTest {
+
+    @Test
+    public void putThenGetCountsHitsAndMisses() {
+        NearCache cache = new NearCache(100, 60, null);
+
+        assertNull(cache.get("user:1"));
+        cache.put("user:1", "a", cache.stamp("user:1"));
+
+        assertEquals("a", cache.get("user:1"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void putWithStampTakenBeforeInvalidationIsDropped() {
+        NearCache cache = new NearCache(100, 60, null);
+        long stamp = cache.stamp("user:1");
+
+        // 读取 redis 期间其他线程失效了同一个 key
+        cache.invalidate("user:1");
+        cache.put("user:1", "stale", stamp);
+
+        assertNull(cache.get("user:1"));
+        cache.put("user:1", "fresh", cache.stamp("user:1"));
+        assertEquals("fresh", cache.get("user:1"));
+    }
+
+    @Test
+    public void invalidatingOtherKeyDoesNotDropFill() {
+        NearCache cache = new NearCache(100, 60, null);
+        long stamp = cache.stamp("user:1");
+
+        // 读取 user:1 期间其他节点失效了大量其他 key
+        for (int i = 2; i < 100; i++) {
+            cache.invalidate("user:" + i);
+        }
+        cache.put("user:1", "a", stamp);
+
+        assertEquals("a", cache.get("user:1"));
+    }
+
+    @Test
+    public void invalidateRemovesEntry() {
+        NearCache cache = new NearCache(100, 60, null);
+        cache.put("user:1", "a", cache.stamp("user:1"));
+
+        cache.invalidate("user:1");
+
+        assertNull(cache.get("user:1"));
+        assertNull(cache.getStale("user:1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void namespaceTtlCapsEntryLifetime() {
+        NearCache cache = new NearCache(100, 60, Collections.singletonMap("config", 0L));
+        cache.put("config:1", "a", cache.stamp("config:1"));
+        cache.put("user:1", "b", cache.stamp("user:1"));
+
+        assertNull(cache.get("config:1"));
+        assertEquals("a", cache.getStale("config:1"));
+        assertEquals("b", cache.get("user:1"));
+    }
+
+    @Test
+    public void expireAllKeepsEntriesForStaleReads() {
+        NearCache cache = new NearCache(100, 60, null);
+        cache.put("user:1", "a", cache.stamp("user:1"));
+        long stamp = cache.stamp("user:2");
+
+        cache.expireAll();
+        cache.put("user:2", "b", stamp);
+
+        assertNull(cache.get("user:1"));
+        assertEquals("a", cache.getStale("user:1"));
+        assertNull(cache.getStale("user:2"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void suspendedCacheDoesNotFill() {
+        NearCache cache = new NearCache(100, 60, null);
+        cache.setSuspended(true);
+
+        cache.put("user:1", "a", cache.stamp("user:1"));
+
+        assertNull(cache.get("user:1"));
+    }
+
+    @Test
+    public void frequentKeysSurviveScanOfOneHitKeys() {
+        NearCache cache = new NearCache(100, 60, null);
+        for (int i = 0; i < 90; i++) {
+            cache.put("hot:" + i, i, cache.stamp("hot:" + i));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 90; i++) {
+                assertNotNull(cache.get("hot:" + i));
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put("cold:" + i, i, cache.stamp("cold:" + i));
+        }
+
+        assertTrue(cache.size() <= 100);
+        assertTrue(cache.getEvictions() > 0);
+        for (int i = 0; i < 90; i++) {
+            assertEquals(i, cache.get("hot:" + i));
+        }
+    }
+
+    @Test
+    public void sizeNeverExceedsMaximum() {
+        NearCache cache = new NearCache(50, 60, null);
+        for (int i = 0; i < 500; i++) {
+            cache.put("key:" + i, i, cache.stamp("key:" + i));
+            cache.get("key:" + (i / 2));
+            assertTrue(cache.size() <= 50);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 热 key 探测在命令路径上的单次开销：sampleRate=0 对应未开启（调用方持有 null），
+ * 其余为按采样率记录；key 按近似 Zipf 分布生成，使 top-K 门槛和加锁更新都被覆盖
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=site.wetsion.framework.infrastucture.cache.monitor.HotKeyDetectorBenchmark
+ * </pre>
+ *
+ * @author 霜华
+ * @date 2026/10/19 10:05 AM
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotKeyDetectorBenchmark {
+
+    private static final int KEYS = 1 << 16;
+
+    @Param({"0", "1", "100"})
+    private int sampleRate;
+
+    @Param({"20", "200"})
+    private int topK;
+
+    private HotKeyDetector detector;
+
+    private String[] keys;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        detector = sampleRate > 0 ? new HotKeyDetector(sampleRate, topK, 60, false) : null;
+        keys = new String[KEYS];
+        Random random = new Random(42);
+        for (int i = 0; i < KEYS; i++) {
+            // 反函数采样，近似 s=1 的 Zipf 分布
+            int rank = (int) Math.pow(100000, random.nextDouble());
+            keys[i] = "item:" + rank;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (detector != null) {
+            detector.close();
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        String key = keys[next++ & (KEYS - 1)];
+        HotKeyDetector current = detector;
+        if (current != null) {
+            current.record(key);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HotKeyDetectorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author 霜华
+ * @date 2026/10/19 9:55 AM
+ **/
+public class HotKeyDetectorTest {
+
+    @Test
+    public void reportsHottestKeysInDescendingOrder() throws InterruptedException {
+        HotKeyDetector detector = new HotKeyDetector(1, 3, 2, false);
+        try {
+            FirstReport reported = new FirstReport(detector);
+            record(detector, "order:1", 1000);
+            record(detector, "order:2", 500);
+            record(detector, "order:3", 200);
+            for (int i = 0; i < 2000; i++) {
+                detector.record("cold:" + i);
+            }
+
+            Map<String, Long> hotKeys = reported.await();
+
+            assertEquals(Arrays.asList("order:1", "order:2", "order:3"), new ArrayList<>(hotKeys.keySet()));
+            // Count-Min Sketch 只会高估
+            assertTrue(hotKeys.get("order:1") >= 1000);
+            assertTrue(hotKeys.get("order:2") >= 500);
+            assertTrue(hotKeys.get("order:3") >= 200);
+            assertEquals(hotKeys, detector.getHotKeys());
+        } finally {
+            detector.close();
+        }
+    }
+
+    @Test
+    public void aggregatesByPrefix() throws InterruptedException {
+        HotKeyDetector detector = new HotKeyDetector(1, 2, 2, true);
+        try {
+            FirstReport reported = new FirstReport(detector);
+            for (int i = 0; i < 300; i++) {
+                detector.record("user:" + i);
+            }
+            record(detector, "config", 100);
+            detector.record("session:1".getBytes());
+
+            Map<String, Long> hotKeys = reported.await();
+
+            assertEquals(Arrays.asList("user", "config"), new ArrayList<>(hotKeys.keySet()));
+            assertTrue(hotKeys.get("user") >= 300);
+        } finally {
+            detector.close();
+        }
+    }
+
+    @Test
+    public void scalesSampledCountsBySampleRate() throws InterruptedException {
+        HotKeyDetector detector = new HotKeyDetector(10, 1, 2, false);
+        try {
+            FirstReport reported = new FirstReport(detector);
+            record(detector, "hot", 100000);
+
+            Map<String, Long> hotKeys = reported.await();
+
+            long estimate = hotKeys.get("hot");
+            assertTrue("estimate " + estimate, estimate > 80000 && estimate < 120000);
+        } finally {
+            detector.close();
+        }
+    }
+
+    private static void record(HotKeyDetector detector, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            detector.record(key);
+        }
+    }
+
+    /**
+     * 记录第一次上报，窗口 2 秒时每 1 秒上报一次
+     */
+    private static final class FirstReport implements HotKeyListener {
+
+        private final AtomicReference<Map<String, Long>> hotKeys = new AtomicReference<>();
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        FirstReport(HotKeyDetector detector) {
+            detector.addListener(this);
+        }
+
+        @Override
+        public void onHotKeys(Map<String, Long> reported) {
+            if (hotKeys.compareAndSet(null, reported)) {
+                latch.countDown();
+            }
+        }
+
+        Map<String, Long> await() throws InterruptedException {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            return hotKeys.get();
+        }
+    }
+}
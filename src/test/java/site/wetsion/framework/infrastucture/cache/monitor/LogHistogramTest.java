@@ -0,0 +1,103 @@
+package site.wetsion.framework.infrastucture.cache.monitor;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author 霜华
+ * @date 2026/10/19 10:20 AM
+ **/
+public class LogHistogramTest {
+
+    @Test
+    public void smallValuesAreExact() {
+        LogHistogram histogram = new LogHistogram(1000000);
+        for (long value = 0; value < 64; value++) {
+            histogram.reset();
+            histogram.record(value);
+            histogram.record(1000000);
+
+            assertEquals(value, histogram.getValueAtPercentile(50));
+        }
+    }
+
+    @Test
+    public void bucketUpperBoundIsWithinRelativeError() {
+        Random random = new Random(7);
+        LogHistogram histogram = new LogHistogram(Long.MAX_VALUE >> 2);
+        for (int i = 0; i < 10000; i++) {
+            long value = (long) Math.pow(10, random.nextDouble() * 12);
+            histogram.reset();
+            histogram.record(value);
+            // 较大的第二个值使分位数取桶上界而不是被最大值截断
+            histogram.record(Long.MAX_VALUE >> 3);
+
+            long bound = histogram.getValueAtPercentile(50);
+            assertTrue(value + " -> " + bound, bound >= value);
+            assertTrue(value + " -> " + bound, bound - value <= value / 32);
+        }
+    }
+
+    @Test
+    public void percentilesOfUniformValues() {
+        LogHistogram histogram = new LogHistogram(1000000);
+        for (int value = 1; value <= 10000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(10000, histogram.getCount());
+        assertEquals(10000, histogram.getMax());
+        assertEquals(5000, histogram.getValueAtPercentile(50), 5000 / 32.0);
+        assertEquals(9900, histogram.getValueAtPercentile(99), 9900 / 32.0);
+        assertEquals(10000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void valuesAboveHighestTrackableAreCappedByMax() {
+        LogHistogram histogram = new LogHistogram(1000);
+        histogram.record(5000000);
+
+        assertEquals(5000000, histogram.getMax());
+        assertEquals(5000000, histogram.getValueAtPercentile(99.9));
+    }
+
+    @Test
+    public void negativeValuesCountAsZeroAndResetClears() {
+        LogHistogram histogram = new LogHistogram(1000);
+        assertEquals(0, histogram.getValueAtPercentile(99));
+
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void concurrentRecordsAreNotLost() throws InterruptedException {
+        LogHistogram histogram = new LogHistogram(1000000);
+        int threads = 4;
+        int perThread = 100000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(i % 1000 + offset);
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+
+        assertEquals((long) threads * perThread, histogram.getCount());
+        assertEquals(999 + threads - 1, histogram.getMax());
+    }
+}
@@ -0,0 +1,55 @@
+package site.wetsion.framework.infrastucture.cache.pool;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Test;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author 霜华
+ * @date 2026/10/19 10:10 AM
+ **/
+public class PoolTelemetryTest {
+
+    @Test
+    public void timeoutWaitingForIdleObjectIsExhausted() {
+        JedisException e = new JedisException("Could not get a resource from the pool",
+                new NoSuchElementException("Timeout waiting for idle object"));
+
+        assertTrue(PoolTelemetry.isExhausted(e));
+    }
+
+    @Test
+    public void validationFailureOfNewConnectionIsNotExhausted() {
+        NoSuchElementException cause = new NoSuchElementException("Unable to validate object");
+        cause.initCause(new JedisConnectionException("NOAUTH Authentication required."));
+
+        assertFalse(PoolTelemetry.isExhausted(new JedisException("Could not get a resource from the pool", cause)));
+    }
+
+    @Test
+    public void connectFailureIsNotCountedAsExhausted() throws Exception {
+        GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+        config.setMaxTotal(1);
+        config.setMaxWaitMillis(10);
+        // 1 号端口上没有 redis，借连接时建立连接失败
+        InstrumentedJedisPool pool = new InstrumentedJedisPool(config, "127.0.0.1", 1, 100, null, 0, null);
+        PoolTelemetry telemetry = new PoolTelemetry("test", pool, 60, 0);
+        try {
+            pool.getResource();
+            fail();
+        } catch (JedisConnectionException expected) {
+            assertEquals(0, telemetry.getExhaustedCount());
+        } finally {
+            telemetry.close();
+            pool.destroy();
+        }
+    }
+}